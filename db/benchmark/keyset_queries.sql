@@ -0,0 +1,64 @@
+-- 커서(keyset) 페이지네이션 대표 쿼리 실행 계획/지연 측정 (MySQL 8.0.18+ EXPLAIN ANALYZE)
+-- db/testdata 데이터 기준: user_id 2는 모든 투표에 응답, group_id 1은 전체 투표 보유
+USE moa;
+
+-- 진행 중 투표 피드 (VoteRepositoryImpl#findActiveVoteItems)
+EXPLAIN ANALYZE
+SELECT v.id, v.closed_at, v.created_at
+FROM vote v
+WHERE v.group_id IN (1)
+  AND v.vote_status = 'OPEN'
+  AND v.closed_at > NOW()
+  AND v.deleted_at IS NULL
+  AND NOT EXISTS (SELECT 1 FROM vote_response vr WHERE vr.vote_id = v.id AND vr.user_id = 1)
+ORDER BY v.closed_at, v.created_at
+LIMIT 11;
+
+-- 그룹 투표 목록 (VoteRepositoryImpl#findVotesInGroup)
+EXPLAIN ANALYZE
+SELECT v.id
+FROM vote v
+WHERE v.group_id = 1
+  AND v.deleted_at IS NULL
+  AND v.vote_status IN ('OPEN', 'CLOSED')
+ORDER BY v.created_at DESC, v.id DESC
+LIMIT 11;
+
+-- 내가 만든 투표 (VoteRepositoryImpl#findMyVotes)
+EXPLAIN ANALYZE
+SELECT v.id
+FROM vote v
+WHERE v.user_id = 1
+  AND v.deleted_at IS NULL
+  AND v.group_id IN (1)
+ORDER BY v.updated_at DESC, v.id DESC
+LIMIT 11;
+
+-- 내가 참여한 투표 (VoteRepositoryImpl#findSubmittedVotes)
+EXPLAIN ANALYZE
+SELECT v.id, vr.voted_at
+FROM vote_response vr
+JOIN vote v ON v.id = vr.vote_id
+WHERE vr.user_id = 2
+  AND vr.option_number <> 0
+  AND v.group_id IN (1)
+  AND v.vote_status IN ('OPEN', 'CLOSED')
+ORDER BY vr.voted_at DESC, v.id DESC
+LIMIT 11;
+
+-- 댓글 목록 (CommentRepositoryImpl)
+EXPLAIN ANALYZE
+SELECT c.id
+FROM comment c
+WHERE c.vote_id = 1
+  AND c.deleted_at IS NULL
+ORDER BY c.created_at, c.id
+LIMIT 11;
+
+-- 알림 목록 (NotificationRepositoryImpl)
+EXPLAIN ANALYZE
+SELECT n.id
+FROM notification n
+WHERE n.user_id = 2
+ORDER BY n.created_at DESC, n.id DESC
+LIMIT 11;
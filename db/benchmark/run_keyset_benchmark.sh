@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# 커서 페이지네이션 인덱스(V2__add_keyset_covering_indexes.sql) 적용 전/후 실행 계획 비교
+#
+# 사용법: MYSQL="mysql -h 127.0.0.1 -u root -p<password>" ./db/benchmark/run_keyset_benchmark.sh
+# 사전 조건: db/testdata 스크립트로 데이터를 적재하고, V2 인덱스가 아직 없는 moa 스키마
+set -euo pipefail
+
+cd "$(dirname "$0")"
+MYSQL=${MYSQL:-mysql -u root}
+MIGRATION=../../src/main/resources/db/migration/V2__add_keyset_covering_indexes.sql
+OUT=${OUT:-./results} # 결과는 커밋해 근거로 남김
+mkdir -p "$OUT"
+
+# 측정 환경(버전, 데이터 규모)과 실행 계획을 함께 기록
+run() {
+  $MYSQL moa -e "ANALYZE TABLE vote, vote_response, comment, notification;" > /dev/null
+  {
+    $MYSQL moa -e "SELECT VERSION() AS mysql_version;
+      SELECT 'vote' AS tbl, COUNT(*) AS row_count FROM vote
+      UNION ALL SELECT 'vote_response', COUNT(*) FROM vote_response
+      UNION ALL SELECT 'comment', COUNT(*) FROM comment
+      UNION ALL SELECT 'notification', COUNT(*) FROM notification;"
+    $MYSQL < keyset_queries.sql
+  } > "$1"
+}
+
+run "$OUT/before.txt"
+$MYSQL moa < "$MIGRATION"
+run "$OUT/after.txt"
+
+echo "실행 계획 저장: $OUT/before.txt, $OUT/after.txt"
+diff "$OUT/before.txt" "$OUT/after.txt" || true
@@ -2,10 +2,12 @@ package com.moa.moa_server.config;
 
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableAsync
@@ -25,8 +27,8 @@ public class AsyncConfig {
   }
 
   // 댓글 롱폴링 전용 스레드풀
-  // - 특징: 대기 시간이 길 수 있고, 동시 요청이 많을 수 있음
-  // - 큐/풀 초과 시: 작업 거부 및 예외 발생시켜 클라이언트에게 즉시 실패 응답 → 재요청 유도
+  // - 특징: 대기 중에는 스레드를 점유하지 않고, 새 댓글 생성 시 대기자 응답 조회(짧은 작업)에만 사용
+  // - 큐/풀 초과 시: 작업 거부 → 대기자를 재등록하여 다음 댓글 또는 타임아웃 시 응답
   @Bean(name = "commentPollingExecutor")
   public ThreadPoolTaskExecutor commentPollingExecutor() {
     return buildExecutor("comment-polling-", 10, 20, 200, new ThreadPoolExecutor.AbortPolicy());
@@ -41,6 +43,33 @@ public class AsyncConfig {
         "notification-async-", 3, 6, 100, new ThreadPoolExecutor.CallerRunsPolicy());
   }
 
+  // SSE 전송(알림, ping) 전용 I/O 스레드풀
+  // - 특징: 느린 클라이언트 소켓 쓰기가 스케줄러 스레드와 다른 emitter 전송을 막지 않도록 분리 (연결당 쓰기 스레드는 최대 1개)
+  // - core == max: 큐가 찰 때까지 core 스레드만 쓰는 문제를 피하도록 고정 크기로 운영 (멈춘 쓰기는 SseWriteWatchdog가 종료)
+  // - 큐/풀 초과 시: 작업 거부 → 이벤트는 연결별 대기열에 남겨 두고 다음 이벤트 추가 시 재시도
+  @Bean(name = "sseExecutor")
+  public ThreadPoolTaskExecutor sseExecutor() {
+    return buildExecutor("sse-io-", 16, 16, 1000, new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  // 기본 @Scheduled 스케줄러 (크기: spring.task.scheduling.pool.size)
+  // 다른 TaskScheduler 빈(sseScheduler)을 등록하면 자동 구성 스케줄러가 생성되지 않으므로 명시적으로 등록
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+    return builder.build();
+  }
+
+  // SSE ping 슬롯 순회와 쓰기 제한 시간 감시(SseWriteWatchdog) 전용 스케줄러
+  // - 특징: 주기가 짧고 지연되면 연결 유지/멈춘 쓰기 종료가 밀리므로, 집계 flush/정각 배치 등 다른 @Scheduled 작업과 분리
+  @Bean(name = "sseScheduler")
+  public ThreadPoolTaskScheduler sseScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(2); // ping, watchdog 각 1개
+    scheduler.setThreadNamePrefix("sse-scheduler-");
+    scheduler.initialize();
+    return scheduler;
+  }
+
   // 공통 executor 생성 로직
   private ThreadPoolTaskExecutor buildExecutor(
       String name, int core, int max, int queue, RejectedExecutionHandler handler) {
@@ -0,0 +1,35 @@
+package com.moa.moa_server.config.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 복제 지연 없이 최신 커밋을 읽어야 하는 조회를 기본 DB에서 수행하는 헬퍼.
+ *
+ * <p>커밋 직후 다른 스레드에서 실행되는 조회(롱폴링 대기자 깨우기)나, 조회 결과를 인덱스로 고정하는 조회(피드 인덱스 재구성)에 사용한다. 진행 중인 읽기 전용 트랜잭션은
+ * 이미 복제본 커넥션을 얻었을 수 있으므로 별도의 읽기 전용 트랜잭션에서 실행한다. 복제본을 사용하지 않으면 현재 트랜잭션에서 그대로 실행한다.
+ */
+@Component
+public class PrimaryDbReader {
+
+  private final ReplicaDataSourceProperties replicaProperties;
+  private final TransactionTemplate transactionTemplate;
+
+  public PrimaryDbReader(
+      PlatformTransactionManager transactionManager,
+      ReplicaDataSourceProperties replicaProperties) {
+    this.replicaProperties = replicaProperties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    transactionTemplate.setReadOnly(true);
+  }
+
+  public <T> T read(Supplier<T> query) {
+    if (!replicaProperties.isEnabled()) return query.get();
+    return ReadYourWritesContext.callOnPrimary(
+        () -> transactionTemplate.execute(status -> query.get()));
+  }
+}
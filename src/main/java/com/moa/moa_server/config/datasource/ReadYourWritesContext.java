@@ -0,0 +1,68 @@
+package com.moa.moa_server.config.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 현재 HTTP 요청의 read-your-writes 상태를 요청 속성으로 관리하는 헬퍼.
+ *
+ * <p>요청 밖(스케줄러, 비동기 작업)에서는 요청 속성이 없으므로 복제본 라우팅은 트랜잭션의 읽기 전용 여부만으로 결정된다. 커밋 직후의 조회처럼 요청 밖에서도 최신 데이터가
+ * 필요하면 {@link #callOnPrimary(Supplier)}로 현재 스레드를 기본 DB에 고정한다.
+ */
+public final class ReadYourWritesContext {
+
+  private static final String PRIMARY_REQUIRED = ReadYourWritesContext.class.getName() + ".PRIMARY";
+  private static final String WRITTEN = ReadYourWritesContext.class.getName() + ".WRITTEN";
+
+  /** 요청과 무관하게 현재 스레드의 조회를 기본 DB로 고정 */
+  private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+  private ReadYourWritesContext() {}
+
+  /** 현재 요청의 이후 조회를 모두 기본 DB에서 수행하도록 지정. */
+  public static void usePrimary() {
+    setAttribute(PRIMARY_REQUIRED);
+  }
+
+  /** 현재 요청에서 쓰기 트랜잭션이 실행되었음을 기록. 이후 조회도 기본 DB에서 수행한다. */
+  static void markWritten() {
+    setAttribute(WRITTEN);
+  }
+
+  /**
+   * 현재 스레드에서 action을 실행하는 동안 조회를 기본 DB에서 수행.
+   *
+   * <p>라우팅 대상은 커넥션을 얻는 시점에 정해지므로, 이미 커넥션을 얻은 트랜잭션 안에서는 효과가 없다. action 안에서 트랜잭션을 시작해야 한다.
+   */
+  public static <T> T callOnPrimary(Supplier<T> action) {
+    boolean nested = PRIMARY_FORCED.get() != null;
+    PRIMARY_FORCED.set(Boolean.TRUE);
+    try {
+      return action.get();
+    } finally {
+      if (!nested) PRIMARY_FORCED.remove();
+    }
+  }
+
+  public static boolean isPrimaryRequired() {
+    return PRIMARY_FORCED.get() != null || hasAttribute(PRIMARY_REQUIRED) || hasAttribute(WRITTEN);
+  }
+
+  public static boolean hasWritten() {
+    return hasAttribute(WRITTEN);
+  }
+
+  private static void setAttribute(String name) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.setAttribute(name, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  private static boolean hasAttribute(String name) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes != null
+        && attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST) != null;
+  }
+}
@@ -0,0 +1,72 @@
+package com.moa.moa_server.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 쓰기 직후 같은 사용자의 요청이 복제 지연으로 이전 데이터를 읽지 않도록 기본 DB로 고정하는 인터셉터.
+ *
+ * <p>쓰기 트랜잭션을 실행한 요청이 끝나면 사용자별 표시 키를 Redis에 짧은 TTL로 남기고, 표시가 남아 있는 동안 들어온 요청은 모든 조회를 기본 DB에서 수행한다.
+ * 여러 서버가 같은 표시를 공유한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+  public static final String RECENT_WRITE_PREFIX = "db:recent_write:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ReplicaDataSourceProperties properties;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    Long userId = currentUserId();
+    if (userId == null) return true;
+
+    try {
+      if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(RECENT_WRITE_PREFIX + userId))) {
+        ReadYourWritesContext.usePrimary();
+      }
+    } catch (Exception e) {
+      // 확인할 수 없으면 안전하게 기본 DB 사용
+      log.warn("[ReadYourWritesInterceptor#preHandle] 최근 쓰기 확인 실패 - userId={}", userId, e);
+      ReadYourWritesContext.usePrimary();
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(
+      HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (!ReadYourWritesContext.hasWritten()) return;
+    Long userId = currentUserId();
+    if (userId == null) return;
+
+    try {
+      stringRedisTemplate
+          .opsForValue()
+          .set(
+              RECENT_WRITE_PREFIX + userId,
+              "1",
+              Duration.ofMillis(properties.getReadYourWritesWindow()));
+    } catch (Exception e) {
+      log.warn("[ReadYourWritesInterceptor#afterCompletion] 최근 쓰기 기록 실패 - userId={}", userId, e);
+    }
+  }
+
+  private Long currentUserId() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+      return userId;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,47 @@
+package com.moa.moa_server.config.datasource;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 복제본(replica) DB 설정.
+ *
+ * <p>활성화 시 {@code @Transactional(readOnly = true)} 트랜잭션은 복제본으로, 그 외는 {@code spring.datasource}의
+ * 기본(primary) DB로 보낸다. 접속 계정과 드라이버는 지정하지 않으면 기본 DB 설정을 따른다.
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+  private boolean enabled = false;
+  private String url;
+  private String username;
+  private String password;
+  private int maximumPoolSize = 10;
+  private long readYourWritesWindow = 3_000; // 쓰기 이후 같은 사용자의 요청을 기본 DB로 보내는 시간 (ms, 복제 지연보다 길게)
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+  public void setUsername(String username) {
+    this.username = username;
+  }
+
+  public void setPassword(String password) {
+    this.password = password;
+  }
+
+  public void setMaximumPoolSize(int maximumPoolSize) {
+    this.maximumPoolSize = maximumPoolSize;
+  }
+
+  public void setReadYourWritesWindow(long readYourWritesWindow) {
+    this.readYourWritesWindow = readYourWritesWindow;
+  }
+}
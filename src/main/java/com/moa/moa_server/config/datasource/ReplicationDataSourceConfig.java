@@ -0,0 +1,85 @@
+package com.moa.moa_server.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 기본(primary) DB와 읽기 전용 복제본(replica) DB 라우팅 설정.
+ *
+ * <p>{@code datasource.replica.enabled=true}일 때만 등록되며, 비활성화 시 스프링 부트 기본 DataSource를 그대로 사용한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicationDataSourceConfig implements WebMvcConfigurer {
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ReplicaDataSourceProperties replicaProperties;
+
+  /** 기본 DB 커넥션 풀 ({@code spring.datasource.*}, {@code spring.datasource.hikari.*}) */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  /** 복제본 DB 커넥션 풀 */
+  @Bean
+  public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("replica-pool");
+    dataSource.setDriverClassName(properties.determineDriverClassName());
+    dataSource.setJdbcUrl(replicaProperties.getUrl());
+    dataSource.setUsername(
+        replicaProperties.getUsername() != null
+            ? replicaProperties.getUsername()
+            : properties.determineUsername());
+    dataSource.setPassword(
+        replicaProperties.getPassword() != null
+            ? replicaProperties.getPassword()
+            : properties.determinePassword());
+    dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+    ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+    routingDataSource.setTargetDataSources(
+        Map.of(
+            ReplicationRoutingDataSource.PRIMARY, primaryDataSource,
+            ReplicationRoutingDataSource.REPLICA, replicaDataSource));
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    routingDataSource.afterPropertiesSet();
+
+    // 트랜잭션 시작 시점이 아니라 첫 쿼리 실행 시점에 라우팅 대상을 결정
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Bean
+  public ReadYourWritesInterceptor readYourWritesInterceptor() {
+    return new ReadYourWritesInterceptor(stringRedisTemplate, replicaProperties);
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(readYourWritesInterceptor());
+  }
+}
@@ -0,0 +1,30 @@
+package com.moa.moa_server.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션의 읽기 전용 여부에 따라 기본 DB와 복제본 DB를 고르는 라우팅 DataSource.
+ *
+ * <p>트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 {@link
+ * org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+  public static final String REPLICA = "replica";
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    if (readOnly && !ReadYourWritesContext.isPrimaryRequired()) {
+      return REPLICA;
+    }
+
+    // 쓰기 트랜잭션 이후 같은 요청의 조회는 기본 DB에서 수행
+    if (!readOnly && TransactionSynchronizationManager.isActualTransactionActive()) {
+      ReadYourWritesContext.markWritten();
+    }
+    return PRIMARY;
+  }
+}
@@ -0,0 +1,67 @@
+package com.moa.moa_server.config.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * ddl-auto로 스키마를 관리하는 MySQL 환경(local, dev)의 ID 시퀀스 테이블을 기존 최대 ID 다음 값으로 맞추는 초기화 컴포넌트.
+ *
+ * <p>운영은 Flyway(V3__add_id_sequence_tables.sql)가 시퀀스 테이블을 만들면서 초기값을 설정하지만, ddl-auto 환경에서는
+ * Hibernate가 next_val = 1로 생성하므로 AUTO_INCREMENT로 저장된 기존 행과 ID가 겹친다. 스키마 갱신(EntityManagerFactory 생성)
+ * 이후 실행되며, next_val을 줄이지는 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.flyway", name = "enabled", havingValue = "false")
+public class IdSequenceInitializer implements InitializingBean {
+
+  /** 시퀀스 테이블 → ID를 발급받는 테이블 */
+  private static final Map<String, String> SEQUENCE_TABLES =
+      Map.of(
+          "notification_seq", "notification",
+          "comment_seq", "comment",
+          "vote_ranking_seq", "vote_ranking");
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+
+  /** EntityManagerFactory는 ddl-auto 스키마 갱신 이후에 실행되도록 의존성으로만 받는다. */
+  public IdSequenceInitializer(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  @Override
+  public void afterPropertiesSet() throws Exception {
+    String product =
+        JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+    if (!"MySQL".equals(product)) return; // 그 외 DB(H2 등)는 네이티브 시퀀스 사용
+
+    SEQUENCE_TABLES.forEach(
+        (sequence, table) -> {
+          int updated =
+              jdbcTemplate.update(
+                  "UPDATE "
+                      + sequence
+                      + " SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM "
+                      + table
+                      + ") WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM "
+                      + table
+                      + ")");
+          if (updated > 0) {
+            log.info(
+                "[IdSequenceInitializer#afterPropertiesSet] 시퀀스 초기값 보정 - sequence={}, table={}",
+                sequence,
+                table);
+          }
+        });
+  }
+}
@@ -0,0 +1,87 @@
+package com.moa.moa_server.config.jpa;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.user.entity.User;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.net.URI;
+import java.util.List;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 2차 캐시 설정 (Caffeine JCache).
+ *
+ * <p>읽기 위주인 {@link Group}, {@link User} 엔티티를 READ_WRITE 전략으로 캐시한다. 리전별 최대 크기는
+ * hibernate-cache.conf에서 관리하며, 리전별 적중률은 {@code cache_gets_total{cache="<리전>"}} 지표로 노출한다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+  public static final List<String> REGIONS = List.of(Group.CACHE_REGION, User.CACHE_REGION);
+  private static final String CONFIG_URI = "classpath:hibernate-cache.conf";
+
+  @Bean
+  public CacheManager hibernateCacheManager() {
+    return Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+        .getCacheManager(URI.create(CONFIG_URI), getClass().getClassLoader());
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+      CacheManager hibernateCacheManager, SecondLevelCacheEvictionListener evictionListener) {
+    return properties -> {
+      properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+      properties.put(
+          "hibernate.integrator_provider",
+          (IntegratorProvider) () -> List.of(evictionIntegrator(evictionListener)));
+    };
+  }
+
+  @Bean
+  public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+    return registry ->
+        REGIONS.forEach(
+            region -> {
+              javax.cache.Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+              @SuppressWarnings("unchecked") // JCache 구현체가 감싼 Caffeine 캐시 (키/값 타입은 동일)
+              Cache<Object, Object> nativeCache = cache.unwrap(Cache.class);
+              CaffeineCacheMetrics.monitor(registry, nativeCache, region);
+            });
+  }
+
+  /** 커밋된 수정/삭제를 다른 서버의 2차 캐시에서도 제거하도록 이벤트 리스너 등록 */
+  private static Integrator evictionIntegrator(SecondLevelCacheEvictionListener evictionListener) {
+    return new Integrator() {
+      @Override
+      public void integrate(
+          Metadata metadata,
+          BootstrapContext bootstrapContext,
+          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry listenerRegistry =
+            sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, evictionListener);
+        listenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, evictionListener);
+      }
+
+      @Override
+      public void disintegrate(
+          SessionFactoryImplementor sessionFactory,
+          SessionFactoryServiceRegistry serviceRegistry) {}
+    };
+  }
+}
@@ -0,0 +1,38 @@
+package com.moa.moa_server.config.jpa;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/** 다른 서버에서 커밋된 수정/삭제 알림을 구독해 이 서버의 2차 캐시 항목을 제거한다. */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictMessageListener implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+  private final EntityManagerFactory entityManagerFactory;
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(
+        this, new ChannelTopic(SecondLevelCacheEvictionListener.EVICT_CHANNEL));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String[] parts =
+        SecondLevelCacheEvictionListener.parse(
+            new String(message.getBody(), StandardCharsets.UTF_8));
+    entityManagerFactory
+        .unwrap(SessionFactory.class)
+        .getCache()
+        .evictEntityData(parts[0], Long.valueOf(parts[1]));
+  }
+}
@@ -0,0 +1,76 @@
+package com.moa.moa_server.config.jpa;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2차 캐시 대상 엔티티의 수정/삭제가 커밋되면 캐시 항목을 제거한다.
+ *
+ * <p>소프트 삭제(deletedAt 수정)는 UPDATE이므로 캐시에 삭제된 엔티티가 남으면 ID 조회 시 @Where 조건을 거치지 않고 반환된다. 이를 막기 위해 이
+ * 서버의 항목을 제거하고, pub/sub으로 다른 서버의 항목도 제거한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictionListener
+    implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+  public static final String EVICT_CHANNEL = "hibernate_cache:evict";
+  private static final String KEY_DELIMITER = "#"; // 메시지 형식: {엔티티명}#{ID}
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    evict(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    evict(event.getPersister(), event.getId());
+  }
+
+  @Override
+  public void onPostUpdateCommitFailed(PostUpdateEvent event) {}
+
+  @Override
+  public void onPostDeleteCommitFailed(PostDeleteEvent event) {}
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return persister.canWriteToCache();
+  }
+
+  public static String messageOf(String entityName, Object id) {
+    return entityName + KEY_DELIMITER + id;
+  }
+
+  /** 메시지에서 [엔티티명, ID] 추출 */
+  public static String[] parse(String message) {
+    return message.split(KEY_DELIMITER, 2);
+  }
+
+  private void evict(EntityPersister persister, Object id) {
+    if (!persister.canWriteToCache()) {
+      return;
+    }
+    String entityName = persister.getEntityName();
+    persister.getFactory().getCache().evictEntityData(entityName, id);
+    try {
+      stringRedisTemplate.convertAndSend(EVICT_CHANNEL, messageOf(entityName, id));
+    } catch (Exception e) {
+      log.warn(
+          "[SecondLevelCacheEvictionListener#evict] 2차 캐시 제거 알림 실패 - entity={}, id={}",
+          entityName,
+          id,
+          e);
+    }
+  }
+}
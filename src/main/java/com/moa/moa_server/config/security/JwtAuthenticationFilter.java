@@ -2,6 +2,7 @@ package com.moa.moa_server.config.security;
 
 import com.moa.moa_server.domain.auth.handler.AuthException;
 import com.moa.moa_server.domain.auth.service.JwtTokenService;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenService jwtTokenService; // 토큰 유효성 검증 및 userId 추출
   private final CustomAuthenticationEntryPoint authenticationEntryPoint;
+  private final ActiveUserService activeUserService; // 요청 단위 사용자 스냅샷
 
   @Override
   protected void doFilterInternal(
@@ -44,6 +46,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // SecurityContext에 저장
         SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // 사용자 스냅샷을 요청 단위로 한 번 조회 (상태 검증은 각 서비스에서 수행)
+        activeUserService.resolve(userId);
       }
 
       filterChain.doFilter(request, response);
@@ -12,8 +12,7 @@ import com.moa.moa_server.domain.auth.swagger.LoginResponses;
 import com.moa.moa_server.domain.global.dto.ApiResponse;
 import com.moa.moa_server.domain.global.dto.ApiResponseVoid;
 import com.moa.moa_server.domain.global.swagger.CommonErrorResponses;
-import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.user.util.AuthUserValidator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,7 +35,7 @@ public class AuthController {
   private final AuthService authService;
   private final RefreshTokenService refreshTokenService;
 
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
 
   @Operation(summary = "소셜 로그인")
   @LoginResponses
@@ -94,8 +93,7 @@ public class AuthController {
       throw new AuthException(AuthErrorCode.NO_TOKEN);
     }
     // 유저 조회 및 상태 검증
-    User user = userRepository.findById(userId).orElse(null);
-    AuthUserValidator.validateActive(user);
+    AuthUserValidator.validateActive(activeUserService.resolve(userId));
 
     // 로그아웃 처리
     boolean logout = authService.logout(userId);
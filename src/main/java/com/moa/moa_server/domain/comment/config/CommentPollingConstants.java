@@ -9,7 +9,8 @@ package com.moa.moa_server.domain.comment.config;
 public final class CommentPollingConstants {
 
   public static final long TIMEOUT_MILLIS = 10_000L; // 롱폴링 내부 대기 시간 (10초)
-  public static final int INTERVAL_MILLIS = 500; // 폴링 주기 (0.5초)
+  public static final long ASYNC_TIMEOUT_MILLIS = 11_000L; // DeferredResult 타임아웃 (11초, 만료 처리 대비)
+  public static final long EXPIRE_CHECK_INTERVAL_MILLIS = 500L; // 대기 만료 검사 주기 (0.5초)
   public static final int MAX_POLL_SIZE = 10; // 최대 조회 개수
 
   private CommentPollingConstants() {
@@ -13,12 +13,15 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "comment")
+@Table(
+    name = "comment",
+    indexes = @Index(name = "idx_comment_vote_created", columnList = "vote_id, created_at, id"))
 @Where(clause = "deleted_at IS NULL")
 public class Comment extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+  @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
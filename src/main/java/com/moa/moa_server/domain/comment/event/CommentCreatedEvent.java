@@ -0,0 +1,4 @@
+package com.moa.moa_server.domain.comment.event;
+
+/** 댓글 생성 이벤트 (커밋 이후 롱폴링 대기자를 깨우는 데 사용) */
+public record CommentCreatedEvent(Long voteId, Long commentId) {}
@@ -0,0 +1,47 @@
+package com.moa.moa_server.domain.comment.handler;
+
+import com.moa.moa_server.domain.comment.service.CommentPollingRedisService;
+import com.moa.moa_server.domain.comment.service.CommentPollingService;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/** 다른 노드에서 발행된 댓글 생성 알림을 구독해 이 노드의 롱폴링 대기자를 깨운다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCreatedMessageListener implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+  private final CommentPollingRedisService pollingRedisService;
+  private final CommentPollingService pollingService;
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(
+        this, new PatternTopic(CommentPollingRedisService.CHANNEL_PATTERN));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    String publisherNodeId = new String(message.getBody(), StandardCharsets.UTF_8);
+
+    // 자기 노드에서 발행한 메시지는 이미 로컬에서 처리했으므로 무시
+    if (pollingRedisService.getNodeId().equals(publisherNodeId)) return;
+
+    try {
+      Long voteId =
+          Long.valueOf(channel.substring(CommentPollingRedisService.CHANNEL_PREFIX.length()));
+      pollingService.wakeUp(voteId);
+    } catch (NumberFormatException e) {
+      log.warn("[CommentCreatedMessageListener#onMessage] 잘못된 채널 - channel={}", channel);
+    }
+  }
+}
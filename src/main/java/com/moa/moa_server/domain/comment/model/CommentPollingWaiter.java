@@ -0,0 +1,44 @@
+package com.moa.moa_server.domain.comment.model;
+
+import com.moa.moa_server.domain.comment.dto.response.CommentListResponse;
+import com.moa.moa_server.domain.global.dto.ApiResponse;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import jakarta.annotation.Nullable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * 새 댓글을 기다리는 롱폴링 요청 1건.
+ *
+ * <p>스레드나 DB 커넥션을 점유하지 않고 요청자, 투표, 커서, 응답 객체(DeferredResult)만 보관한다.
+ */
+public record CommentPollingWaiter(
+    User user,
+    Vote vote,
+    @Nullable String cursor,
+    DeferredResult<ResponseEntity<ApiResponse<CommentListResponse>>> result,
+    long registeredAt) {
+
+  public static CommentPollingWaiter of(
+      User user,
+      Vote vote,
+      @Nullable String cursor,
+      DeferredResult<ResponseEntity<ApiResponse<CommentListResponse>>> result) {
+    return new CommentPollingWaiter(user, vote, cursor, result, System.currentTimeMillis());
+  }
+
+  public Long voteId() {
+    return vote.getId();
+  }
+
+  /** 대기 시간이 지났는지 확인 */
+  public boolean isExpired(long now, long timeoutMillis) {
+    return now - registeredAt >= timeoutMillis;
+  }
+
+  /** 이미 응답이 설정되었거나 타임아웃된 대기자인지 확인 */
+  public boolean isDone() {
+    return result.isSetOrExpired();
+  }
+}
@@ -0,0 +1,67 @@
+package com.moa.moa_server.domain.comment.repository;
+
+import com.moa.moa_server.domain.comment.model.CommentPollingWaiter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표별 댓글 롱폴링 대기자 저장소 (인메모리).
+ *
+ * <p>voteId → 대기자 집합 구조로 관리하며, 새 댓글이 생성되면 해당 투표의 대기자만 꺼내(drain) 응답한다.
+ */
+@Component
+public class CommentPollingWaiterRepository {
+
+  private final Map<Long, Set<CommentPollingWaiter>> waiters = new ConcurrentHashMap<>();
+
+  public void save(CommentPollingWaiter waiter) {
+    // drain과 경합하지 않도록 집합 생성과 추가를 원자적으로 수행
+    waiters.compute(
+        waiter.voteId(),
+        (id, set) -> {
+          Set<CommentPollingWaiter> target = set != null ? set : ConcurrentHashMap.newKeySet();
+          target.add(waiter);
+          return target;
+        });
+  }
+
+  public void delete(CommentPollingWaiter waiter) {
+    waiters.computeIfPresent(
+        waiter.voteId(),
+        (id, set) -> {
+          set.remove(waiter);
+          return set.isEmpty() ? null : set; // 빈 집합은 제거
+        });
+  }
+
+  /** 해당 투표의 대기자를 모두 꺼내고 저장소에서 제거 */
+  public List<CommentPollingWaiter> drainByVoteId(Long voteId) {
+    Set<CommentPollingWaiter> drained = waiters.remove(voteId);
+    if (drained == null) return List.of();
+    return List.copyOf(drained);
+  }
+
+  /** 대기 시간이 지난 대기자를 모두 꺼내고 저장소에서 제거 */
+  public List<CommentPollingWaiter> drainExpired(long now, long timeoutMillis) {
+    List<CommentPollingWaiter> expired = new ArrayList<>();
+    waiters
+        .values()
+        .forEach(
+            set ->
+                set.removeIf(
+                    waiter -> {
+                      if (!waiter.isExpired(now, timeoutMillis)) return false;
+                      expired.add(waiter);
+                      return true;
+                    }));
+    // 빈 집합 제거 (save와 경합하지 않도록 키 단위로 원자적으로 확인)
+    waiters
+        .keySet()
+        .forEach(id -> waiters.computeIfPresent(id, (k, set) -> set.isEmpty() ? null : set));
+    return expired;
+  }
+}
@@ -0,0 +1,50 @@
+package com.moa.moa_server.domain.comment.service;
+
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 댓글 롱폴링 노드 간 깨우기 알림 발행.
+ *
+ * <p>채널은 {@code comment:created:{voteId}} 형태이며, 메시지 본문에는 발행 노드 ID를 담아 자기 자신이 보낸 메시지는 구독 측에서 무시할 수
+ * 있게 한다.
+ */
+@Slf4j
+@Service
+public class CommentPollingRedisService {
+
+  public static final String CHANNEL_PREFIX = "comment:created:";
+  public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
+
+  private final StringRedisTemplate redisTemplate;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  public CommentPollingRedisService(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /** 현재 서버 인스턴스 식별자 */
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  /**
+   * 댓글 생성 알림을 다른 노드에 발행.
+   *
+   * <p>발행 실패 시에도 다른 노드의 대기자는 타임아웃 후 재요청하므로 예외를 전파하지 않는다.
+   *
+   * @param voteId 새 댓글이 생성된 투표 ID
+   */
+  public void publishCommentCreated(Long voteId) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL_PREFIX + voteId, nodeId);
+    } catch (Exception e) {
+      log.warn(
+          "[CommentPollingRedisService#publishCommentCreated] 댓글 생성 알림 발행 실패 - voteId={}, reason={}",
+          voteId,
+          e.getMessage());
+    }
+  }
+}
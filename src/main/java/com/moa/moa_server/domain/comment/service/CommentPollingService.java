@@ -1,29 +1,82 @@
 package com.moa.moa_server.domain.comment.service;
 
+import com.moa.moa_server.config.datasource.PrimaryDbReader;
 import com.moa.moa_server.domain.comment.config.CommentPollingConstants;
 import com.moa.moa_server.domain.comment.dto.response.CommentItem;
 import com.moa.moa_server.domain.comment.dto.response.CommentListResponse;
 import com.moa.moa_server.domain.comment.entity.Comment;
+import com.moa.moa_server.domain.comment.event.CommentCreatedEvent;
+import com.moa.moa_server.domain.comment.model.CommentPollingWaiter;
+import com.moa.moa_server.domain.comment.repository.CommentPollingWaiterRepository;
 import com.moa.moa_server.domain.comment.service.context.CommentPermissionContext;
 import com.moa.moa_server.domain.comment.service.context.CommentPermissionContextFactory;
 import com.moa.moa_server.domain.global.cursor.CreatedAtCommentIdCursor;
+import com.moa.moa_server.domain.global.dto.ApiResponse;
+import com.moa.moa_server.domain.global.exception.GlobalErrorCode;
 import com.moa.moa_server.domain.user.entity.User;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import jakarta.annotation.Nullable;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+/**
+ * 댓글 롱폴링 서비스.
+ *
+ * <p>대기 중인 요청은 DB를 주기적으로 조회하지 않고 {@link CommentPollingWaiterRepository}에 등록만 된다. 댓글이 생성되어 커밋되면 해당
+ * 투표의 대기자만 깨워 1회 조회 후 응답한다. 다른 노드에서 생성된 댓글은 {@link CommentPollingRedisService} 채널을 통해 전달된다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CommentPollingService {
 
   private final CommentPermissionContextFactory permissionContextFactory;
   private final CommentPollingQueryService pollingQueryService;
+  private final CommentPollingWaiterRepository waiterRepository;
+  private final CommentPollingRedisService pollingRedisService;
+  private final PrimaryDbReader primaryDbReader;
+  private final ThreadPoolTaskExecutor executor;
+
+  public CommentPollingService(
+      CommentPermissionContextFactory permissionContextFactory,
+      CommentPollingQueryService pollingQueryService,
+      CommentPollingWaiterRepository waiterRepository,
+      CommentPollingRedisService pollingRedisService,
+      PrimaryDbReader primaryDbReader,
+      @Qualifier("commentPollingExecutor") ThreadPoolTaskExecutor executor) {
+    this.permissionContextFactory = permissionContextFactory;
+    this.pollingQueryService = pollingQueryService;
+    this.waiterRepository = waiterRepository;
+    this.pollingRedisService = pollingRedisService;
+    this.primaryDbReader = primaryDbReader;
+    this.executor = executor;
+  }
 
-  public CommentListResponse pollComments(Long userId, Long voteId, @Nullable String cursor) {
+  /**
+   * 댓글 롱폴링 요청 처리.
+   *
+   * <p>커서 이후 댓글이 이미 있으면 즉시 응답하고, 없으면 대기자로 등록한 뒤 바로 반환한다. 대기 중에는 스레드와 커넥션을 점유하지 않는다.
+   *
+   * @param userId 요청자 ID
+   * @param voteId 대상 투표 ID
+   * @param cursor 기준 커서 (nullable)
+   * @param result 응답을 설정할 DeferredResult
+   */
+  public void pollComments(
+      Long userId,
+      Long voteId,
+      @Nullable String cursor,
+      DeferredResult<ResponseEntity<ApiResponse<CommentListResponse>>> result) {
 
     // 유저, 투표, 권한 체크 (내부에서 트랜잭션 적용)
     CommentPermissionContext context =
@@ -35,60 +88,136 @@ public class CommentPollingService {
     CreatedAtCommentIdCursor parsedCursor =
         cursor != null ? CreatedAtCommentIdCursor.parse(cursor) : null;
 
-    // 롱폴링 루프 수행
-    List<Comment> newComments = pollingLoop(vote, user, parsedCursor);
+    // 대기자 등록 (조회보다 먼저 등록해야 조회~등록 사이에 생성된 댓글을 놓치지 않음)
+    CommentPollingWaiter waiter = CommentPollingWaiter.of(user, vote, cursor, result);
+    waiterRepository.save(waiter);
+    result.onCompletion(() -> waiterRepository.delete(waiter)); // 응답/타임아웃 시 정리
+
+    // 커서 이후에 이미 생성된 댓글이 있으면 즉시 응답 (내부에서 트랜잭션 적용)
+    List<Comment> newComments = pollingQueryService.getNewComments(vote, parsedCursor);
+    if (!newComments.isEmpty()) {
+      waiterRepository.delete(waiter);
+      complete(waiter, newComments);
+      return;
+    }
 
-    // 응답 객체 생성 및 반환
-    return buildResponse(voteId, user, newComments, cursor);
+    log.debug("[CommentPollingService#pollComments] 롱폴링 대기 등록 - voteId={}", voteId);
   }
 
   /**
-   * 지정된 투표에 대해 새 댓글을 감시하는 롱폴링 루프.
-   *
-   * <p>TIMEOUT_MILLIS 까지 INTERVAL_MILLIS 간격으로 새로운 댓글을 조회하며, 새 댓글이 발견되면 즉시 반환한다.
+   * 댓글 생성 트랜잭션 커밋 이후, 해당 투표의 대기자를 깨운다.
    *
-   * @param vote 투표 엔티티
-   * @param user 요청자
-   * @param parsedCursor 기준 커서 (nullable)
-   * @return 새 댓글 목록 (없으면 빈 리스트)
+   * <p>이 노드의 대기자는 바로 깨우고, 다른 노드의 대기자는 Redis pub/sub 알림을 받아 각자 깨운다.
    */
-  private List<Comment> pollingLoop(
-      Vote vote, User user, @Nullable CreatedAtCommentIdCursor parsedCursor) {
-
-    log.debug("[CommentPollingService#pollingLoop] 롱폴링 시작");
-
-    long startTime = System.currentTimeMillis();
+  @TransactionalEventListener
+  public void handleCommentCreated(CommentCreatedEvent event) {
+    wakeUp(event.voteId());
+    pollingRedisService.publishCommentCreated(event.voteId());
+  }
 
-    while (System.currentTimeMillis() - startTime < CommentPollingConstants.TIMEOUT_MILLIS) {
+  /**
+   * 지정된 투표의 롱폴링 대기자에게 새 댓글을 응답.
+   *
+   * <p>같은 커서를 가진 대기자끼리 묶어 커서별로 1회만 조회하며, 조회는 commentPollingExecutor에서 수행해 댓글 작성 요청을 지연시키지 않는다. 커밋
+   * 직후의 조회이므로 복제본이 아닌 기본 DB에서 조회한다.
+   *
+   * @param voteId 새 댓글이 생성된 투표 ID
+   */
+  public void wakeUp(Long voteId) {
+    List<CommentPollingWaiter> waiters = waiterRepository.drainByVoteId(voteId);
+    if (waiters.isEmpty()) return;
+
+    log.debug(
+        "[CommentPollingService#wakeUp] 롱폴링 대기자 깨움 - voteId={}, count={}", voteId, waiters.size());
+
+    Map<String, List<CommentPollingWaiter>> waitersByCursor =
+        waiters.stream()
+            .filter(waiter -> !waiter.isDone())
+            .collect(Collectors.groupingBy(waiter -> Objects.toString(waiter.cursor(), "")));
+
+    waitersByCursor
+        .values()
+        .forEach(
+            group -> {
+              try {
+                executor.execute(() -> respondToWaiters(group));
+              } catch (TaskRejectedException e) {
+                // 풀 포화 시 다시 대기시킴 (다음 댓글 또는 타임아웃 시 응답)
+                log.warn(
+                    "[CommentPollingService#wakeUp] 스레드풀 포화로 대기자 재등록 - voteId={}, count={}",
+                    voteId,
+                    group.size());
+                group.forEach(this::saveIfPending);
+              }
+            });
+  }
 
-      // 커서 이후에 생성된 댓글 조회 (내부에서 트랜잭션 적용)
-      List<Comment> newComments = pollingQueryService.getNewComments(vote, parsedCursor);
+  /** 대기 시간(TIMEOUT_MILLIS) 동안 새 댓글이 없던 대기자에게 빈 목록 응답 */
+  @Scheduled(fixedDelay = CommentPollingConstants.EXPIRE_CHECK_INTERVAL_MILLIS)
+  public void expireWaiters() {
+    List<CommentPollingWaiter> expired =
+        waiterRepository.drainExpired(
+            System.currentTimeMillis(), CommentPollingConstants.TIMEOUT_MILLIS);
+    if (expired.isEmpty()) return;
+
+    log.debug("[CommentPollingService#expireWaiters] 롱폴링 종료 - 타임아웃 count={}", expired.size());
+    expired.forEach(
+        waiter ->
+            waiter
+                .result()
+                .setResult(
+                    ResponseEntity.ok(
+                        new ApiResponse<>(
+                            "SUCCESS",
+                            CommentListResponse.empty(waiter.voteId(), waiter.cursor())))));
+  }
 
-      // 새 댓글이 있으면 즉시 반환
-      if (!newComments.isEmpty()) {
-        log.debug(
-            "[CommentPollingService#pollingLoop] 롱폴링 종료 - 새 댓글 감지 count={}", newComments.size());
-        return newComments;
+  /** 같은 커서를 가진 대기자 묶음에 대해 1회 조회 후 응답 */
+  private void respondToWaiters(List<CommentPollingWaiter> waiters) {
+    CommentPollingWaiter first = waiters.getFirst();
+    try {
+      CreatedAtCommentIdCursor parsedCursor =
+          first.cursor() != null ? CreatedAtCommentIdCursor.parse(first.cursor()) : null;
+      List<Comment> newComments =
+          primaryDbReader.read(
+              () -> pollingQueryService.getNewComments(first.vote(), parsedCursor));
+
+      // 새 댓글이 보이지 않으면 (ex. 커서 이전 댓글) 다시 대기
+      if (newComments.isEmpty()) {
+        waiters.forEach(this::saveIfPending);
+        return;
       }
 
-      // 새 댓글이 없으면 INTERVAL_MILLIS 만큼 대기 후 재조회
-      try {
-        Thread.sleep(CommentPollingConstants.INTERVAL_MILLIS);
-      } catch (InterruptedException e) {
-        // 스레드 인터럽트 발생 시 로그 남기고 즉시 종료
-        log.warn(
-            "[CommentPollingService#pollingLoop] 롱폴링 스레드 인터럽트 발생: userId={}, voteId={}",
-            user.getId(),
-            vote.getId(),
-            e);
-        Thread.currentThread().interrupt();
-        break;
-      }
+      waiters.forEach(waiter -> complete(waiter, newComments));
+    } catch (Exception e) {
+      log.error(
+          "[CommentPollingService#respondToWaiters] 롱폴링 응답 중 예외 발생: voteId={}, reason={}",
+          first.voteId(),
+          e.getMessage());
+      waiters.forEach(
+          waiter ->
+              waiter
+                  .result()
+                  .setErrorResult(
+                      ResponseEntity.internalServerError()
+                          .body(new ApiResponse<>(GlobalErrorCode.UNEXPECTED_ERROR.name(), null))));
     }
+  }
+
+  private void saveIfPending(CommentPollingWaiter waiter) {
+    waiterRepository.save(waiter);
+    // 재등록 직후 타임아웃된 경우 onCompletion 정리를 놓칠 수 있으므로 한 번 더 확인
+    if (waiter.isDone()) waiterRepository.delete(waiter);
+  }
 
-    // 타임아웃 도달 또는 인터럽트 발생: 빈 결과 반환
-    log.debug("[CommentPollingService#pollingLoop] 롱폴링 종료 - 타임아웃 또는 인터럽트");
-    return List.of();
+  private void complete(CommentPollingWaiter waiter, List<Comment> newComments) {
+    log.debug(
+        "[CommentPollingService#complete] 롱폴링 종료 - 새 댓글 감지 voteId={}, count={}",
+        waiter.voteId(),
+        newComments.size());
+    CommentListResponse response =
+        buildResponse(waiter.voteId(), waiter.user(), newComments, waiter.cursor());
+    waiter.result().setResult(ResponseEntity.ok(new ApiResponse<>("SUCCESS", response)));
   }
 
   /**
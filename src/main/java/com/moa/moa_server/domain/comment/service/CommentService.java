@@ -6,6 +6,7 @@ import com.moa.moa_server.domain.comment.dto.response.CommentDeleteResponse;
 import com.moa.moa_server.domain.comment.dto.response.CommentItem;
 import com.moa.moa_server.domain.comment.dto.response.CommentListResponse;
 import com.moa.moa_server.domain.comment.entity.Comment;
+import com.moa.moa_server.domain.comment.event.CommentCreatedEvent;
 import com.moa.moa_server.domain.comment.handler.CommentErrorCode;
 import com.moa.moa_server.domain.comment.handler.CommentException;
 import com.moa.moa_server.domain.comment.repository.CommentRepository;
@@ -22,6 +23,7 @@ import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import jakarta.annotation.Nullable;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +40,7 @@ public class CommentService {
   private final VoteNotificationProducerImpl voteNotificationProducer;
 
   private final CommentPermissionContextFactory permissionContextFactory;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** 댓글 생성 */
   @Transactional
@@ -67,13 +70,16 @@ public class CommentService {
     // authorNickname (익명1 or 닉네임)
     String authorNickname =
         CommentNicknameUtil.generateNickname(
-            request.anonymous(), anonymousNumber, user.getNickname());
+            request.anonymous(), anonymousNumber, context.activeUser().nickname());
 
     voteNotificationProducer.notifyVoteCommented(voteId, userId, comment.getContent());
 
     // 랭킹 갱신을 위해 수정된 투표를 Redis ZSet에 기록
     rankingRedisService.trackUpdatedVote(voteId);
 
+    // 커밋 이후 해당 투표의 롱폴링 대기자를 깨움
+    eventPublisher.publishEvent(new CommentCreatedEvent(voteId, comment.getId()));
+
     return new CommentCreateResponse(
         comment.getId(), comment.getContent(), authorNickname, comment.getCreatedAt());
   }
@@ -1,6 +1,14 @@
 package com.moa.moa_server.domain.comment.service.context;
 
 import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.model.ActiveUser;
 import com.moa.moa_server.domain.vote.entity.Vote;
 
-public record CommentPermissionContext(User user, Vote vote) {}
+/**
+ * 댓글 권한 검사 결과.
+ *
+ * @param activeUser 요청자 스냅샷 (닉네임 등 조회용)
+ * @param user 요청자 참조 (연관관계, 조회 조건용)
+ * @param vote 대상 투표
+ */
+public record CommentPermissionContext(ActiveUser activeUser, User user, Vote vote) {}
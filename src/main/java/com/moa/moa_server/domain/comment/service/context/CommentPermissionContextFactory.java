@@ -4,10 +4,9 @@ import com.moa.moa_server.domain.comment.handler.CommentErrorCode;
 import com.moa.moa_server.domain.comment.handler.CommentException;
 import com.moa.moa_server.domain.ranking.util.RankingPermissionValidator;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
+import com.moa.moa_server.domain.user.model.ActiveUser;
 import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
@@ -21,18 +20,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentPermissionContextFactory {
 
   private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final VoteRepository voteRepository;
   private final VoteResponseRepository voteResponseRepository;
   private final RankingPermissionValidator rankingPermissionValidator;
 
   @Transactional(readOnly = true)
   public CommentPermissionContext validateAndGetContext(Long userId, Long voteId) {
-    // 유저 조회 및 유효성 검사
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    // 유저 유효성 검사 (요청 단위 스냅샷)
+    ActiveUser activeUser = activeUserService.getActiveUser(userId);
+    User user = userRepository.getReferenceById(activeUser.id());
 
     // 투표 존재 확인
     Vote vote =
@@ -51,6 +48,6 @@ public class CommentPermissionContextFactory {
       throw new CommentException(CommentErrorCode.FORBIDDEN);
     }
 
-    return new CommentPermissionContext(user, vote);
+    return new CommentPermissionContext(activeUser, user, vote);
   }
 }
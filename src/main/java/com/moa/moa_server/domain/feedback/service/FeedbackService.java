@@ -5,10 +5,7 @@ import com.moa.moa_server.domain.feedback.entity.Feedback;
 import com.moa.moa_server.domain.feedback.repository.FeedbackRepository;
 import com.moa.moa_server.domain.feedback.util.FeedbackValidator;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,16 +15,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class FeedbackService {
 
   private final FeedbackRepository feedbackRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
 
   @Transactional
   public void createFeedback(Long userId, FeedbackCreateRequest request) {
     // 유저 조회 및 검증
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    User user = activeUserService.getActiveUserReference(userId);
 
     //
     FeedbackValidator.validateContent(request.content());
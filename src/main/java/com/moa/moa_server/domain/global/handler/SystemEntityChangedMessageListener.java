@@ -0,0 +1,30 @@
+package com.moa.moa_server.domain.global.handler;
+
+import com.moa.moa_server.domain.global.registry.SystemEntityRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/** 시스템 엔티티 변경 알림을 구독해 이 서버의 스냅샷을 다시 적재한다. */
+@Component
+@RequiredArgsConstructor
+public class SystemEntityChangedMessageListener implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+  private final SystemEntityRegistry systemEntityRegistry;
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(
+        this, new ChannelTopic(SystemEntityRegistry.CHANGED_CHANNEL));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    systemEntityRegistry.refresh();
+  }
+}
@@ -1,7 +1,6 @@
 package com.moa.moa_server.domain.global.initializer;
 
-import com.moa.moa_server.domain.group.repository.GroupRepository;
-import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.global.registry.SystemEntityRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
@@ -13,15 +12,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class SystemDataInitializer implements ApplicationRunner {
 
-  private final UserRepository userRepository;
-  private final GroupRepository groupRepository;
+  private final SystemEntityRegistry systemEntityRegistry;
 
   @Override
   public void run(ApplicationArguments args) {
-    if (!userRepository.existsById(1L)) {
+    // 시스템 엔티티를 한 번 적재해 두고 존재 여부 확인
+    systemEntityRegistry.refresh();
+    if (systemEntityRegistry.findSystemUser().isEmpty()) {
       throw new IllegalStateException("System user not found. Please execute init-data.sql.");
     }
-    if (!groupRepository.existsById(1L)) {
+    if (systemEntityRegistry.findPublicGroup().isEmpty()) {
       throw new IllegalStateException("Public group not found. Please execute init-data.sql.");
     }
   }
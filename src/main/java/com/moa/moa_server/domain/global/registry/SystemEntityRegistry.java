@@ -0,0 +1,106 @@
+package com.moa.moa_server.domain.global.registry;
+
+import com.moa.moa_server.domain.global.constant.SystemConstants;
+import com.moa.moa_server.domain.group.event.GroupUpdatedEvent;
+import com.moa.moa_server.domain.group.model.GroupSnapshot;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.user.event.UserChangedEvent;
+import com.moa.moa_server.domain.user.model.ActiveUser;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 시스템 엔티티(공개 그룹, 시스템 사용자, 시스템 AI 사용자)의 읽기 전용 스냅샷 저장소.
+ *
+ * <p>시작 시 {@code SystemDataInitializer}가 한 번 적재하고, 이후에는 DB를 조회하지 않는다. 해당 엔티티가 수정되면 커밋 이후 pub/sub으로
+ * 모든 서버에 다시 적재를 요청한다. 적재되지 않은 스냅샷은 처음 사용할 때 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SystemEntityRegistry {
+
+  public static final String CHANGED_CHANNEL = "system_entity:changed";
+
+  private final GroupRepository groupRepository;
+  private final UserRepository userRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private volatile GroupSnapshot publicGroup;
+  private volatile ActiveUser systemUser;
+  private volatile ActiveUser systemAIUser;
+
+  public Optional<GroupSnapshot> findPublicGroup() {
+    if (publicGroup == null) {
+      publicGroup = loadPublicGroup();
+    }
+    return Optional.ofNullable(publicGroup);
+  }
+
+  public Optional<ActiveUser> findSystemUser() {
+    if (systemUser == null) {
+      systemUser = loadUser(SystemConstants.SYSTEM_USER_ID);
+    }
+    return Optional.ofNullable(systemUser);
+  }
+
+  public Optional<ActiveUser> findSystemAIUser() {
+    if (systemAIUser == null) {
+      systemAIUser = loadUser(SystemConstants.SYSTEM_AI_USER_ID);
+    }
+    return Optional.ofNullable(systemAIUser);
+  }
+
+  /** 모든 스냅샷을 DB에서 다시 적재 */
+  public void refresh() {
+    publicGroup = loadPublicGroup();
+    systemUser = loadUser(SystemConstants.SYSTEM_USER_ID);
+    systemAIUser = loadUser(SystemConstants.SYSTEM_AI_USER_ID);
+    log.info(
+        "[SystemEntityRegistry#refresh] 시스템 엔티티 적재 - publicGroup={}, systemUser={}, systemAIUser={}",
+        publicGroup != null,
+        systemUser != null,
+        systemAIUser != null);
+  }
+
+  @TransactionalEventListener
+  public void handleGroupUpdated(GroupUpdatedEvent event) {
+    if (SystemConstants.PUBLIC_GROUP_ID.equals(event.groupId())) {
+      publishChanged();
+    }
+  }
+
+  @TransactionalEventListener
+  public void handleUserChanged(UserChangedEvent event) {
+    if (SystemConstants.SYSTEM_USER_ID.equals(event.userId())
+        || event.userId() == SystemConstants.SYSTEM_AI_USER_ID) {
+      publishChanged();
+    }
+  }
+
+  /** 이 서버는 바로 갱신하고, 다른 서버에는 pub/sub으로 갱신 요청 */
+  private void publishChanged() {
+    refresh();
+    try {
+      stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, "");
+    } catch (Exception e) {
+      log.warn("[SystemEntityRegistry#publishChanged] 시스템 엔티티 변경 알림 실패", e);
+    }
+  }
+
+  private GroupSnapshot loadPublicGroup() {
+    return groupRepository
+        .findById(SystemConstants.PUBLIC_GROUP_ID)
+        .map(GroupSnapshot::from)
+        .orElse(null);
+  }
+
+  private ActiveUser loadUser(Long userId) {
+    return userRepository.findById(userId).map(ActiveUser::from).orElse(null);
+  }
+}
@@ -5,6 +5,8 @@ import com.moa.moa_server.domain.user.entity.User;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -16,9 +18,12 @@ import org.hibernate.annotations.Where;
 @Table(name = "`group`", uniqueConstraints = @UniqueConstraint(columnNames = "invite_code"))
 @SQLDelete(sql = "UPDATE `group` SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Group.CACHE_REGION)
 public class Group extends BaseTimeEntity {
 
   public static final Long PUBLIC_GROUP_ID = 1L;
+  public static final String CACHE_REGION = "group_entity";
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
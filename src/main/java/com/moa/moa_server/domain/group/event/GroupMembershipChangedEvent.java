@@ -0,0 +1,11 @@
+package com.moa.moa_server.domain.group.event;
+
+import java.util.List;
+
+/** 그룹 멤버십 변경 이벤트 (커밋 이후 대상 사용자의 멤버십 인덱스를 무효화하는 데 사용) */
+public record GroupMembershipChangedEvent(List<Long> userIds) {
+
+  public static GroupMembershipChangedEvent of(Long... userIds) {
+    return new GroupMembershipChangedEvent(List.of(userIds));
+  }
+}
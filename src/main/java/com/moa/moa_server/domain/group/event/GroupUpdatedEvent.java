@@ -0,0 +1,4 @@
+package com.moa.moa_server.domain.group.event;
+
+/** 그룹 정보 수정 이벤트 (커밋 이후 시스템 엔티티 스냅샷 갱신에 사용) */
+public record GroupUpdatedEvent(Long groupId) {}
@@ -0,0 +1,38 @@
+package com.moa.moa_server.domain.group.handler;
+
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/** 그룹 멤버십 변경 알림을 구독해 이 서버의 L1 캐시에서 해당 사용자의 멤버십 인덱스를 무효화한다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipChangedMessageListener implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+  private final GroupMembershipIndex membershipIndex;
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(
+        this, new ChannelTopic(GroupMembershipIndex.CHANGED_CHANNEL));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      membershipIndex.invalidateLocal(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("[GroupMembershipChangedMessageListener#onMessage] 잘못된 메시지 - body={}", body);
+    }
+  }
+}
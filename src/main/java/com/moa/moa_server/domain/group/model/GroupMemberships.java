@@ -0,0 +1,32 @@
+package com.moa.moa_server.domain.group.model;
+
+import com.moa.moa_server.domain.group.entity.GroupMember;
+import jakarta.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+
+/** 사용자가 가입한(탈퇴하지 않은, 삭제되지 않은) 그룹별 역할 */
+public record GroupMemberships(Map<Long, GroupMember.Role> roles) {
+
+  public GroupMemberships {
+    roles = Map.copyOf(roles);
+  }
+
+  public boolean isMember(Long groupId) {
+    return roles.containsKey(groupId);
+  }
+
+  @Nullable
+  public GroupMember.Role roleOf(Long groupId) {
+    return roles.get(groupId);
+  }
+
+  public boolean isOwnerOrManager(Long groupId) {
+    GroupMember.Role role = roles.get(groupId);
+    return role == GroupMember.Role.OWNER || role == GroupMember.Role.MANAGER;
+  }
+
+  public Set<Long> groupIds() {
+    return roles.keySet();
+  }
+}
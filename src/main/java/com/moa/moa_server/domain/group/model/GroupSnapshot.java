@@ -0,0 +1,11 @@
+package com.moa.moa_server.domain.group.model;
+
+import com.moa.moa_server.domain.group.entity.Group;
+
+/** 영속성 컨텍스트와 분리된 읽기 전용 그룹 스냅샷 (공개 그룹처럼 자주 쓰이고 거의 바뀌지 않는 그룹에 사용) */
+public record GroupSnapshot(Long id, String name) {
+
+  public static GroupSnapshot from(Group group) {
+    return new GroupSnapshot(group.getId(), group.getName());
+  }
+}
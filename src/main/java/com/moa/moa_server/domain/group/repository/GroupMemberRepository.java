@@ -23,9 +23,6 @@ public interface GroupMemberRepository
   Optional<GroupMember> findByGroupAndUserIncludingDeleted(
       @Param("groupId") Long groupId, @Param("userId") Long userId);
 
-  @Query("SELECT gm.group FROM GroupMember gm WHERE gm.user = :user AND gm.deletedAt IS NULL")
-  List<Group> findAllActiveGroupsByUser(@Param("user") User user);
-
   void deleteAllByUserId(Long userId);
 
   @Modifying
@@ -36,12 +33,10 @@ public interface GroupMemberRepository
 
   List<GroupMember> findAllByGroup(Group group);
 
-  boolean existsByGroupAndUser(Group group, User user);
-
   int countByGroup(Group group);
 
-  @Query("SELECT gm.group.id FROM GroupMember gm WHERE gm.user = :user")
-  List<Long> findGroupIdsByUser(@Param("user") User user);
+  @Query("select gm.user.id from GroupMember gm where gm.group = :group")
+  List<Long> findUserIdsByGroup(@Param("group") Group group);
 
   @Query("select gm.user.id from GroupMember gm where gm.group = :group and gm.user.id <> :ownerId")
   List<Long> findUserIdsByGroupExcludingOwner(
@@ -6,9 +6,13 @@ import com.moa.moa_server.domain.group.entity.GroupMember;
 import com.moa.moa_server.domain.user.entity.User;
 import jakarta.annotation.Nullable;
 import java.util.List;
+import java.util.Map;
 
 public interface GroupMemberRepositoryCustom {
   List<Group> findJoinedGroupLabels(User user, @Nullable GroupNameGroupIdCursor cursor, int size);
 
   List<GroupMember> findJoinedGroups(User user, @Nullable GroupNameGroupIdCursor cursor, int size);
+
+  /** 사용자가 가입한 그룹(탈퇴, 삭제 제외)별 역할 */
+  Map<Long, GroupMember.Role> findActiveRolesByUserId(Long userId);
 }
@@ -11,6 +11,8 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.annotation.Nullable;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -76,4 +78,19 @@ public class GroupMemberRepositoryImpl implements GroupMemberRepositoryCustom {
         .limit(size)
         .fetch();
   }
+
+  @Override
+  public Map<Long, GroupMember.Role> findActiveRolesByUserId(Long userId) {
+    QGroupMember member = QGroupMember.groupMember;
+    QGroup group = QGroup.group;
+
+    return queryFactory
+        .select(group.id, member.role)
+        .from(member)
+        .join(member.group, group)
+        .where(member.user.id.eq(userId), member.deletedAt.isNull(), group.deletedAt.isNull())
+        .fetch()
+        .stream()
+        .collect(Collectors.toMap(t -> t.get(group.id), t -> t.get(member.role)));
+  }
 }
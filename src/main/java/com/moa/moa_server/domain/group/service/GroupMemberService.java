@@ -6,18 +6,17 @@ import com.moa.moa_server.domain.group.dto.group_member.MemberItem;
 import com.moa.moa_server.domain.group.dto.group_member.MemberListResponse;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.entity.GroupMember;
+import com.moa.moa_server.domain.group.event.GroupMembershipChangedEvent;
 import com.moa.moa_server.domain.group.handler.GroupErrorCode;
 import com.moa.moa_server.domain.group.handler.GroupException;
 import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,23 +30,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class GroupMemberService {
 
   private final GroupRepository groupRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** 멤버 목록 조회 */
   @Transactional(readOnly = true)
   public MemberListResponse getMemberList(Long userId, Long groupId) {
     // 유저 조회 및 검증
-    User user = findActiveUser(userId);
+    findActiveUser(userId);
 
     // 그룹 존재 여부 확인
     Group group = findGroup(groupId);
 
     // 권한 검사: 그룹 멤버이면 조회 가능
-    GroupMember member =
-        groupMemberRepository
-            .findByGroupAndUser(group, user)
-            .orElseThrow(() -> new GroupException(GroupErrorCode.FORBIDDEN));
+    if (!membershipIndex.isMember(userId, groupId)) {
+      throw new GroupException(GroupErrorCode.FORBIDDEN);
+    }
 
     // 전체 그룹 멤버 조회
     List<GroupMember> members = groupMemberRepository.findAllByGroup(group);
@@ -106,6 +106,9 @@ public class GroupMemberService {
       return new ChangeRoleResponse(targetUserId, newRole.name());
     }
 
+    // 커밋 이후 멤버십 인덱스 무효화 (이후 검증에 실패하면 롤백되어 발행되지 않음)
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(requesterId, targetUserId));
+
     // 자기 자신 역할 변경 제약
     if (requester.getId().equals(targetUserId)) {
       // 소유자는 자기 자신 역할 변경 불가
@@ -182,17 +185,13 @@ public class GroupMemberService {
 
     // 실제 추방 처리 (Soft Delete)
     targetMember.leave();
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(targetUserId));
 
     return new MemberDeleteResponse(targetUserId);
   }
 
   private User findActiveUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private Group findGroup(Long groupId) {
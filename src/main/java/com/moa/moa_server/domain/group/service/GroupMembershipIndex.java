@@ -0,0 +1,143 @@
+package com.moa.moa_server.domain.group.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moa.moa_server.domain.group.entity.GroupMember;
+import com.moa.moa_server.domain.group.event.GroupMembershipChangedEvent;
+import com.moa.moa_server.domain.group.model.GroupMemberships;
+import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 그룹 멤버십 인덱스 (그룹 ID → 역할).
+ *
+ * <p>조회 순서는 서버 내(L1) 캐시 → Redis → DB이며, 권한 검사는 L1 캐시의 맵 조회로 끝난다. 가입, 탈퇴, 역할 변경, 추방, 그룹 생성/삭제 시
+ * {@link GroupMembershipChangedEvent}로 커밋 이후 Redis 키를 삭제하고, pub/sub으로 모든 서버의 L1 캐시를 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupMembershipIndex {
+
+  public static final String CACHE_PREFIX = "group:membership:";
+  public static final String CHANGED_CHANNEL = "group_membership:changed";
+  private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+  private static final String CACHE_NAME = "group_membership_cache";
+  private static final long LOCAL_MAXIMUM_SIZE = 100_000;
+  private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+  private static final String ENTRY_DELIMITER = ","; // 값 형식: {그룹ID}:{역할},{그룹ID}:{역할}
+  private static final String ROLE_DELIMITER = ":";
+
+  private final GroupMemberRepository groupMemberRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final MeterRegistry meterRegistry;
+
+  private final Cache<Long, GroupMemberships> localCache =
+      Caffeine.newBuilder()
+          .maximumSize(LOCAL_MAXIMUM_SIZE)
+          .expireAfterWrite(LOCAL_TTL)
+          .recordStats()
+          .build();
+
+  @PostConstruct
+  public void registerMetrics() {
+    CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+  }
+
+  public GroupMemberships get(Long userId) {
+    return localCache.get(userId, this::loadCached);
+  }
+
+  public boolean isMember(Long userId, Long groupId) {
+    return get(userId).isMember(groupId);
+  }
+
+  @Nullable
+  public GroupMember.Role roleOf(Long userId, Long groupId) {
+    return get(userId).roleOf(groupId);
+  }
+
+  public Set<Long> getGroupIds(Long userId) {
+    return get(userId).groupIds();
+  }
+
+  /** 멤버십 인덱스 무효화 (Redis 키 삭제 후 모든 서버에 L1 무효화 알림) */
+  public void evict(Collection<Long> userIds) {
+    localCache.invalidateAll(userIds);
+    try {
+      stringRedisTemplate.delete(userIds.stream().map(GroupMembershipIndex::keyOf).toList());
+      userIds.forEach(
+          userId -> stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, userId.toString()));
+    } catch (Exception e) {
+      log.warn("[GroupMembershipIndex#evict] 멤버십 캐시 삭제 실패 - userIds={}", userIds, e);
+    }
+  }
+
+  /** 이 서버의 L1 캐시만 무효화 (pub/sub 수신 시 사용) */
+  public void invalidateLocal(Long userId) {
+    localCache.invalidate(userId);
+  }
+
+  @TransactionalEventListener
+  public void handleMembershipChanged(GroupMembershipChangedEvent event) {
+    evict(event.userIds());
+  }
+
+  public static String keyOf(Long userId) {
+    return CACHE_PREFIX + userId;
+  }
+
+  private GroupMemberships loadCached(Long userId) {
+    String key = keyOf(userId);
+    try {
+      String cached = stringRedisTemplate.opsForValue().get(key);
+      if (cached != null) {
+        return decode(cached);
+      }
+    } catch (Exception e) {
+      log.warn("[GroupMembershipIndex#loadCached] 멤버십 캐시 조회 실패, DB 조회 - userId={}", userId, e);
+      return new GroupMemberships(groupMemberRepository.findActiveRolesByUserId(userId));
+    }
+
+    GroupMemberships memberships =
+        new GroupMemberships(groupMemberRepository.findActiveRolesByUserId(userId));
+    try {
+      stringRedisTemplate.opsForValue().set(key, encode(memberships), CACHE_TTL);
+    } catch (Exception e) {
+      log.warn("[GroupMembershipIndex#loadCached] 멤버십 캐시 저장 실패 - userId={}", userId, e);
+    }
+    return memberships;
+  }
+
+  private static String encode(GroupMemberships memberships) {
+    return memberships.roles().entrySet().stream()
+        .map(entry -> entry.getKey() + ROLE_DELIMITER + entry.getValue().name())
+        .collect(Collectors.joining(ENTRY_DELIMITER));
+  }
+
+  private static GroupMemberships decode(String value) {
+    if (value.isEmpty()) {
+      return new GroupMemberships(Map.of());
+    }
+    Map<Long, GroupMember.Role> roles = new HashMap<>();
+    Arrays.stream(value.split(ENTRY_DELIMITER))
+        .map(entry -> entry.split(ROLE_DELIMITER))
+        .forEach(parts -> roles.put(Long.valueOf(parts[0]), GroupMember.Role.valueOf(parts[1])));
+    return new GroupMemberships(roles);
+  }
+}
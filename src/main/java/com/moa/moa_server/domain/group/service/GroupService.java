@@ -9,6 +9,8 @@ import com.moa.moa_server.domain.group.dto.group_manage.GroupUpdateRequest;
 import com.moa.moa_server.domain.group.dto.group_manage.GroupUpdateResponse;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.entity.GroupMember;
+import com.moa.moa_server.domain.group.event.GroupMembershipChangedEvent;
+import com.moa.moa_server.domain.group.event.GroupUpdatedEvent;
 import com.moa.moa_server.domain.group.handler.GroupErrorCode;
 import com.moa.moa_server.domain.group.handler.GroupException;
 import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
@@ -18,10 +20,7 @@ import com.moa.moa_server.domain.image.model.ImageProcessResult;
 import com.moa.moa_server.domain.image.service.ImageService;
 import com.moa.moa_server.domain.notification.application.producer.GroupNotificationProducerImpl;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.service.VoteCleanerService;
 import com.moa.moa_server.domain.vote.service.VoteCommandService;
 import java.util.List;
@@ -29,6 +28,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,8 +45,9 @@ public class GroupService {
   private final VoteCleanerService voteCleanerService;
 
   private final GroupRepository groupRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupMemberRepository groupMemberRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** 그룹 생성 */
   @Transactional
@@ -85,6 +86,7 @@ public class GroupService {
     // 그룹 멤버 등록
     GroupMember member = GroupMember.createAsOwner(user, group);
     groupMemberRepository.save(member);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(userId));
 
     return new GroupCreateResponse(
         group.getId(),
@@ -110,6 +112,8 @@ public class GroupService {
 
     // 그룹 soft delete
     group.softDelete();
+    eventPublisher.publishEvent(
+        new GroupMembershipChangedEvent(groupMemberRepository.findUserIdsByGroup(group)));
 
     // 관련 데이터 처리
     voteCleanerService.deleteVoteByGroupId(groupId); // 투표
@@ -164,6 +168,7 @@ public class GroupService {
         sanitize(request.description()),
         imageResult.imageUrl(),
         imageResult.imageName());
+    eventPublisher.publishEvent(new GroupUpdatedEvent(groupId));
 
     return GroupUpdateResponse.of(group, member.getRole());
   }
@@ -203,6 +208,7 @@ public class GroupService {
         GroupMember newOwner = admin.get();
         newOwner.changeToOwner(); // 그룹 멤버 role 변경
         group.changeOwner(newOwner.getUser()); // 그룹의 소유자 변경
+        eventPublisher.publishEvent(GroupMembershipChangedEvent.of(newOwner.getUser().getId()));
         continue;
       }
 
@@ -217,6 +223,7 @@ public class GroupService {
         GroupMember newOwner = regularMember.get();
         newOwner.changeToOwner();
         group.changeOwner(newOwner.getUser());
+        eventPublisher.publishEvent(GroupMembershipChangedEvent.of(newOwner.getUser().getId()));
         continue;
       }
 
@@ -229,12 +236,7 @@ public class GroupService {
   }
 
   private User findActiveUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private Group findGroup(Long groupId) {
@@ -5,18 +5,17 @@ import com.moa.moa_server.domain.group.dto.group_user.GroupJoinResponse;
 import com.moa.moa_server.domain.group.dto.group_user.GroupLeaveResponse;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.entity.GroupMember;
+import com.moa.moa_server.domain.group.event.GroupMembershipChangedEvent;
 import com.moa.moa_server.domain.group.handler.GroupErrorCode;
 import com.moa.moa_server.domain.group.handler.GroupException;
 import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
 import com.moa.moa_server.domain.group.util.GroupValidator;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,8 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class GroupUserService {
 
   private final GroupRepository groupRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupMemberRepository groupMemberRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   /** 그룹 가입 */
   @Transactional
@@ -43,11 +43,7 @@ public class GroupUserService {
     GroupValidator.validateInviteCode(inviteCode);
 
     // 유저 조회 및 상태 확인
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    User user = activeUserService.getActiveUserReference(userId);
 
     // 초대 코드로 그룹 조회
     // deletedAt IS NULL 조건은 Group 엔티티의 @Where에서 자동으로 적용됨
@@ -80,6 +76,7 @@ public class GroupUserService {
       member = GroupMember.create(user, group);
       groupMemberRepository.save(member);
     }
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(userId));
 
     return new GroupJoinResponse(group.getId(), group.getName(), member.getRole().name());
   }
@@ -106,6 +103,7 @@ public class GroupUserService {
 
     // 탈퇴 처리 (soft delete)
     member.leave();
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(userId));
 
     return new GroupLeaveResponse(groupId);
   }
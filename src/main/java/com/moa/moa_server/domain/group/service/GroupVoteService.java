@@ -5,16 +5,11 @@ import com.moa.moa_server.domain.global.cursor.CreatedAtVoteIdCursor;
 import com.moa.moa_server.domain.group.dto.group_vote.GroupVoteItem;
 import com.moa.moa_server.domain.group.dto.group_vote.GroupVoteListResponse;
 import com.moa.moa_server.domain.group.entity.Group;
-import com.moa.moa_server.domain.group.entity.GroupMember;
 import com.moa.moa_server.domain.group.handler.GroupErrorCode;
 import com.moa.moa_server.domain.group.handler.GroupException;
-import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.service.vote_result.VoteResultService;
@@ -31,9 +26,9 @@ public class GroupVoteService {
 
   private static final int DEFAULT_PAGE_SIZE = 10;
 
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupRepository groupRepository;
-  private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
   private final VoteRepository voteRepository;
 
   private final VoteResultService voteResultService;
@@ -44,13 +39,9 @@ public class GroupVoteService {
   public GroupVoteListResponse getGroupVotes(
       Long userId, Long groupId, @Nullable String cursor, @Nullable Integer size) {
     // 그룹, 사용자 검증, 권한 검사
-    User user = findActiveUser(userId);
+    findActiveUser(userId);
     Group group = findGroup(groupId);
-    GroupMember member =
-        groupMemberRepository
-            .findByGroupAndUser(group, user)
-            .orElseThrow(() -> new GroupException(GroupErrorCode.FORBIDDEN));
-    if (!member.isOwnerOrManager())
+    if (!membershipIndex.get(userId).isOwnerOrManager(groupId))
       throw new GroupException(GroupErrorCode.FORBIDDEN); // 그룹 소유자, 관리자만 가능
 
     // 커서 파싱
@@ -75,12 +66,15 @@ public class GroupVoteService {
     List<Long> voteIds = votes.stream().map(Vote::getId).toList();
     Map<Long, Integer> commentCounts = commentCountService.getCommentCountsByVoteIds(voteIds);
 
+    // 투표 결과 일괄 조회
+    var resultsByVoteId = voteResultService.getResults(votes);
+
     // 각 투표별 집계 포함
     List<GroupVoteItem> voteItems =
         votes.stream()
             .map(
                 vote -> {
-                  var results = voteResultService.getResults(vote);
+                  var results = resultsByVoteId.get(vote.getId());
                   int commentsCount = commentCounts.getOrDefault(vote.getId(), 0);
                   return new GroupVoteItem(
                       vote.getId(),
@@ -98,12 +92,7 @@ public class GroupVoteService {
   }
 
   private User findActiveUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private Group findGroup(Long groupId) {
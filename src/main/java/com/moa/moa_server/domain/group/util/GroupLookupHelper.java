@@ -1,6 +1,8 @@
 package com.moa.moa_server.domain.group.util;
 
+import com.moa.moa_server.domain.global.registry.SystemEntityRegistry;
 import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.model.GroupSnapshot;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
 import com.moa.moa_server.domain.vote.handler.VoteErrorCode;
 import com.moa.moa_server.domain.vote.handler.VoteException;
@@ -12,10 +14,17 @@ import org.springframework.stereotype.Component;
 public class GroupLookupHelper {
 
   private final GroupRepository groupRepository;
+  private final SystemEntityRegistry systemEntityRegistry;
 
-  public Group getPublicGroup() {
-    return groupRepository
-        .findById(1L)
+  /** 공개 그룹 스냅샷 (DB 조회 없음) */
+  public GroupSnapshot getPublicGroup() {
+    return systemEntityRegistry
+        .findPublicGroup()
         .orElseThrow(() -> new VoteException(VoteErrorCode.GROUP_NOT_FOUND));
   }
+
+  /** 조회 조건, 연관관계 설정에 사용할 공개 그룹 참조 (이름 등 필드는 {@link #getPublicGroup()} 사용) */
+  public Group getPublicGroupReference() {
+    return groupRepository.getReferenceById(getPublicGroup().id());
+  }
 }
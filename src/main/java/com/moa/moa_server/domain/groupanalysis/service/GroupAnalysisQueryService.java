@@ -3,6 +3,7 @@ package com.moa.moa_server.domain.groupanalysis.service;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
 import com.moa.moa_server.domain.groupanalysis.dto.GroupAnalysisResponse;
 import com.moa.moa_server.domain.groupanalysis.entity.GroupAnalysis;
 import com.moa.moa_server.domain.groupanalysis.handler.GroupAnalysisErrorCode;
@@ -11,10 +12,7 @@ import com.moa.moa_server.domain.groupanalysis.mongo.GroupAnalysisContent;
 import com.moa.moa_server.domain.groupanalysis.repository.GroupAnalysisJpaRepository;
 import com.moa.moa_server.domain.groupanalysis.repository.GroupAnalysisMongoRepository;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -26,9 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class GroupAnalysisQueryService {
 
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupRepository groupRepository;
   private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
   private final GroupAnalysisJpaRepository analysisJpaRepository;
   private final GroupAnalysisMongoRepository analysisMongoRepository;
   private final VoteResponseRepository voteResponseRepository;
@@ -62,12 +61,7 @@ public class GroupAnalysisQueryService {
   }
 
   private User validateAndGetUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private Group validateAndGetGroup(Long groupId) {
@@ -81,7 +75,7 @@ public class GroupAnalysisQueryService {
   }
 
   private void validateGroupMember(Group group, User user) {
-    boolean isMember = groupMemberRepository.existsByGroupAndUser(group, user);
+    boolean isMember = membershipIndex.isMember(user.getId(), group.getId());
     if (!isMember) {
       throw new GroupAnalysisException(GroupAnalysisErrorCode.NOT_GROUP_MEMBER);
     }
@@ -4,11 +4,7 @@ import com.moa.moa_server.domain.image.dto.PresignedUrlResponse;
 import com.moa.moa_server.domain.image.handler.ImageErrorCode;
 import com.moa.moa_server.domain.image.handler.ImageException;
 import com.moa.moa_server.domain.image.model.ImageProcessResult;
-import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import java.net.URL;
 import java.time.Duration;
 import java.util.UUID;
@@ -29,7 +25,7 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 @RequiredArgsConstructor
 public class ImageService {
 
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
 
   private final S3Presigner s3Presigner;
   private final S3Client s3Client;
@@ -45,11 +41,7 @@ public class ImageService {
   /** Presigned URL 발급 */
   public PresignedUrlResponse createPresignedUrl(Long userId, String fileName) {
     // 유저 조회 및 유효성 검사
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    activeUserService.getActiveUser(userId);
 
     if (!isValidExtension(fileName)) {
       throw new ImageException(ImageErrorCode.INVALID_FILE);
@@ -0,0 +1,8 @@
+package com.moa.moa_server.domain.notification.application.event;
+
+/**
+ * 이 서버에 사용자의 첫 SSE 연결이 생기거나 마지막 연결이 끊겼음을 알리는 이벤트.
+ *
+ * @param userId 연결 상태가 바뀐 사용자 ID
+ */
+public record SseConnectionChangedEvent(Long userId) {}
@@ -9,10 +9,7 @@ import com.moa.moa_server.domain.notification.handler.NotificationErrorCode;
 import com.moa.moa_server.domain.notification.handler.NotificationException;
 import com.moa.moa_server.domain.notification.repository.NotificationRepository;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,7 +22,7 @@ public class NotificationService {
   private static final int DEFAULT_PAGE_SIZE = 20;
 
   private final NotificationRepository notificationRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
 
   @Transactional(readOnly = true)
   public NotificationListResponse getNotifications(Long userId, String cursor, Integer size) {
@@ -35,11 +32,7 @@ public class NotificationService {
         cursor != null ? CreatedAtNotificationIdCursor.parse(cursor) : null;
 
     // 유저 조회 및 유효성 검사
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    User user = activeUserService.getActiveUserReference(userId);
 
     // 알림 목록 조회
     List<Notification> notifications =
@@ -65,11 +58,7 @@ public class NotificationService {
   @Transactional
   public NotificationReadResponse readNotification(Long userId, Long notificationId) {
     // 유저 조회 및 유효성 검사
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    activeUserService.getActiveUser(userId);
 
     // 알림 조회
     Notification notification =
@@ -79,7 +68,7 @@ public class NotificationService {
                 () -> new NotificationException(NotificationErrorCode.NOTIFICATION_NOT_FOUND));
 
     // 권한 조회
-    validateOwner(user, notification);
+    validateOwner(userId, notification);
 
     // 읽음 처리
     notification.markAsRead();
@@ -87,8 +76,8 @@ public class NotificationService {
     return new NotificationReadResponse(notification.getId());
   }
 
-  private void validateOwner(User user, Notification notification) {
-    if (!user.equals(notification.getUser())) {
+  private void validateOwner(Long userId, Notification notification) {
+    if (!notification.getUser().getId().equals(userId)) {
       throw new NotificationException(NotificationErrorCode.FORBIDDEN);
     }
   }
@@ -2,15 +2,16 @@ package com.moa.moa_server.domain.notification.application.service;
 
 import com.moa.moa_server.domain.notification.application.sse.NotificationSseSender;
 import com.moa.moa_server.domain.notification.config.SseProperties;
+import com.moa.moa_server.domain.notification.model.SseConnection;
 import com.moa.moa_server.domain.notification.repository.NotificationEmitterRepository;
-import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /** SSE 구독 요청을 처리하는 서비스 클래스. */
@@ -21,7 +22,7 @@ public class NotificationSseService {
 
   private final SseProperties sseProperties;
   private final NotificationEmitterRepository emitterRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final NotificationSseSender notificationSseSender;
 
   /**
@@ -48,31 +49,32 @@ public class NotificationSseService {
 
   private SseEmitter registerEmitter(Long userId) {
     SseEmitter emitter = new SseEmitter(sseProperties.getTimeout());
-    String emitterId = makeEmitterId(userId);
+    SseConnection connection =
+        SseConnection.of(userId, emitter, sseProperties.getSendQueueCapacity(), currentRequest());
 
-    emitterRepository.save(emitterId, emitter);
+    emitterRepository.save(connection);
 
     // 연결 끊김/에러 시 emitter 정리
-    emitter.onCompletion(() -> emitterRepository.deleteById(emitterId)); // 클라이언트 정상 종료
+    emitter.onCompletion(() -> emitterRepository.delete(connection)); // 클라이언트 정상 종료
     emitter.onTimeout(
         () -> {
           emitter.complete(); // AsyncRequestTimeoutException 예외 로그 남지 않도록 명시적 종료
-          emitterRepository.deleteById(emitterId);
+          emitterRepository.delete(connection);
         }); // 서버 타임아웃
-    emitter.onError((e) -> emitterRepository.deleteById(emitterId)); // 전송 중 예외 (IOException)
+    emitter.onError((e) -> emitterRepository.delete(connection)); // 전송 중 예외 (IOException)
 
     return emitter;
   }
 
-  private String makeEmitterId(Long userId) {
-    return userId + "_" + System.currentTimeMillis();
+  /** 쓰기가 멈춘 연결을 강제 종료할 때 쓸 구독 요청 (요청 스레드가 아니면 null) */
+  private HttpServletRequest currentRequest() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes servletAttributes
+        ? servletAttributes.getRequest()
+        : null;
   }
 
   private void validateUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    activeUserService.getActiveUser(userId);
   }
 }
@@ -0,0 +1,116 @@
+package com.moa.moa_server.domain.notification.application.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moa.moa_server.domain.notification.dto.NotificationItem;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 최근 알림 이벤트 스트림 (SSE 재연결 시 Last-Event-ID 이후 이벤트 재전송용).
+ *
+ * <p>키는 {@code notification:stream:{userId}}이며 최근 약 {@value #MAX_LENGTH}개만 유지한다. 알림 ID는 서버별로 블록 단위로
+ * 발급되어 전송 순서와 일치하지 않을 수 있으므로, ID 비교 대신 스트림에서 Last-Event-ID 항목을 찾아 그 뒤에 추가된 이벤트를 재전송한다. 항목이 트림/만료로
+ * 없으면 DB에서 조회하도록 빈 값을 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationReplayStream {
+
+  public static final String KEY_PREFIX = "notification:stream:";
+  private static final long MAX_LENGTH = 100;
+  private static final Duration TTL = Duration.ofDays(1);
+  private static final String ID_FIELD = "id";
+  private static final String PAYLOAD_FIELD = "payload";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  public static String keyOf(Long userId) {
+    return KEY_PREFIX + userId;
+  }
+
+  /** 알림 이벤트 추가 (실패 시 재연결 시점에 DB에서 조회되므로 예외를 전파하지 않음) */
+  public void append(Long userId, Long notificationId, String payload) {
+    String key = keyOf(userId);
+    MapRecord<String, String, String> record =
+        StreamRecords.newRecord()
+            .in(key)
+            .ofMap(Map.of(ID_FIELD, String.valueOf(notificationId), PAYLOAD_FIELD, payload));
+    try {
+      stringRedisTemplate.executePipelined(
+          new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+              operations
+                  .opsForStream()
+                  .add(record, XAddOptions.maxlen(MAX_LENGTH).approximateTrimming(true));
+              operations.expire(key, TTL);
+              return null;
+            }
+          });
+    } catch (Exception e) {
+      log.warn(
+          "[NotificationReplayStream#append] 알림 스트림 추가 실패 - userId={}, notificationId={}",
+          userId,
+          notificationId,
+          e);
+    }
+  }
+
+  /**
+   * 마지막으로 수신한 이벤트 이후에 추가된 이벤트 조회.
+   *
+   * @return 스트림에 마지막 이벤트가 남아 있으면 이후 이벤트 목록, 없으면(트림, 만료, 조회 실패) 빈 값
+   */
+  public Optional<List<NotificationItem>> findAfter(Long userId, Long lastEventId) {
+    List<MapRecord<String, Object, Object>> records;
+    try {
+      records = stringRedisTemplate.opsForStream().range(keyOf(userId), Range.unbounded());
+    } catch (Exception e) {
+      log.warn("[NotificationReplayStream#findAfter] 알림 스트림 조회 실패 - userId={}", userId, e);
+      return Optional.empty();
+    }
+    if (records == null) {
+      return Optional.empty();
+    }
+
+    String lastId = String.valueOf(lastEventId);
+    for (int i = 0; i < records.size(); i++) {
+      if (lastId.equals(records.get(i).getValue().get(ID_FIELD))) {
+        return decode(records.subList(i + 1, records.size()));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private Optional<List<NotificationItem>> decode(List<MapRecord<String, Object, Object>> records) {
+    List<NotificationItem> items = new ArrayList<>(records.size());
+    for (MapRecord<String, Object, Object> record : records) {
+      try {
+        items.add(
+            objectMapper.readValue(
+                (String) record.getValue().get(PAYLOAD_FIELD), NotificationItem.class));
+      } catch (JsonProcessingException e) {
+        log.warn("[NotificationReplayStream#decode] 잘못된 스트림 항목 - recordId={}", record.getId(), e);
+        return Optional.empty();
+      }
+    }
+    return Optional.of(items);
+  }
+}
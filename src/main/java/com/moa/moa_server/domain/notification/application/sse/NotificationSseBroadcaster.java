@@ -1,36 +1,68 @@
 package com.moa.moa_server.domain.notification.application.sse;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.moa.moa_server.domain.notification.dto.NotificationItem;
 import com.moa.moa_server.domain.notification.entity.Notification;
 import com.moa.moa_server.domain.notification.repository.NotificationEmitterRepository;
-import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-/** 알림(Notification)을 특정 사용자에게 연결된 모든 SSE emitter에 브로드캐스팅하는 컴포넌트. */
+/**
+ * 알림(Notification)을 특정 사용자에게 연결된 모든 SSE emitter에 브로드캐스팅하는 컴포넌트.
+ *
+ * <p>사용자의 emitter는 여러 서버에 나뉘어 있을 수 있으므로 알림을 사용자별 Redis 채널로 발행한다. 채널은 해당 사용자의 emitter를 가진 서버만
+ * 구독하며({@code NotificationSseMessageListener}), 수신한 서버가 자신의 emitter로 전송한다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationSseBroadcaster {
 
+  public static final String USER_CHANNEL_PREFIX = "notification_sse:user:";
+
   private final NotificationEmitterRepository emitterRepository;
+  private final NotificationSseDispatcher dispatcher;
+  private final NotificationReplayStream replayStream;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
 
   public void send(Notification notification) {
-    SseEmitter.SseEventBuilder event =
-        SseEmitter.event()
-            .id(String.valueOf(notification.getId()))
-            .name("notification")
-            .data(NotificationItem.from(notification));
+    Long userId = notification.getUser().getId();
+    NotificationItem item = NotificationItem.from(notification);
+    try {
+      String payload = objectMapper.writeValueAsString(item);
+      replayStream.append(userId, notification.getId(), payload);
+      stringRedisTemplate.convertAndSend(channelOf(userId), payload);
+    } catch (JsonProcessingException | RuntimeException e) {
+      // Redis 장애 시 이 서버에 연결된 emitter에만 전송 (다른 서버의 연결은 재연결 시 유실 이벤트로 복구)
+      log.warn(
+          "[NotificationSseBroadcaster#send] 알림 발행 실패, 로컬 전송 - notificationId={}",
+          notification.getId(),
+          e);
+      sendLocal(userId, item);
+    }
+  }
 
+  /** 이 서버에 연결된 사용자의 emitter별 전송 대기열에 추가 (전송은 비동기) */
+  public void sendLocal(Long userId, NotificationItem item) {
+    // SseEventBuilder는 전송 시 내부 상태가 바뀌므로 연결마다 새로 생성
     emitterRepository
-        .findAllByUserId(notification.getUser().getId())
+        .findAllByUserId(userId)
         .forEach(
-            (id, emitter) -> {
-              try {
-                emitter.send(event);
-              } catch (IOException e) {
-                emitterRepository.deleteById(id); // 연결이 끊긴 emitter는 삭제
-              }
-            });
+            connection ->
+                dispatcher.enqueue(
+                    connection,
+                    SseEmitter.event()
+                        .id(String.valueOf(item.notificationId()))
+                        .name("notification")
+                        .data(item)));
+  }
+
+  public static String channelOf(Long userId) {
+    return USER_CHANNEL_PREFIX + userId;
   }
 }
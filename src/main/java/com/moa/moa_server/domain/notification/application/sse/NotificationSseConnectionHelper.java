@@ -1,7 +1,6 @@
 package com.moa.moa_server.domain.notification.application.sse;
 
 import com.moa.moa_server.domain.notification.dto.NotificationItem;
-import com.moa.moa_server.domain.notification.entity.Notification;
 import com.moa.moa_server.domain.notification.repository.NotificationEmitterRepository;
 import java.io.IOException;
 import java.util.List;
@@ -17,6 +16,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationSseConnectionHelper {
 
   private final NotificationEmitterRepository emitterRepository;
+  private final NotificationReplayStream replayStream;
 
   public void sendDummyEvent(SseEmitter emitter) {
     try {
@@ -32,16 +32,23 @@ public class NotificationSseConnectionHelper {
   }
 
   public void sendLostEvents(Long userId, String lastEventId, SseEmitter emitter) {
-    // lastEventId 이후 이벤트 찾아 전송
-    List<Notification> lostEvents = emitterRepository.findCachedEventsAfter(userId, lastEventId);
+    // lastEventId 이후 이벤트 찾아 전송 (최근 이벤트 스트림 우선, 스트림에서 트림된 경우 DB 조회)
+    List<NotificationItem> lostEvents =
+        replayStream
+            .findAfter(userId, Long.parseLong(lastEventId))
+            .orElseGet(
+                () ->
+                    emitterRepository.findCachedEventsAfter(userId, lastEventId).stream()
+                        .map(NotificationItem::from)
+                        .toList());
 
-    for (Notification notification : lostEvents) {
+    for (NotificationItem item : lostEvents) {
       try {
         SseEmitter.SseEventBuilder event =
             SseEmitter.event()
-                .id(String.valueOf(notification.getId()))
+                .id(String.valueOf(item.notificationId()))
                 .name("notification")
-                .data(NotificationItem.from(notification));
+                .data(item);
         emitter.send(event);
       } catch (IOException e) {
         log.warn("초기 SSE 이벤트 전송 실패. emitter는 유지", e); // 초기 전송 실패는 일시적일 수 있으므로 무시하고 연결 유지
@@ -0,0 +1,144 @@
+package com.moa.moa_server.domain.notification.application.sse;
+
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import com.moa.moa_server.domain.notification.model.SseOutbox;
+import com.moa.moa_server.domain.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 이벤트(알림, ping)를 연결별 전송 대기열에 넣고, 전용 I/O 스레드풀에서 비동기로 전송하는 컴포넌트.
+ *
+ * <p>호출 스레드(알림 처리 스레드풀, ping 스케줄러 등)는 소켓 쓰기를 기다리지 않는다. 연결마다 쓰기 스레드는 하나뿐이며, 쓰기 제한 시간은 {@link
+ * SseWriteWatchdog}가 강제한다. 대기열이 가득 찬 연결은 느린 클라이언트로 보고 제거하므로, 한 클라이언트가 다른 사용자의 알림 전송을 지연시키지 않는다.
+ *
+ * <p>제거된 연결은 항상 종료해 클라이언트가 재연결하고 유실 이벤트를 재전송받게 한다. 종료는 전송 작업 표시(drain)를 가진 스레드만 수행하므로, 쓰기가 진행 중이면
+ * 쓰기를 마친 전송 스레드가 종료한다.
+ */
+@Slf4j
+@Component
+public class NotificationSseDispatcher {
+
+  private static final String FAILURE_METRIC = "sse.send.failures";
+
+  private final EmitterRepository emitterRepository;
+  private final ThreadPoolTaskExecutor sseExecutor;
+  private final SseWriteWatchdog writeWatchdog;
+  private final MeterRegistry meterRegistry;
+
+  public NotificationSseDispatcher(
+      EmitterRepository emitterRepository,
+      @Qualifier("sseExecutor") ThreadPoolTaskExecutor sseExecutor,
+      SseWriteWatchdog writeWatchdog,
+      MeterRegistry meterRegistry) {
+    this.emitterRepository = emitterRepository;
+    this.sseExecutor = sseExecutor;
+    this.writeWatchdog = writeWatchdog;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public void enqueue(SseConnection connection, SseEmitter.SseEventBuilder event) {
+    enqueue(connection, event, null);
+  }
+
+  /**
+   * 이벤트를 연결의 전송 대기열에 추가.
+   *
+   * @param onSent 전송 완료 시 전송 스레드에서 실행할 콜백 (없으면 null)
+   */
+  public void enqueue(
+      SseConnection connection, SseEmitter.SseEventBuilder event, @Nullable Runnable onSent) {
+    if (!connection.outbox().offer(event, onSent)) {
+      evict(connection, "overflow"); // 이미 닫힌 대기열이면 무시
+      return;
+    }
+    scheduleDrain(connection);
+  }
+
+  private void scheduleDrain(SseConnection connection) {
+    SseOutbox outbox = connection.outbox();
+    if (!outbox.tryStartDrain()) {
+      return; // 이미 전송 중인 작업이 이어서 처리
+    }
+    try {
+      sseExecutor.execute(() -> drain(connection));
+    } catch (RejectedExecutionException e) {
+      outbox.finishDrain(); // 대기열에 남겨 두고 다음 이벤트 추가 시 재시도
+      recordFailure("rejected");
+    }
+  }
+
+  private void drain(SseConnection connection) {
+    SseOutbox outbox = connection.outbox();
+    try {
+      SseOutbox.Entry entry;
+      while ((entry = outbox.poll()) != null) {
+        if (!send(connection, entry)) break;
+      }
+    } finally {
+      outbox.finishDrain();
+    }
+    if (outbox.isClosed()) {
+      completeIfIdle(connection); // 전송 중에 제거된 연결
+    } else if (outbox.hasPending()) {
+      scheduleDrain(connection); // 전송 종료 직전에 추가된 이벤트
+    }
+  }
+
+  private boolean send(SseConnection connection, SseOutbox.Entry entry) {
+    writeWatchdog.begin(connection);
+    try {
+      connection.emitter().send(entry.event());
+    } catch (IOException | IllegalStateException e) {
+      evict(connection, "io"); // 연결이 끊겼거나 이미 종료된 emitter (감시자가 종료한 경우 포함)
+      return false;
+    } finally {
+      writeWatchdog.end();
+    }
+    if (entry.onSent() != null) {
+      entry.onSent().run();
+    }
+    return true;
+  }
+
+  private void evict(SseConnection connection, String reason) {
+    if (!connection.outbox().close()) {
+      return; // 이미 제거된 연결
+    }
+    emitterRepository.delete(connection);
+    recordFailure(reason);
+    log.info(
+        "[NotificationSseDispatcher#evict] emitter 제거 - userId={}, reason={}",
+        connection.userId(),
+        reason);
+    completeIfIdle(connection);
+  }
+
+  /**
+   * 닫힌 연결의 emitter 종료.
+   *
+   * <p>전송 작업 표시를 얻은 스레드만 종료하고 표시를 반환하지 않으므로 종료는 한 번만 일어난다. 표시를 얻지 못하면 쓰기 중인 스레드가 전송을 마친 뒤 다시 호출한다.
+   * 쓰기가 멈춘 경우에는 감시자가 응답을 닫아 쓰기를 끝낸다.
+   */
+  private void completeIfIdle(SseConnection connection) {
+    if (connection.outbox().tryStartDrain()) {
+      connection.emitter().complete();
+    }
+  }
+
+  private void recordFailure(String reason) {
+    Counter.builder(FAILURE_METRIC)
+        .description("SSE 이벤트 전송 실패 수")
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+}
@@ -1,31 +1,62 @@
 package com.moa.moa_server.domain.notification.application.sse;
 
-import com.moa.moa_server.domain.notification.repository.NotificationEmitterRepository;
-import java.io.IOException;
+import com.moa.moa_server.domain.notification.config.SseProperties;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import com.moa.moa_server.domain.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-/** 주기적으로 서버에 존재하는 모든 SseEmitter에 ping 이벤트를 전송하여 연결 상태를 점검하는 컴포넌트. */
+/**
+ * 주기적으로 서버에 존재하는 SseEmitter에 ping 이벤트를 전송하여 연결 상태를 점검하는 컴포넌트.
+ *
+ * <p>ping 주기를 {@code sse.ping-shards}개 슬롯으로 나누고, 슬롯마다 사용자 ID 해시가 해당 슬롯인 연결에만 ping을 보낸다(해시 타이밍 휠).
+ * ping도 알림과 같은 연결별 전송 대기열({@link NotificationSseDispatcher})로 보내므로 연결마다 쓰기 스레드는 하나이며, 전송 실패와 쓰기 제한
+ * 시간 초과 처리도 알림과 같다.
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationSseHealthChecker {
 
-  private final NotificationEmitterRepository emitterRepository;
+  private final EmitterRepository emitterRepository;
+  private final SseProperties sseProperties;
+  private final NotificationSseDispatcher dispatcher;
+  private final MeterRegistry meterRegistry;
 
-  @Scheduled(fixedRateString = "#{@sseProperties.pingInterval}")
+  private final AtomicLong tick = new AtomicLong();
+  private Timer pingLatency;
+
+  @PostConstruct
+  public void registerMetrics() {
+    Gauge.builder("sse.connections", emitterRepository, EmitterRepository::count)
+        .description("이 서버에 연결된 SSE emitter 수")
+        .register(meterRegistry);
+    pingLatency =
+        Timer.builder("sse.ping.latency")
+            .description("SSE ping 전송 요청부터 완료까지 걸린 시간")
+            .register(meterRegistry);
+  }
+
+  @Scheduled(
+      fixedRateString = "#{@sseProperties.pingInterval / @sseProperties.pingShards}",
+      scheduler = "sseScheduler")
   public void sendPing() {
-    emitterRepository
-        .findAllEmitters()
-        .forEach(
-            (id, emitter) -> {
-              try {
-                SseEmitter.SseEventBuilder event = SseEmitter.event().name("dummy").data("ping");
-                emitter.send(event);
-              } catch (IOException e) {
-                emitterRepository.deleteById(id);
-              }
-            });
+    int shard = (int) (tick.getAndIncrement() % sseProperties.getPingShards());
+    emitterRepository.findAllInShard(shard).forEach(this::ping);
+  }
+
+  private void ping(SseConnection connection) {
+    long startedAt = System.nanoTime();
+    dispatcher.enqueue(
+        connection,
+        SseEmitter.event().name("dummy").data("ping"),
+        () -> pingLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
   }
 }
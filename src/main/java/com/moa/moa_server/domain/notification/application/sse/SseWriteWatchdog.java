@@ -0,0 +1,94 @@
+package com.moa.moa_server.domain.notification.application.sse;
+
+import com.moa.moa_server.domain.notification.config.SseProperties;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import com.moa.moa_server.domain.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 쓰기 제한 시간({@code sse.write-timeout})을 강제하는 감시자.
+ *
+ * <p>전송 스레드는 쓰기 전후로 {@link #begin}/{@link #end}를 호출하고, 감시자는 제한 시간을 넘긴 쓰기의 연결을 저장소에서 제거한 뒤 서블릿 비동기
+ * 컨텍스트를 종료한다. SseEmitter의 send와 complete는 같은 락을 쓰므로 emitter를 종료하지 않고 컨테이너에 응답 종료를 맡기며, 컨테이너가 소켓을
+ * 닫으면 멈춰 있던 쓰기도 예외로 끝나 전송 스레드가 반환된다.
+ */
+@Slf4j
+@Component
+public class SseWriteWatchdog {
+
+  private final EmitterRepository emitterRepository;
+  private final SseProperties sseProperties;
+  private final Counter timeouts;
+
+  /** 전송 스레드별 진행 중인 쓰기 (스레드는 한 번에 하나의 쓰기만 수행) */
+  private final Map<Thread, InFlightWrite> inFlight = new ConcurrentHashMap<>();
+
+  public SseWriteWatchdog(
+      EmitterRepository emitterRepository, SseProperties sseProperties, MeterRegistry registry) {
+    this.emitterRepository = emitterRepository;
+    this.sseProperties = sseProperties;
+    this.timeouts =
+        Counter.builder("sse.write.timeouts")
+            .description("쓰기 제한 시간을 넘겨 강제 종료된 SSE 연결 수")
+            .register(registry);
+  }
+
+  /** 현재 스레드에서 연결 쓰기 시작 */
+  public void begin(SseConnection connection) {
+    inFlight.put(Thread.currentThread(), new InFlightWrite(connection, System.nanoTime()));
+  }
+
+  /** 현재 스레드의 쓰기 종료 (성공/실패 무관) */
+  public void end() {
+    inFlight.remove(Thread.currentThread());
+  }
+
+  /** 제한 시간을 넘긴 쓰기를 찾아 연결을 강제 종료. 진행 중인 쓰기(최대 전송 스레드 수)만 확인한다. */
+  @Scheduled(fixedDelayString = "#{@sseProperties.writeTimeout / 2}", scheduler = "sseScheduler")
+  public void abortStalledWrites() {
+    long now = System.nanoTime();
+    long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sseProperties.getWriteTimeout());
+    inFlight.forEach(
+        (thread, write) -> {
+          if (now - write.startedAt() < timeoutNanos) return;
+          if (!inFlight.remove(thread, write)) return; // 그 사이 쓰기가 끝남
+
+          SseConnection connection = write.connection();
+          connection.outbox().close();
+          emitterRepository.delete(connection);
+          abort(connection);
+          timeouts.increment();
+          log.info(
+              "[SseWriteWatchdog#abortStalledWrites] 쓰기 제한 시간 초과로 연결 종료 - userId={}, thread={}",
+              connection.userId(),
+              thread.getName());
+        });
+  }
+
+  /** 쓰기 스레드가 잡고 있는 emitter 대신 서블릿 비동기 컨텍스트를 종료해 응답을 닫는다. */
+  private void abort(SseConnection connection) {
+    HttpServletRequest request = connection.request();
+    if (request == null) return;
+    try {
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().complete();
+      }
+    } catch (IllegalStateException e) {
+      // 이미 종료되어 재사용된 요청
+      log.debug(
+          "[SseWriteWatchdog#abort] 이미 종료된 요청 - userId={}, reason={}",
+          connection.userId(),
+          e.getMessage());
+    }
+  }
+
+  private record InFlightWrite(SseConnection connection, long startedAt) {}
+}
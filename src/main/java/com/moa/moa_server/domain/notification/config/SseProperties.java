@@ -1,5 +1,6 @@
 package com.moa.moa_server.domain.notification.config;
 
+import com.moa.moa_server.domain.notification.model.SseConnection;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,9 @@ public class SseProperties {
   private long pingInterval;
   private long staleCleanInterval;
   private long staleThreshold;
+  private int pingShards = 10; // ping 주기를 나누는 슬롯 수 (슬롯마다 해당 사용자 연결에만 ping)
+  private long writeTimeout = 5000; // emitter 1건 전송 제한 시간 (ms)
+  private int sendQueueCapacity = SseConnection.DEFAULT_QUEUE_CAPACITY; // 초과 시 느린 연결로 보고 제거
 
   public void setTimeout(long timeout) {
     this.timeout = timeout;
@@ -28,4 +32,16 @@ public class SseProperties {
   public void setStaleThreshold(long staleThreshold) {
     this.staleThreshold = staleThreshold;
   }
+
+  public void setPingShards(int pingShards) {
+    this.pingShards = pingShards;
+  }
+
+  public void setWriteTimeout(long writeTimeout) {
+    this.writeTimeout = writeTimeout;
+  }
+
+  public void setSendQueueCapacity(int sendQueueCapacity) {
+    this.sendQueueCapacity = sendQueueCapacity;
+  }
 }
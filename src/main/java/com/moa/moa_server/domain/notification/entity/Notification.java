@@ -10,11 +10,18 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "notification")
+@Table(
+    name = "notification",
+    indexes =
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, id"))
 public class Notification extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+  @SequenceGenerator(
+      name = "notification_seq",
+      sequenceName = "notification_seq",
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
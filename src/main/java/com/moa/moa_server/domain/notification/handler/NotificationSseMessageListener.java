@@ -0,0 +1,73 @@
+package com.moa.moa_server.domain.notification.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moa.moa_server.domain.notification.application.event.SseConnectionChangedEvent;
+import com.moa.moa_server.domain.notification.application.sse.NotificationSseBroadcaster;
+import com.moa.moa_server.domain.notification.dto.NotificationItem;
+import com.moa.moa_server.domain.notification.repository.NotificationEmitterRepository;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 서버에 SSE 연결이 있는 사용자의 알림 채널만 구독해, 수신한 알림을 이 서버의 emitter로 전송한다.
+ *
+ * <p>사용자의 첫 연결 시 구독하고 마지막 연결이 끊기면 구독을 해제한다. 구독 상태는 사용자별로 직렬화해 현재 연결 여부와 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationSseMessageListener implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+  private final NotificationEmitterRepository emitterRepository;
+  private final NotificationSseBroadcaster broadcaster;
+  private final ObjectMapper objectMapper;
+
+  private final Map<Long, ChannelTopic> subscriptions = new ConcurrentHashMap<>();
+
+  @EventListener
+  public void handleConnectionChanged(SseConnectionChangedEvent event) {
+    subscriptions.compute(
+        event.userId(),
+        (userId, topic) -> {
+          boolean connected = emitterRepository.hasConnections(userId);
+          if (connected && topic == null) {
+            ChannelTopic newTopic = new ChannelTopic(NotificationSseBroadcaster.channelOf(userId));
+            listenerContainer.addMessageListener(this, newTopic);
+            return newTopic;
+          }
+          if (!connected && topic != null) {
+            listenerContainer.removeMessageListener(this, topic);
+            return null;
+          }
+          return topic;
+        });
+  }
+
+  public boolean isSubscribed(Long userId) {
+    return subscriptions.containsKey(userId);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+    try {
+      Long userId =
+          Long.valueOf(channel.substring(NotificationSseBroadcaster.USER_CHANNEL_PREFIX.length()));
+      NotificationItem item = objectMapper.readValue(message.getBody(), NotificationItem.class);
+      broadcaster.sendLocal(userId, item);
+    } catch (IOException | NumberFormatException e) {
+      log.warn("[NotificationSseMessageListener#onMessage] 잘못된 메시지 - channel={}", channel, e);
+    }
+  }
+}
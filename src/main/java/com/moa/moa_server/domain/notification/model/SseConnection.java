@@ -0,0 +1,46 @@
+package com.moa.moa_server.domain.notification.model;
+
+import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 사용자 한 명의 SSE 연결.
+ *
+ * @param id 연결 ID (userId_생성시각)
+ * @param userId 알림 수신 대상 사용자 ID
+ * @param emitter 연결된 SseEmitter
+ * @param createdAt 연결 생성 시각 (epoch millis), 오래된 연결 정리 기준
+ * @param outbox 전송 대기열
+ * @param request 구독 요청 (쓰기가 멈춘 연결의 비동기 응답을 강제 종료할 때 사용, 없으면 null)
+ */
+public record SseConnection(
+    String id,
+    Long userId,
+    SseEmitter emitter,
+    long createdAt,
+    SseOutbox outbox,
+    @Nullable HttpServletRequest request) {
+
+  public static final int DEFAULT_QUEUE_CAPACITY = 32;
+
+  public SseConnection(String id, Long userId, SseEmitter emitter, long createdAt) {
+    this(id, userId, emitter, createdAt, new SseOutbox(DEFAULT_QUEUE_CAPACITY));
+  }
+
+  public SseConnection(
+      String id, Long userId, SseEmitter emitter, long createdAt, SseOutbox outbox) {
+    this(id, userId, emitter, createdAt, outbox, null);
+  }
+
+  public static SseConnection of(Long userId, SseEmitter emitter, int queueCapacity) {
+    return of(userId, emitter, queueCapacity, null);
+  }
+
+  public static SseConnection of(
+      Long userId, SseEmitter emitter, int queueCapacity, @Nullable HttpServletRequest request) {
+    long now = System.currentTimeMillis();
+    return new SseConnection(
+        userId + "_" + now, userId, emitter, now, new SseOutbox(queueCapacity), request);
+  }
+}
@@ -0,0 +1,64 @@
+package com.moa.moa_server.domain.notification.model;
+
+import jakarta.annotation.Nullable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 연결 1개의 전송 대기열.
+ *
+ * <p>크기가 제한된 큐이며, 한 번에 하나의 전송 작업만 큐를 비우도록(drain) 해 이벤트 순서를 보장한다. 알림과 ping 모두 이 대기열을 거치므로 연결마다 쓰기
+ * 스레드는 최대 하나다. 닫힌 뒤에는 이벤트를 받지 않는다.
+ */
+public class SseOutbox {
+
+  private final BlockingQueue<Entry> queue;
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicBoolean closed = new AtomicBoolean();
+
+  public SseOutbox(int capacity) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  /**
+   * 이벤트 추가.
+   *
+   * @param onSent 전송 완료 시 전송 스레드에서 실행할 콜백 (없으면 null)
+   * @return 큐가 가득 찼거나 닫혔으면 false
+   */
+  public boolean offer(SseEmitter.SseEventBuilder event, @Nullable Runnable onSent) {
+    return !closed.get() && queue.offer(new Entry(event, onSent));
+  }
+
+  public Entry poll() {
+    return closed.get() ? null : queue.poll();
+  }
+
+  /** 전송 작업 시작 (이미 다른 작업이 전송 중이면 false) */
+  public boolean tryStartDrain() {
+    return draining.compareAndSet(false, true);
+  }
+
+  public void finishDrain() {
+    draining.set(false);
+  }
+
+  public boolean hasPending() {
+    return !closed.get() && !queue.isEmpty();
+  }
+
+  /** 대기열을 닫고 남은 이벤트를 버린다. 이번 호출로 닫혔으면 true */
+  public boolean close() {
+    if (!closed.compareAndSet(false, true)) return false;
+    queue.clear();
+    return true;
+  }
+
+  public boolean isClosed() {
+    return closed.get();
+  }
+
+  public record Entry(SseEmitter.SseEventBuilder event, @Nullable Runnable onSent) {}
+}
@@ -1,14 +1,25 @@
 package com.moa.moa_server.domain.notification.repository;
 
-import java.util.Map;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import java.util.List;
+import java.util.function.Predicate;
 
 public interface EmitterRepository {
-  void save(String id, SseEmitter emitter);
+  void save(SseConnection connection);
 
-  void deleteById(String id);
+  void delete(SseConnection connection);
 
-  Map<String, SseEmitter> findAllEmitters();
+  void deleteAllByUserId(Long userId);
 
-  public Map<String, SseEmitter> findAllByUserId(Long userId);
+  /** 조건에 맞는 연결을 모두 삭제하고 삭제한 개수를 반환 */
+  int deleteAllIf(Predicate<SseConnection> condition);
+
+  List<SseConnection> findAll();
+
+  List<SseConnection> findAllByUserId(Long userId);
+
+  /** 사용자 ID 해시 기준으로 ping 슬롯({@code sse.ping-shards}) 중 shard번 슬롯에 속한 연결 조회 */
+  List<SseConnection> findAllInShard(int shard);
+
+  int count();
 }
@@ -1,48 +1,175 @@
 package com.moa.moa_server.domain.notification.repository;
 
+import com.moa.moa_server.domain.notification.application.event.SseConnectionChangedEvent;
+import com.moa.moa_server.domain.notification.config.SseProperties;
 import com.moa.moa_server.domain.notification.entity.Notification;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 이 서버에 연결된 SSE emitter 저장소.
+ *
+ * <p>사용자 ID → (연결 ID → 연결) 2단계 맵으로 관리해, 사용자별 조회/삭제는 해당 사용자의 연결 수만큼만 탐색한다. 연결이 모두 삭제된 사용자의 항목은 원자적으로
+ * 제거한다.
+ *
+ * <p>ping 슬롯별 사용자 ID 색인을 함께 유지해, 슬롯 단위 조회는 전체 사용자가 아닌 해당 슬롯의 사용자만 탐색한다. 색인은 사용자의 첫 연결 등록과 마지막 연결 삭제
+ * 시에만 갱신하며, 같은 사용자 항목의 compute 안에서 갱신해 등록/삭제 순서가 뒤바뀌지 않게 한다.
+ */
 @Component
-@RequiredArgsConstructor
 public class NotificationEmitterRepository implements EmitterRepository {
 
-  private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+  private final Map<Long, Map<String, SseConnection>> connectionsByUser = new ConcurrentHashMap<>();
+  private final List<Set<Long>> userIdsByShard;
+  private final int shardCount;
 
   private final NotificationRepository notificationRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public void save(String id, SseEmitter emitter) {
-    emitters.put(id, emitter);
+  public NotificationEmitterRepository(
+      NotificationRepository notificationRepository,
+      ApplicationEventPublisher eventPublisher,
+      SseProperties sseProperties) {
+    this.notificationRepository = notificationRepository;
+    this.eventPublisher = eventPublisher;
+    this.shardCount = sseProperties.getPingShards();
+    this.userIdsByShard =
+        IntStream.range(0, shardCount)
+            .<Set<Long>>mapToObj(i -> ConcurrentHashMap.newKeySet())
+            .toList();
   }
 
-  public void deleteById(String id) {
-    emitters.remove(id);
+  @Override
+  public void save(SseConnection connection) {
+    AtomicBoolean firstConnection = new AtomicBoolean();
+    connectionsByUser.compute(
+        connection.userId(),
+        (userId, connections) -> {
+          Map<String, SseConnection> result = connections;
+          if (result == null) {
+            result = new ConcurrentHashMap<>();
+            firstConnection.set(true);
+            shardIndexOf(userId).add(userId);
+          }
+          result.put(connection.id(), connection);
+          return result;
+        });
+    if (firstConnection.get()) {
+      eventPublisher.publishEvent(new SseConnectionChangedEvent(connection.userId()));
+    }
   }
 
-  public Map<String, SseEmitter> findAllEmitters() {
-    return emitters;
+  @Override
+  public void delete(SseConnection connection) {
+    AtomicBoolean lastConnection = new AtomicBoolean();
+    connectionsByUser.computeIfPresent(
+        connection.userId(),
+        (userId, connections) -> {
+          connections.remove(connection.id(), connection);
+          if (!connections.isEmpty()) return connections;
+          lastConnection.set(true);
+          shardIndexOf(userId).remove(userId);
+          return null;
+        });
+    if (lastConnection.get()) {
+      eventPublisher.publishEvent(new SseConnectionChangedEvent(connection.userId()));
+    }
   }
 
-  public Map<String, SseEmitter> findAllByUserId(Long userId) {
-    return emitters.entrySet().stream()
-        .filter(e -> e.getKey().startsWith(userId + "_"))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  @Override
+  public void deleteAllByUserId(Long userId) {
+    AtomicBoolean removed = new AtomicBoolean();
+    connectionsByUser.computeIfPresent(
+        userId,
+        (key, connections) -> {
+          removed.set(true);
+          shardIndexOf(key).remove(key);
+          return null;
+        });
+    if (removed.get()) {
+      eventPublisher.publishEvent(new SseConnectionChangedEvent(userId));
+    }
   }
 
-  public void deleteAllByUserId(Long userId) {
-    findAllByUserId(userId).keySet().forEach(this::deleteById);
+  @Override
+  public int deleteAllIf(Predicate<SseConnection> condition) {
+    AtomicInteger deleted = new AtomicInteger();
+    List<Long> disconnectedUserIds = new ArrayList<>();
+    connectionsByUser
+        .keySet()
+        .forEach(
+            userId ->
+                connectionsByUser.computeIfPresent(
+                    userId,
+                    (key, connections) -> {
+                      int before = connections.size();
+                      connections.values().removeIf(condition);
+                      deleted.addAndGet(before - connections.size());
+                      if (connections.isEmpty()) {
+                        disconnectedUserIds.add(key);
+                        shardIndexOf(key).remove(key);
+                        return null;
+                      }
+                      return connections;
+                    }));
+    disconnectedUserIds.forEach(
+        userId -> eventPublisher.publishEvent(new SseConnectionChangedEvent(userId)));
+    return deleted.get();
+  }
+
+  public boolean hasConnections(Long userId) {
+    return connectionsByUser.containsKey(userId);
+  }
+
+  @Override
+  public List<SseConnection> findAll() {
+    return connectionsByUser.values().stream()
+        .flatMap(connections -> connections.values().stream())
+        .toList();
+  }
+
+  @Override
+  public List<SseConnection> findAllByUserId(Long userId) {
+    Map<String, SseConnection> connections = connectionsByUser.get(userId);
+    return connections != null ? List.copyOf(connections.values()) : List.of();
+  }
+
+  @Override
+  public List<SseConnection> findAllInShard(int shard) {
+    return userIdsByShard.get(shard).stream()
+        .map(connectionsByUser::get)
+        .filter(Objects::nonNull)
+        .flatMap(connections -> connections.values().stream())
+        .toList();
+  }
+
+  private Set<Long> shardIndexOf(Long userId) {
+    return userIdsByShard.get(shardOf(userId, shardCount));
+  }
+
+  public static int shardOf(Long userId, int shardCount) {
+    return Math.floorMod(userId.hashCode(), shardCount);
+  }
+
+  @Override
+  public int count() {
+    return connectionsByUser.values().stream().mapToInt(Map::size).sum();
   }
 
   @Transactional(readOnly = true)
   public List<Notification> findCachedEventsAfter(Long userId, String lastEventId) {
     Long lastId = Long.parseLong(lastEventId);
-    return notificationRepository.findByUserIdAndIdGreaterThanOrderById(userId, lastId);
+    return notificationRepository.findByUserAfter(userId, lastId);
   }
 }
@@ -9,4 +9,12 @@ import java.util.List;
 public interface NotificationRepositoryCustom {
   List<Notification> findByUser(
       User user, @Nullable CreatedAtNotificationIdCursor cursor, int size);
+
+  /**
+   * 특정 알림 이후에 생성된 사용자의 알림을 생성 순으로 조회.
+   *
+   * <p>알림 ID는 서버별로 블록 단위 발급되어 서버 간 생성 순서와 일치하지 않으므로 (created_at, id) 기준으로 비교한다. 기준 알림이 삭제되어 찾을 수
+   * 없으면 ID 기준으로 조회한다.
+   */
+  List<Notification> findByUserAfter(Long userId, Long lastNotificationId);
 }
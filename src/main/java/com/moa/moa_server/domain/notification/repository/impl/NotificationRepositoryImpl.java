@@ -6,8 +6,10 @@ import com.moa.moa_server.domain.notification.entity.QNotification;
 import com.moa.moa_server.domain.notification.repository.NotificationRepositoryCustom;
 import com.moa.moa_server.domain.user.entity.User;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -44,4 +46,34 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
         .limit(size + 1)
         .fetch();
   }
+
+  @Override
+  public List<Notification> findByUserAfter(Long userId, Long lastNotificationId) {
+    QNotification notification = QNotification.notification;
+
+    LocalDateTime lastCreatedAt =
+        queryFactory
+            .select(notification.createdAt)
+            .from(notification)
+            .where(notification.id.eq(lastNotificationId))
+            .fetchOne();
+
+    BooleanExpression after =
+        lastCreatedAt != null
+            ? notification
+                .createdAt
+                .gt(lastCreatedAt)
+                .or(
+                    notification
+                        .createdAt
+                        .eq(lastCreatedAt)
+                        .and(notification.id.gt(lastNotificationId)))
+            : notification.id.gt(lastNotificationId); // 기준 알림을 찾을 수 없으면 ID 기준으로 대체
+
+    return queryFactory
+        .selectFrom(notification)
+        .where(notification.user.id.eq(userId), after)
+        .orderBy(notification.createdAt.asc(), notification.id.asc())
+        .fetch();
+  }
 }
@@ -16,7 +16,11 @@ import lombok.*;
 public class VoteRanking extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_ranking_seq")
+  @SequenceGenerator(
+      name = "vote_ranking_seq",
+      sequenceName = "vote_ranking_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "vote_id", nullable = false)
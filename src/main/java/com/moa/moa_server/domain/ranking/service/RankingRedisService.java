@@ -16,9 +16,14 @@ public class RankingRedisService {
 
   private final StringRedisTemplate redisTemplate;
 
+  /** 오늘(UTC) 랭킹 갱신 대상 투표를 기록하는 ZSet 키 */
+  public static String updatedVoteKey() {
+    return "ranking:changed:"
+        + LocalDate.now(ZoneOffset.UTC).format(DateTimeFormatter.BASIC_ISO_DATE);
+  }
+
   public void trackUpdatedVote(Long voteId) {
-    String key =
-        "ranking:changed:" + LocalDate.now(ZoneOffset.UTC).format(DateTimeFormatter.BASIC_ISO_DATE);
+    String key = updatedVoteKey();
     long now = Instant.now().getEpochSecond(); // score: 현재 timestamp
     redisTemplate.opsForZSet().add(key, voteId.toString(), now);
   }
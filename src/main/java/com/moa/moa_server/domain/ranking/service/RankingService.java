@@ -3,15 +3,12 @@ package com.moa.moa_server.domain.ranking.service;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.handler.GroupErrorCode;
 import com.moa.moa_server.domain.group.handler.GroupException;
-import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
 import com.moa.moa_server.domain.ranking.dto.TopVoteItem;
 import com.moa.moa_server.domain.ranking.dto.TopVoteResponse;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.dto.response.result.VoteOptionResult;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
@@ -36,11 +33,11 @@ public class RankingService {
   private final StringRedisTemplate redisTemplate;
   private final VoteRepository voteRepository;
   private final VoteResultService voteResultService;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupRepository groupRepository;
-  private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
 
-  @Transactional
+  @Transactional(readOnly = true)
   public TopVoteResponse getTopVotes(Long userId, Long groupId) {
     // 유저/그룹/멤버십 검증
     User user = validateAndGetuser(userId);
@@ -64,12 +61,7 @@ public class RankingService {
 
   private User validateAndGetuser(Long userId) {
     // 유저 조회 및 활성 상태 확인
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private void validateGroupMembership(User user, Long groupId) {
@@ -83,10 +75,8 @@ public class RankingService {
             .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
     // 비공개 그룹이라면 멤버십 확인
-    if (!group.isPublicGroup()) {
-      groupMemberRepository
-          .findByGroupAndUser(group, user)
-          .orElseThrow(() -> new GroupException(GroupErrorCode.FORBIDDEN));
+    if (!group.isPublicGroup() && !membershipIndex.isMember(user.getId(), groupId)) {
+      throw new GroupException(GroupErrorCode.FORBIDDEN);
     }
   }
 
@@ -105,19 +95,23 @@ public class RankingService {
     List<Long> idList = voteIds.stream().map(Long::valueOf).collect(Collectors.toList());
     List<Vote> votes = voteRepository.findAllById(idList);
 
-    return votes.stream().map(this::toTopVoteItem).collect(Collectors.toList());
+    return toTopVoteItems(votes);
   }
 
   private List<TopVoteItem> getTopVotesByAllGroups(User user) {
-    List<Long> groupIds = groupMemberRepository.findGroupIdsByUser(user);
+    Set<Long> groupIds = new HashSet<>(membershipIndex.getGroupIds(user.getId()));
     groupIds.add(1L); // 공개 그룹 포함
 
-    return groupIds.stream()
-        .flatMap(gid -> getTopVotesWithScore(gid).stream())
-        .sorted(Map.Entry.<TopVoteItem, Double>comparingByValue().reversed())
-        .limit(3)
-        .map(Map.Entry::getKey)
-        .collect(Collectors.toList());
+    List<Vote> topVotes =
+        groupIds.stream()
+            .flatMap(gid -> getTopVotesWithScore(gid).stream())
+            .sorted(Map.Entry.<Vote, Double>comparingByValue().reversed())
+            .limit(3)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+
+    // 최종 Top3에 대해서만 결과 일괄 조회
+    return toTopVoteItems(topVotes);
   }
 
   private String buildRankingKey(Long groupId) {
@@ -127,7 +121,7 @@ public class RankingService {
     return base + ":" + g + ":" + date; // 예: ranking:3:20250716
   }
 
-  private List<Map.Entry<TopVoteItem, Double>> getTopVotesWithScore(Long groupId) {
+  private List<Map.Entry<Vote, Double>> getTopVotesWithScore(Long groupId) {
     String key = buildRankingKey(groupId);
     Set<ZSetOperations.TypedTuple<String>> tuples =
         redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, 2);
@@ -152,18 +146,14 @@ public class RankingService {
     List<Vote> votes = voteRepository.findAllById(voteIds);
 
     return votes.stream()
-        .map(
-            vote -> {
-              List<VoteOptionResult> results = voteResultService.getResults(vote);
-              TopVoteItem topVoteItem = TopVoteItem.from(vote, results);
-              Double score = scoreMap.get(vote.getId());
-              return Map.entry(topVoteItem, score);
-            })
+        .map(vote -> Map.entry(vote, scoreMap.get(vote.getId())))
         .collect(Collectors.toList());
   }
 
-  private TopVoteItem toTopVoteItem(Vote vote) {
-    List<VoteOptionResult> results = voteResultService.getResults(vote);
-    return TopVoteItem.from(vote, results);
+  private List<TopVoteItem> toTopVoteItems(List<Vote> votes) {
+    Map<Long, List<VoteOptionResult>> resultsByVoteId = voteResultService.getResults(votes);
+    return votes.stream()
+        .map(vote -> TopVoteItem.from(vote, resultsByVoteId.get(vote.getId())))
+        .collect(Collectors.toList());
   }
 }
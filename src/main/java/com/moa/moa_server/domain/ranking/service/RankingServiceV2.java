@@ -4,15 +4,12 @@ import com.moa.moa_server.domain.comment.repository.CommentRepository;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.handler.GroupErrorCode;
 import com.moa.moa_server.domain.group.handler.GroupException;
-import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
 import com.moa.moa_server.domain.ranking.dto.TopVoteItemV2;
 import com.moa.moa_server.domain.ranking.dto.TopVoteResponseV2;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
@@ -39,13 +36,13 @@ public class RankingServiceV2 {
   private final StringRedisTemplate redisTemplate;
   private final VoteRepository voteRepository;
   private final VoteResultService voteResultService;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupRepository groupRepository;
-  private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
   private final CommentRepository commentRepository;
   private final VoteResponseRepository voteResponseRepository;
 
-  @Transactional
+  @Transactional(readOnly = true)
   public TopVoteResponseV2 getTopVotesV2(Long userId, Long groupId) {
     // 유저/그룹/멤버십 검증
     User user = validateAndGetuser(userId);
@@ -69,12 +66,7 @@ public class RankingServiceV2 {
 
   private User validateAndGetuser(Long userId) {
     // 유저 조회 및 활성 상태 확인
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private void validateGroupMembership(User user, Long groupId) {
@@ -88,10 +80,8 @@ public class RankingServiceV2 {
             .orElseThrow(() -> new GroupException(GroupErrorCode.GROUP_NOT_FOUND));
 
     // 비공개 그룹이라면 멤버십 확인
-    if (!group.isPublicGroup()) {
-      groupMemberRepository
-          .findByGroupAndUser(group, user)
-          .orElseThrow(() -> new GroupException(GroupErrorCode.FORBIDDEN));
+    if (!group.isPublicGroup() && !membershipIndex.isMember(user.getId(), groupId)) {
+      throw new GroupException(GroupErrorCode.FORBIDDEN);
     }
   }
 
@@ -114,7 +104,7 @@ public class RankingServiceV2 {
   }
 
   private List<TopVoteItemV2> getTopVotesByAllGroups(User user) {
-    List<Long> groupIds = groupMemberRepository.findGroupIdsByUser(user);
+    Set<Long> groupIds = new HashSet<>(membershipIndex.getGroupIds(user.getId()));
     groupIds.add(PUBLIC_GROUP_ID); // 공개 그룹 포함
 
     return groupIds.stream()
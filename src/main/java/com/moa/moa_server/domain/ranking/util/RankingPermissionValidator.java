@@ -1,7 +1,7 @@
 package com.moa.moa_server.domain.ranking.util;
 
 import com.moa.moa_server.domain.group.entity.Group;
-import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
 import com.moa.moa_server.domain.ranking.service.RankingRedisService;
 import com.moa.moa_server.domain.user.entity.User;
 import com.moa.moa_server.domain.vote.entity.Vote;
@@ -12,13 +12,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RankingPermissionValidator {
 
-  private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
   private final RankingRedisService rankingRedisService;
 
   public boolean isAccessibleAsTopRankedVote(User user, Vote vote) {
     // top3 투표는 그룹 멤버인 경우 허용
     if (!rankingRedisService.isTopRankedVote(vote)) return false;
     Group group = vote.getGroup();
-    return group.isPublicGroup() || groupMemberRepository.existsByGroupAndUser(group, user);
+    return group.isPublicGroup() || membershipIndex.isMember(user.getId(), group.getId());
   }
 }
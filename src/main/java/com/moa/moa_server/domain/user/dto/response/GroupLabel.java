@@ -1,6 +1,7 @@
 package com.moa.moa_server.domain.user.dto.response;
 
 import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.model.GroupSnapshot;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "그룹 라벨")
@@ -11,4 +12,8 @@ public record GroupLabel(
   public static GroupLabel from(Group group) {
     return new GroupLabel(group.getId(), group.getName());
   }
+
+  public static GroupLabel from(GroupSnapshot group) {
+    return new GroupLabel(group.id(), group.name());
+  }
 }
@@ -4,6 +4,8 @@ import com.moa.moa_server.domain.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
@@ -11,8 +13,12 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 @Table(name = "`user`")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User extends BaseTimeEntity {
 
+  public static final String CACHE_REGION = "user_entity";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
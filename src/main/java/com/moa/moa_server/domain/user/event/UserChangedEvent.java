@@ -0,0 +1,4 @@
+package com.moa.moa_server.domain.user.event;
+
+/** 사용자 정보(닉네임, 상태) 변경 이벤트 (커밋 이후 사용자 스냅샷 캐시를 무효화하는 데 사용) */
+public record UserChangedEvent(Long userId) {}
@@ -0,0 +1,15 @@
+package com.moa.moa_server.domain.user.model;
+
+import com.moa.moa_server.domain.user.entity.User;
+
+/**
+ * 인증된 사용자의 경량 스냅샷.
+ *
+ * <p>요청마다 User 엔티티를 다시 조회하지 않도록 인증 필터에서 한 번 만들고, 공유 캐시(Redis)에 짧게 보관한다.
+ */
+public record ActiveUser(Long id, String nickname, User.UserStatus userStatus) {
+
+  public static ActiveUser from(User user) {
+    return new ActiveUser(user.getId(), user.getNickname(), user.getUserStatus());
+  }
+}
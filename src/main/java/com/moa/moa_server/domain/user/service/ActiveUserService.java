@@ -0,0 +1,127 @@
+package com.moa.moa_server.domain.user.service;
+
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.event.UserChangedEvent;
+import com.moa.moa_server.domain.user.handler.UserErrorCode;
+import com.moa.moa_server.domain.user.handler.UserException;
+import com.moa.moa_server.domain.user.model.ActiveUser;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 인증된 사용자 스냅샷({@link ActiveUser}) 조회 서비스.
+ *
+ * <p>조회 순서는 요청 속성 → Redis(짧은 TTL) → DB이며, 한 요청 안에서는 같은 사용자를 한 번만 조회한다. 닉네임 변경, 탈퇴 시 {@link
+ * UserChangedEvent}로 커밋 이후 캐시를 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActiveUserService {
+
+  public static final String CACHE_PREFIX = "user:active:";
+  private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+  private static final String VALUE_DELIMITER = ":"; // 값 형식: {상태}:{닉네임}
+  private static final String REQUEST_ATTRIBUTE_PREFIX = ActiveUser.class.getName() + ":";
+
+  private final UserRepository userRepository;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  /**
+   * 사용자 스냅샷을 조회. 상태 검증은 하지 않는다.
+   *
+   * @return 사용자가 없으면 null
+   */
+  @Nullable
+  public ActiveUser resolve(Long userId) {
+    String attributeName = REQUEST_ATTRIBUTE_PREFIX + userId;
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null
+        && attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST)
+            instanceof ActiveUser cached) {
+      return cached;
+    }
+
+    ActiveUser activeUser = loadCached(userId);
+    if (activeUser != null && attributes != null) {
+      attributes.setAttribute(attributeName, activeUser, RequestAttributes.SCOPE_REQUEST);
+    }
+    return activeUser;
+  }
+
+  /** 사용자 스냅샷을 조회하고 활성 사용자인지 검증. */
+  public ActiveUser getActiveUser(Long userId) {
+    ActiveUser activeUser = resolve(userId);
+    if (activeUser == null) {
+      throw new UserException(UserErrorCode.USER_NOT_FOUND);
+    }
+    AuthUserValidator.validateActive(activeUser);
+    return activeUser;
+  }
+
+  /**
+   * 활성 사용자인지 검증하고 연관관계 설정, 조회 조건에 사용할 User 참조(프록시)를 반환.
+   *
+   * <p>참조의 ID 외 필드에 접근하면 그 시점에 엔티티를 조회하므로, 닉네임 등은 {@link #getActiveUser}의 스냅샷을 사용한다.
+   */
+  public User getActiveUserReference(Long userId) {
+    return userRepository.getReferenceById(getActiveUser(userId).id());
+  }
+
+  /** 사용자 스냅샷 캐시 무효화 (현재 요청 포함) */
+  public void evict(Long userId) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.removeAttribute(
+          REQUEST_ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+    }
+    try {
+      stringRedisTemplate.delete(CACHE_PREFIX + userId);
+    } catch (Exception e) {
+      log.warn("[ActiveUserService#evict] 사용자 캐시 삭제 실패 - userId={}", userId, e);
+    }
+  }
+
+  @TransactionalEventListener
+  public void handleUserChanged(UserChangedEvent event) {
+    evict(event.userId());
+  }
+
+  private ActiveUser loadCached(Long userId) {
+    String key = CACHE_PREFIX + userId;
+    try {
+      String cached = stringRedisTemplate.opsForValue().get(key);
+      if (cached != null) {
+        String[] parts = cached.split(VALUE_DELIMITER, 2); // 닉네임에 구분자가 있어도 상태 뒤 전체를 닉네임으로 사용
+        return new ActiveUser(userId, parts[1], User.UserStatus.valueOf(parts[0]));
+      }
+    } catch (Exception e) {
+      log.warn("[ActiveUserService#loadCached] 사용자 캐시 조회 실패, DB 조회 - userId={}", userId, e);
+      return userRepository.findById(userId).map(ActiveUser::from).orElse(null);
+    }
+
+    ActiveUser activeUser = userRepository.findById(userId).map(ActiveUser::from).orElse(null);
+    if (activeUser != null) {
+      try {
+        stringRedisTemplate
+            .opsForValue()
+            .set(
+                key,
+                activeUser.userStatus().name() + VALUE_DELIMITER + activeUser.nickname(),
+                CACHE_TTL);
+      } catch (Exception e) {
+        log.warn("[ActiveUserService#loadCached] 사용자 캐시 저장 실패 - userId={}", userId, e);
+      }
+    }
+    return activeUser;
+  }
+}
@@ -7,16 +7,18 @@ import com.moa.moa_server.domain.auth.repository.OAuthRepository;
 import com.moa.moa_server.domain.auth.repository.TokenRepository;
 import com.moa.moa_server.domain.auth.service.AuthService;
 import com.moa.moa_server.domain.global.cursor.GroupNameGroupIdCursor;
-import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.entity.GroupMember;
+import com.moa.moa_server.domain.group.event.GroupMembershipChangedEvent;
 import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.service.GroupService;
 import com.moa.moa_server.domain.group.util.GroupLookupHelper;
 import com.moa.moa_server.domain.user.dto.request.UserUpdateRequest;
 import com.moa.moa_server.domain.user.dto.response.*;
 import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.event.UserChangedEvent;
 import com.moa.moa_server.domain.user.handler.UserErrorCode;
 import com.moa.moa_server.domain.user.handler.UserException;
+import com.moa.moa_server.domain.user.model.ActiveUser;
 import com.moa.moa_server.domain.user.repository.UserRepository;
 import com.moa.moa_server.domain.user.util.AuthUserValidator;
 import com.moa.moa_server.domain.user.util.UserValidator;
@@ -25,6 +27,7 @@ import jakarta.annotation.Nullable;
 import java.util.LinkedList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +47,8 @@ public class UserService {
   private final GroupLookupHelper groupLookupHelper;
   private final GroupService groupService;
   private final AuthService authService;
+  private final ActiveUserService activeUserService;
+  private final ApplicationEventPublisher eventPublisher;
 
   @Transactional(readOnly = true)
   public GroupLabelResponse getJoinedGroupLabels(
@@ -52,36 +57,31 @@ public class UserService {
     GroupNameGroupIdCursor parsedCursor =
         cursor != null ? GroupNameGroupIdCursor.parse(cursor) : null;
 
-    // 유저 조회 및 검증
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    // 유저 검증
+    User user = activeUserService.getActiveUserReference(userId);
 
     // 그룹 목록 조회
-    List<Group> groups =
+    List<GroupLabel> labels =
         new LinkedList<>(
-            groupMemberRepository.findJoinedGroupLabels(user, parsedCursor, pageSize + 1));
+            groupMemberRepository.findJoinedGroupLabels(user, parsedCursor, pageSize + 1).stream()
+                .map(GroupLabel::from)
+                .toList());
 
     // 첫 페이지인 경우 공개 그룹을 제일 앞에 추가
     if (cursor == null) {
-      Group publicGroup = groupLookupHelper.getPublicGroup();
-      groups.addFirst(publicGroup);
+      labels.addFirst(GroupLabel.from(groupLookupHelper.getPublicGroup()));
     }
 
     // 응답 구성
-    boolean hasNext = groups.size() > pageSize;
-    if (hasNext) groups = groups.subList(0, pageSize);
+    boolean hasNext = labels.size() > pageSize;
+    if (hasNext) labels = labels.subList(0, pageSize);
 
     String nextCursor =
-        groups.isEmpty()
+        labels.isEmpty()
             ? null
-            : new GroupNameGroupIdCursor(groups.getLast().getName(), groups.getLast().getId())
+            : new GroupNameGroupIdCursor(labels.getLast().name(), labels.getLast().groupId())
                 .encode();
 
-    List<GroupLabel> labels = groups.stream().map(GroupLabel::from).toList();
-
     return new GroupLabelResponse(labels, nextCursor, hasNext, labels.size());
   }
 
@@ -92,12 +92,8 @@ public class UserService {
     GroupNameGroupIdCursor parsedCursor =
         cursor != null ? GroupNameGroupIdCursor.parse(cursor) : null;
 
-    // 유저 조회 및 검증
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
+    // 유저 검증
+    User user = activeUserService.getActiveUserReference(userId);
 
     // 그룹 멤버 목록 조회
     List<GroupMember> members =
@@ -121,13 +117,8 @@ public class UserService {
 
   @Transactional(readOnly = true)
   public UserInfoResponse getUserInfo(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-
-    return UserInfoResponse.from(user.getNickname());
+    ActiveUser user = activeUserService.getActiveUser(userId);
+    return UserInfoResponse.from(user.nickname());
   }
 
   @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -155,6 +146,7 @@ public class UserService {
 
     // 닉네임 변경
     user.updateNickname(newNickname);
+    eventPublisher.publishEvent(new UserChangedEvent(userId)); // 커밋 이후 사용자 캐시 무효화
     return new UserUpdateResponse(newNickname);
   }
 
@@ -171,6 +163,7 @@ public class UserService {
 
     // 2. 그룹 멤버 삭제 (hard delete)
     groupMemberRepository.hardDeleteAllByUserId(userId);
+    eventPublisher.publishEvent(GroupMembershipChangedEvent.of(userId));
 
     // 3. 유저가 생성한 투표 삭제 (soft delete)
     voteRepository.softDeleteAllByUser(user);
@@ -195,5 +188,6 @@ public class UserService {
 
     // 6. 회원 상태 변경 (soft delete)
     user.withdraw();
+    eventPublisher.publishEvent(new UserChangedEvent(userId)); // 커밋 이후 사용자 캐시 무효화
   }
 }
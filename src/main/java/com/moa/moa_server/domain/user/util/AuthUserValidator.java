@@ -3,6 +3,7 @@ package com.moa.moa_server.domain.user.util;
 import com.moa.moa_server.domain.auth.handler.AuthErrorCode;
 import com.moa.moa_server.domain.auth.handler.AuthException;
 import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.model.ActiveUser;
 
 public class AuthUserValidator {
   private AuthUserValidator() {
@@ -18,4 +19,14 @@ public class AuthUserValidator {
       throw new AuthException(AuthErrorCode.USER_WITHDRAWN);
     }
   }
+
+  public static void validateActive(ActiveUser user) {
+    if (user == null) {
+      throw new AuthException(AuthErrorCode.USER_NOT_FOUND);
+    }
+    if (user.userStatus() == User.UserStatus.WITHDRAWN
+        || user.userStatus() == User.UserStatus.DORMANT) {
+      throw new AuthException(AuthErrorCode.USER_WITHDRAWN);
+    }
+  }
 }
@@ -0,0 +1,43 @@
+package com.moa.moa_server.domain.vote.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표 옵션 카운트 로컬 집계 설정.
+ *
+ * <p>활성화 시 응답마다 Redis 카운트를 증가시키지 않고 서버 내에서 합산했다가, 주기마다 파이프라인 1회로 반영한다. 반영 전 서버가 비정상 종료되면 해당 주기의
+ * 증가분은 Redis에 반영되지 않으며, 캐시 유실 시 DB 재집계로 보정된다.
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "vote.count-aggregation")
+public class VoteCountAggregationProperties {
+  private boolean enabled = false;
+  private long flushInterval = 200; // Redis 반영 주기 (ms)
+  private long finalizeMargin = 1000; // 종료 처리 전 반영 주기에 더해 기다리는 여유 시간 (ms)
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void setFlushInterval(long flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  public void setFinalizeMargin(long finalizeMargin) {
+    this.finalizeMargin = finalizeMargin;
+  }
+
+  /**
+   * 투표 종료 후 최종 결과 저장까지 기다릴 시간.
+   *
+   * <p>다른 서버에 적립된 증가분은 해당 서버의 반영 주기가 돌아야 Redis에 들어가므로, 반영 주기와 여유 시간이 지난 뒤에 종료 처리한다. 로컬 집계를 쓰지 않으면
+   * 기다리지 않는다.
+   */
+  public Duration finalizeDelay() {
+    return enabled ? Duration.ofMillis(flushInterval + finalizeMargin) : Duration.ZERO;
+  }
+}
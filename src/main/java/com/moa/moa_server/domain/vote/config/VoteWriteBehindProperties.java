@@ -0,0 +1,47 @@
+package com.moa.moa_server.domain.vote.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표 응답 write-behind 설정.
+ *
+ * <p>활성화 시 중복 검사와 집계는 Redis가 담당하고, vote_response 행은 메모리 큐에 모았다가 배치로 저장한다. 모드를 켜기 전에 생성된 응답은 Redis
+ * 중복 키가 없으므로, 진행 중인 투표가 없는 시점에 전환하는 것을 권장한다.
+ */
+@Getter
+@Component
+@ConfigurationProperties(prefix = "vote.write-behind")
+public class VoteWriteBehindProperties {
+  private boolean enabled = false;
+  private int queueCapacity = 10_000; // 메모리 큐 최대 크기 (초과분은 재처리 경로로 저장)
+  private int batchSize = 500; // 다중 행 INSERT 1회당 최대 행 수
+  private long flushInterval = 500; // 큐 flush 주기 (ms)
+  private long replayInterval = 30_000; // 저널 재처리 주기 (ms)
+  private long replayDelay = 30_000; // 이 시간 이상 저널에 남은 응답만 재처리 (ms)
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public void setFlushInterval(long flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  public void setReplayInterval(long replayInterval) {
+    this.replayInterval = replayInterval;
+  }
+
+  public void setReplayDelay(long replayDelay) {
+    this.replayDelay = replayDelay;
+  }
+}
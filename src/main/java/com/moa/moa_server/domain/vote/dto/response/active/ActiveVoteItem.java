@@ -19,19 +19,29 @@ public record ActiveVoteItem(
     @Schema(description = "관리자 투표 여부 (0: 일반 투표, 1: 그룹 관리자 생성 투표)", example = "0") int adminVote,
     @Schema(description = "투표 성격 (USER, AI, EVENT 중 하나)", example = "USER") String voteType) {
 
-  public static ActiveVoteItem from(Vote vote) {
-    return new ActiveVoteItem(
-        vote.getId(),
-        vote.getGroup().getId(),
-        vote.getGroup()
-            .getName(), // TODO: group.name 조회 시 N+1 쿼리 발생 가능 → fetch join 또는 DTO projection으로 최적화
-        // 필요
-        vote.isAnonymous() ? "익명" : vote.getUser().getNickname(),
-        vote.getContent(),
-        vote.getImageUrl(),
-        vote.getCreatedAt(),
-        vote.getClosedAt(),
-        vote.isAnonymous() ? 0 : (vote.isAdminVote() ? 1 : 0),
-        vote.getVoteType().name());
+  /** 목록 조회 쿼리의 DTO 프로젝션용 생성자 (그룹 이름, 작성자 닉네임을 같은 쿼리에서 조인해 조회) */
+  public ActiveVoteItem(
+      Long voteId,
+      Long groupId,
+      String groupName,
+      String userNickname,
+      boolean anonymous,
+      boolean adminVote,
+      String content,
+      String imageUrl,
+      LocalDateTime createdAt,
+      LocalDateTime closedAt,
+      Vote.VoteType voteType) {
+    this(
+        voteId,
+        groupId,
+        groupName,
+        anonymous ? "익명" : userNickname,
+        content,
+        imageUrl,
+        createdAt,
+        closedAt,
+        anonymous ? 0 : (adminVote ? 1 : 0),
+        voteType.name());
   }
 }
@@ -14,7 +14,15 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "vote")
+@Table(
+    name = "vote",
+    indexes = {
+      @Index(
+          name = "idx_vote_group_status_closed_created",
+          columnList = "group_id, vote_status, closed_at, created_at"),
+      @Index(name = "idx_vote_group_created", columnList = "group_id, created_at, id"),
+      @Index(name = "idx_vote_user_updated", columnList = "user_id, updated_at, id")
+    })
 @SQLDelete(sql = "UPDATE vote SET deleted_at = NOW() WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 public class Vote extends BaseTimeEntity {
@@ -15,7 +15,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 @Table(
     name = "vote_response",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "vote_id"}))
+    uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "vote_id"}),
+    indexes =
+        @Index(name = "idx_vote_response_user_voted", columnList = "user_id, voted_at, vote_id"))
 public class VoteResponse {
 
   @Id
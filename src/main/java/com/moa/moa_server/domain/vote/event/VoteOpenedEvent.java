@@ -0,0 +1,7 @@
+package com.moa.moa_server.domain.vote.event;
+
+import com.moa.moa_server.domain.vote.model.VoteFeedEntry;
+import java.util.List;
+
+/** 투표 공개 이벤트 (커밋 이후 피드 인덱스에 추가하는 데 사용) */
+public record VoteOpenedEvent(List<VoteFeedEntry> entries) {}
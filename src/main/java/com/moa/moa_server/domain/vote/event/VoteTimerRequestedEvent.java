@@ -0,0 +1,6 @@
+package com.moa.moa_server.domain.vote.event;
+
+import com.moa.moa_server.domain.vote.model.VoteTimerEvent;
+
+/** 투표 타이머 등록 요청 이벤트 (커밋 이후 Redis 타이머에 등록해 롤백된 투표의 타이머가 남지 않도록 하는 데 사용) */
+public record VoteTimerRequestedEvent(VoteTimerEvent event, long dueMillis) {}
@@ -0,0 +1,39 @@
+package com.moa.moa_server.domain.vote.handler;
+
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultNearCache;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultRedisService;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/** 투표 결과 변경 알림을 구독해 이 서버의 L1 캐시에서 해당 투표를 무효화한다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteResultChangedMessageListener implements MessageListener {
+
+  private final RedisMessageListenerContainer listenerContainer;
+  private final VoteResultNearCache nearCache;
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(
+        this, new ChannelTopic(VoteResultRedisService.CHANGED_CHANNEL));
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      nearCache.invalidate(Long.valueOf(body));
+    } catch (NumberFormatException e) {
+      log.warn("[VoteResultChangedMessageListener#onMessage] 잘못된 메시지 - body={}", body);
+    }
+  }
+}
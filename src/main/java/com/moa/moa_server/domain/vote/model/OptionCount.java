@@ -0,0 +1,4 @@
+package com.moa.moa_server.domain.vote.model;
+
+/** 옵션별 응답 수 집계 결과 (GROUP BY 프로젝션) */
+public record OptionCount(int optionNumber, long count) {}
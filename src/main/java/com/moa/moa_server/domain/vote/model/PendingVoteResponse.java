@@ -0,0 +1,33 @@
+package com.moa.moa_server.domain.vote.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 저장 대기 중인 투표 응답.
+ *
+ * <p>Redis 저널 해시에는 {@code field={voteId}:{userId}}, {@code value={optionNumber}|{votedAt}} 형태로
+ * 저장된다.
+ */
+public record PendingVoteResponse(
+    Long voteId, Long userId, int optionNumber, LocalDateTime votedAt) {
+
+  private static final String VALUE_DELIMITER = "|";
+
+  public String journalField() {
+    return voteId + ":" + userId;
+  }
+
+  public String journalValue() {
+    return optionNumber + VALUE_DELIMITER + votedAt;
+  }
+
+  public static PendingVoteResponse fromJournal(String field, String value) {
+    String[] ids = field.split(":");
+    int delimiter = value.indexOf(VALUE_DELIMITER);
+    return new PendingVoteResponse(
+        Long.parseLong(ids[0]),
+        Long.parseLong(ids[1]),
+        Integer.parseInt(value.substring(0, delimiter)),
+        LocalDateTime.parse(value.substring(delimiter + 1)));
+  }
+}
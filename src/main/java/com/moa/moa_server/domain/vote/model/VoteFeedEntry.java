@@ -0,0 +1,18 @@
+package com.moa.moa_server.domain.vote.model;
+
+import com.moa.moa_server.domain.vote.entity.Vote;
+import java.time.LocalDateTime;
+
+/** 피드 인덱스 재구성·갱신용 진행 중 투표 정보 */
+public record VoteFeedEntry(
+    Long voteId, Long groupId, LocalDateTime closedAt, LocalDateTime createdAt) {
+
+  public static VoteFeedEntry of(Vote vote) {
+    return new VoteFeedEntry(
+        vote.getId(), vote.getGroup().getId(), vote.getClosedAt(), vote.getCreatedAt());
+  }
+
+  public VoteFeedMember toMember() {
+    return VoteFeedMember.of(voteId, closedAt, createdAt);
+  }
+}
@@ -0,0 +1,43 @@
+package com.moa.moa_server.domain.vote.model;
+
+import com.moa.moa_server.domain.global.cursor.VoteClosedCursor;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 진행 중 투표 피드 인덱스의 ZSet 멤버.
+ *
+ * <p>{@code {closedAt}:{createdAt}:{voteId}} 형태(시각은 epoch 마이크로초, 17자리 0 채움)로 저장되므로, 멤버 문자열의 사전순이 피드
+ * 정렬 순서(closedAt, createdAt)와 같다. score는 범위 조회용 closedAt epoch 밀리초다.
+ */
+public record VoteFeedMember(long closedAtMicros, long createdAtMicros, Long voteId) {
+
+  public static VoteFeedMember of(Long voteId, LocalDateTime closedAt, LocalDateTime createdAt) {
+    return new VoteFeedMember(toMicros(closedAt), toMicros(createdAt), voteId);
+  }
+
+  public static VoteFeedMember parse(String value) {
+    String[] parts = value.split(":");
+    return new VoteFeedMember(
+        Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+  }
+
+  public String encode() {
+    return String.format("%017d:%017d:%d", closedAtMicros, createdAtMicros, voteId);
+  }
+
+  public double score() {
+    return closedAtMicros / 1000;
+  }
+
+  /** 커서 이후 항목인지 (closedAt 오름차순, 같으면 createdAt 오름차순) */
+  public boolean isAfter(VoteClosedCursor cursor) {
+    long cursorClosedAt = toMicros(cursor.closedAt());
+    return closedAtMicros > cursorClosedAt
+        || (closedAtMicros == cursorClosedAt && createdAtMicros > toMicros(cursor.createdAt()));
+  }
+
+  public static long toMicros(LocalDateTime time) {
+    return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+  }
+}
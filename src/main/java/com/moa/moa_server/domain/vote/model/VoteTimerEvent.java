@@ -0,0 +1,26 @@
+package com.moa.moa_server.domain.vote.model;
+
+/**
+ * 투표 상태 전환 타이머 이벤트.
+ *
+ * <p>Redis ZSet 멤버로 {@code {type}:{voteId}} 형태로 저장되므로, 같은 투표의 같은 종류 이벤트는 하나만 존재하고 재등록 시 실행 시각만
+ * 갱신된다.
+ */
+public record VoteTimerEvent(Type type, Long voteId) {
+
+  public enum Type {
+    OPEN,
+    CLOSE
+  }
+
+  public String encode() {
+    return type.name() + ":" + voteId;
+  }
+
+  public static VoteTimerEvent parse(String value) {
+    int delimiter = value.indexOf(':');
+    return new VoteTimerEvent(
+        Type.valueOf(value.substring(0, delimiter)),
+        Long.parseLong(value.substring(delimiter + 1)));
+  }
+}
@@ -2,8 +2,11 @@ package com.moa.moa_server.domain.vote.repository;
 
 import com.moa.moa_server.domain.user.entity.User;
 import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.model.VoteFeedEntry;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -27,9 +30,50 @@ public interface VoteRepository extends JpaRepository<Vote, Long>, VoteRepositor
       """
     UPDATE Vote v
     SET v.voteStatus = 'OPEN'
+    WHERE v.id IN :voteIds
+      AND v.voteStatus = 'PENDING'
+      AND v.voteType = 'AI'
+      AND v.openAt <= :now
+""")
+  int openAIVotesByIds(@Param("voteIds") List<Long> voteIds, @Param("now") LocalDateTime now);
+
+  @Query(
+      """
+    SELECT v FROM Vote v
+    WHERE v.voteStatus = 'OPEN'
+      AND v.closedAt <= :now
+    ORDER BY v.closedAt ASC, v.id ASC
+""")
+  List<Vote> findVotesToClose(@Param("now") LocalDateTime now, Pageable pageable);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      """
+    UPDATE Vote v
+    SET v.voteStatus = 'CLOSED', v.updatedAt = :now
+    WHERE v.id IN :voteIds
+      AND v.voteStatus = 'OPEN'
+""")
+  int closeAllByIds(@Param("voteIds") List<Long> voteIds, @Param("now") LocalDateTime now);
+
+  @Query(
+      """
+    SELECT v.id FROM Vote v
     WHERE v.voteStatus = 'PENDING'
       AND v.voteType = 'AI'
       AND v.openAt <= :now
 """)
-  int updateOpenStatusForAIVotes(@Param("now") LocalDateTime now);
+  List<Long> findAIVoteIdsToOpen(@Param("now") LocalDateTime now);
+
+  /** 그룹별 진행 중 투표 (피드 인덱스 재구성용) */
+  @Query(
+      """
+    SELECT new com.moa.moa_server.domain.vote.model.VoteFeedEntry(v.id, v.group.id, v.closedAt, v.createdAt)
+    FROM Vote v
+    WHERE v.group.id IN :groupIds
+      AND v.voteStatus = 'OPEN'
+      AND v.closedAt > :now
+""")
+  List<VoteFeedEntry> findOpenFeedEntries(
+      @Param("groupIds") Collection<Long> groupIds, @Param("now") LocalDateTime now);
 }
@@ -6,18 +6,24 @@ import com.moa.moa_server.domain.global.cursor.VoteClosedCursor;
 import com.moa.moa_server.domain.global.cursor.VotedAtVoteIdCursor;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteItem;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.model.VoteWithVotedAt;
 import jakarta.annotation.Nullable;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface VoteRepositoryCustom {
-  List<Vote> findActiveVotes(
+  List<ActiveVoteItem> findActiveVoteItems(
       List<Group> accessibleGroups,
       @Nullable VoteClosedCursor cursor,
       @Nullable User user,
       int size);
 
+  List<ActiveVoteItem> findActiveVoteItemsByIds(
+      Collection<Long> voteIds, Collection<Long> groupIds, LocalDateTime now);
+
   List<Vote> findMyVotes(
       User user, List<Group> groups, @Nullable UpdatedAtVoteIdCursor cursor, int size);
 
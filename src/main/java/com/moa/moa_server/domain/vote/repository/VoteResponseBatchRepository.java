@@ -0,0 +1,44 @@
+package com.moa.moa_server.domain.vote.repository;
+
+import com.moa.moa_server.domain.vote.model.PendingVoteResponse;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** write-behind 모드에서 투표 응답을 다중 행 INSERT로 저장하는 JDBC 저장소 */
+@Repository
+@RequiredArgsConstructor
+public class VoteResponseBatchRepository {
+
+  private static final String INSERT_PREFIX =
+      "INSERT IGNORE INTO vote_response (vote_id, user_id, option_number, voted_at) VALUES ";
+  private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 투표 응답을 한 번의 다중 행 INSERT로 저장.
+   *
+   * <p>재처리로 같은 응답이 다시 들어와도 (user_id, vote_id) 유니크 제약에 걸린 행은 무시되므로 멱등하다.
+   *
+   * @return 실제로 삽입된 행 수
+   */
+  public int insertIgnoreAll(List<PendingVoteResponse> responses) {
+    if (responses.isEmpty()) return 0;
+
+    String sql =
+        INSERT_PREFIX + String.join(", ", Collections.nCopies(responses.size(), ROW_PLACEHOLDER));
+    List<Object> args = new ArrayList<>(responses.size() * 4);
+    for (PendingVoteResponse response : responses) {
+      args.add(response.voteId());
+      args.add(response.userId());
+      args.add(response.optionNumber());
+      args.add(Timestamp.valueOf(response.votedAt()));
+    }
+    return jdbcTemplate.update(sql, args.toArray());
+  }
+}
@@ -3,7 +3,9 @@ package com.moa.moa_server.domain.vote.repository;
 import com.moa.moa_server.domain.user.entity.User;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.entity.VoteResponse;
+import com.moa.moa_server.domain.vote.model.OptionCount;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +19,30 @@ public interface VoteResponseRepository extends JpaRepository<VoteResponse, Long
 
   List<VoteResponse> findAllByVote(Vote vote);
 
+  /** 옵션별 응답 수 집계 (기권(0) 제외). 응답 엔티티를 로딩하지 않고 DB에서 GROUP BY로 계산 */
+  @Query(
+      """
+  SELECT new com.moa.moa_server.domain.vote.model.OptionCount(vr.optionNumber, COUNT(vr))
+  FROM VoteResponse vr
+  WHERE vr.vote.id = :voteId
+    AND vr.optionNumber > 0
+  GROUP BY vr.optionNumber
+""")
+  List<OptionCount> countByOptionNumber(@Param("voteId") Long voteId);
+
+  /** 지정한 사용자를 제외한 옵션별 응답 수 집계 (write-behind 저널에서 따로 세는 응답의 중복 집계 방지) */
+  @Query(
+      """
+  SELECT new com.moa.moa_server.domain.vote.model.OptionCount(vr.optionNumber, COUNT(vr))
+  FROM VoteResponse vr
+  WHERE vr.vote.id = :voteId
+    AND vr.optionNumber > 0
+    AND vr.user.id NOT IN :userIds
+  GROUP BY vr.optionNumber
+""")
+  List<OptionCount> countByOptionNumberExcludingUsers(
+      @Param("voteId") Long voteId, @Param("userIds") Collection<Long> userIds);
+
   boolean existsByVoteIdAndUserIdAndOptionNumberIn(Long voteId, Long userId, List<Integer> options);
 
   @Query(
@@ -32,4 +58,15 @@ public interface VoteResponseRepository extends JpaRepository<VoteResponse, Long
       @Param("end") LocalDateTime end);
 
   int countByVoteId(Long voteId);
+
+  /** 사용자가 응답한 진행 중 투표 ID (피드 인덱스 재구성용) */
+  @Query(
+      """
+  SELECT vr.vote.id
+  FROM VoteResponse vr
+  WHERE vr.user.id = :userId
+    AND vr.vote.voteStatus = 'OPEN'
+    AND vr.vote.closedAt > :now
+""")
+  List<Long> findOpenVoteIdsByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,48 @@
+package com.moa.moa_server.domain.vote.repository;
+
+import com.moa.moa_server.domain.vote.entity.VoteResult;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** 투표 종료 처리 시 vote_result 행을 다중 행 INSERT로 저장하는 JDBC 저장소 */
+@Repository
+@RequiredArgsConstructor
+public class VoteResultBatchRepository {
+
+  private static final String INSERT_PREFIX =
+      "INSERT IGNORE INTO vote_result (vote_id, option_number, count, ratio, created_at, updated_at) VALUES ";
+  private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 집계 결과를 한 번의 다중 행 INSERT로 저장.
+   *
+   * <p>여러 서버가 동시에 같은 투표를 종료 처리해도 (vote_id, option_number) 유니크 제약에 걸린 행은 무시되므로 중복 저장되지 않는다.
+   *
+   * @return 실제로 삽입된 행 수
+   */
+  public int insertIgnoreAll(List<VoteResult> results) {
+    if (results.isEmpty()) return 0;
+
+    String sql =
+        INSERT_PREFIX + String.join(", ", Collections.nCopies(results.size(), ROW_PLACEHOLDER));
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Object> args = new ArrayList<>(results.size() * 6);
+    for (VoteResult result : results) {
+      args.add(result.getVote().getId());
+      args.add(result.getOptionNumber());
+      args.add(result.getCount());
+      args.add(result.getRatio());
+      args.add(now);
+      args.add(now);
+    }
+    return jdbcTemplate.update(sql, args.toArray());
+  }
+}
@@ -1,6 +1,7 @@
 package com.moa.moa_server.domain.vote.repository;
 
 import com.moa.moa_server.domain.vote.entity.VoteResult;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -20,5 +21,7 @@ public interface VoteResultRepository extends JpaRepository<VoteResult, Long> {
 
   List<VoteResult> findAllByVoteId(Long voteId);
 
+  List<VoteResult> findAllByVoteIdIn(Collection<Long> voteIds);
+
   boolean existsByVoteId(Long voteId);
 }
@@ -5,18 +5,23 @@ import com.moa.moa_server.domain.global.cursor.UpdatedAtVoteIdCursor;
 import com.moa.moa_server.domain.global.cursor.VoteClosedCursor;
 import com.moa.moa_server.domain.global.cursor.VotedAtVoteIdCursor;
 import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.entity.QGroup;
+import com.moa.moa_server.domain.user.entity.QUser;
 import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteItem;
 import com.moa.moa_server.domain.vote.entity.QVote;
 import com.moa.moa_server.domain.vote.entity.QVoteResponse;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.model.VoteWithVotedAt;
 import com.moa.moa_server.domain.vote.repository.VoteRepositoryCustom;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.annotation.Nullable;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -28,7 +33,7 @@ public class VoteRepositoryImpl implements VoteRepositoryCustom {
   private final JPAQueryFactory queryFactory;
 
   @Override
-  public List<Vote> findActiveVotes(
+  public List<ActiveVoteItem> findActiveVoteItems(
       List<Group> accessibleGroups,
       @Nullable VoteClosedCursor cursor,
       @Nullable User user,
@@ -61,13 +66,51 @@ public class VoteRepositoryImpl implements VoteRepositoryCustom {
     }
 
     return queryFactory
-        .selectFrom(vote)
+        .select(activeVoteItem(vote))
+        .from(vote)
+        .join(vote.group, QGroup.group)
+        .join(vote.user, QUser.user)
         .where(builder)
         .orderBy(vote.closedAt.asc(), vote.createdAt.asc())
         .limit(size)
         .fetch();
   }
 
+  @Override
+  public List<ActiveVoteItem> findActiveVoteItemsByIds(
+      Collection<Long> voteIds, Collection<Long> groupIds, LocalDateTime now) {
+    QVote vote = QVote.vote;
+
+    return queryFactory
+        .select(activeVoteItem(vote))
+        .from(vote)
+        .join(vote.group, QGroup.group)
+        .join(vote.user, QUser.user)
+        .where(
+            vote.id.in(voteIds),
+            vote.group.id.in(groupIds),
+            vote.closedAt.gt(now),
+            vote.voteStatus.eq(Vote.VoteStatus.OPEN))
+        .fetch();
+  }
+
+  /** 진행 중 투표 목록 항목 프로젝션 (그룹, 작성자는 조인된 컬럼만 조회) */
+  private ConstructorExpression<ActiveVoteItem> activeVoteItem(QVote vote) {
+    return Projections.constructor(
+        ActiveVoteItem.class,
+        vote.id,
+        QGroup.group.id,
+        QGroup.group.name,
+        QUser.user.nickname,
+        vote.anonymous,
+        vote.adminVote,
+        vote.content,
+        vote.imageUrl,
+        vote.createdAt,
+        vote.closedAt,
+        vote.voteType);
+  }
+
   @Override
   public List<Vote> findMyVotes(
       User user, List<Group> groups, @Nullable UpdatedAtVoteIdCursor cursor, int size) {
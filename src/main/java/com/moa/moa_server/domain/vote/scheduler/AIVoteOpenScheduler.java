@@ -1,27 +1,35 @@
 package com.moa.moa_server.domain.vote.scheduler;
 
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTransitionService;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-/** AI 생성 투표 중 PENDING 상태이고, openAt 시간이 지난 투표를 OPEN 상태로 변경하는 스케줄러. 매일 오전 10시 5분(KST)에 실행. */
+/**
+ * AI 생성 투표 중 PENDING 상태이고, openAt 시간이 지난 투표를 OPEN 상태로 변경하는 보정 스케줄러. 1시간마다 실행.
+ *
+ * <p>정시 오픈은 {@link VoteTimerScheduler}가 담당하며, 이 스케줄러는 타이머 등록 실패나 Redis 데이터 유실로 누락된 투표만 처리한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AIVoteOpenScheduler {
 
   private final VoteRepository voteRepository;
+  private final VoteTransitionService voteTransitionService;
 
   @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul") // 초 분 시 일 월 요일 (1시간)
-  @Transactional
   public void openAIVotes() {
-    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
-    int updatedCount = voteRepository.updateOpenStatusForAIVotes(now);
+    List<Long> voteIds = voteRepository.findAIVoteIdsToOpen(LocalDateTime.now(ZoneOffset.UTC));
+    if (voteIds.isEmpty()) return;
+
+    // 피드 인덱스 등록을 위해 ID 기준으로 오픈
+    int updatedCount = voteTransitionService.openAIVotes(voteIds);
     if (updatedCount > 0) {
       log.info("AI 투표 자동 오픈 처리 완료: {}건", updatedCount);
     }
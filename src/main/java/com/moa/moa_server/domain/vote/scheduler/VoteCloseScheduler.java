@@ -0,0 +1,49 @@
+package com.moa.moa_server.domain.vote.scheduler;
+
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultDbWriter;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 시각이 지난 OPEN 투표를 일괄 종료 처리(결과 저장 + CLOSED 변경)하는 보정 스케줄러. 10분마다 실행.
+ *
+ * <p>정시 종료는 {@link VoteTimerScheduler}가 담당하며, 이 스케줄러는 타이머 등록 실패나 Redis 데이터 유실로 누락된 투표만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCloseScheduler {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final VoteRepository voteRepository;
+  private final VoteResultDbWriter voteResultDbWriter;
+
+  @Scheduled(cron = "0 */10 * * * *") // 10분마다
+  public void closeExpiredVotes() {
+    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+    int closedCount = 0;
+
+    // 배치 단위로 트랜잭션을 나눠 처리 (처리된 투표는 CLOSED가 되어 다음 조회에서 제외됨)
+    List<Vote> votes;
+    do {
+      votes =
+          voteRepository.findVotesToClose(
+              voteResultDbWriter.finalizeCutoff(now), PageRequest.of(0, BATCH_SIZE));
+      if (votes.isEmpty()) break;
+      closedCount += voteResultDbWriter.finalizeAll(votes);
+    } while (votes.size() == BATCH_SIZE);
+
+    if (closedCount > 0) {
+      log.info("투표 자동 종료 처리 완료: {}건", closedCount);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.moa.moa_server.domain.vote.scheduler;
+
+import com.moa.moa_server.domain.vote.config.VoteCountAggregationProperties;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteCountAggregator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** 로컬 집계 모드에서 서버 내에 적립된 투표 옵션 카운트 증가분을 주기적으로 Redis에 반영하는 스케줄러. */
+@Component
+@RequiredArgsConstructor
+public class VoteCountFlushScheduler {
+
+  private final VoteCountAggregationProperties properties;
+  private final VoteCountAggregator aggregator;
+
+  @Scheduled(fixedDelayString = "#{@voteCountAggregationProperties.flushInterval}")
+  public void flush() {
+    if (!properties.isEnabled()) return;
+    aggregator.flush();
+  }
+
+  /** 정상 종료 시 남은 증가분 반영 */
+  @PreDestroy
+  public void flushOnShutdown() {
+    if (!properties.isEnabled()) return;
+    aggregator.flush();
+  }
+}
@@ -0,0 +1,53 @@
+package com.moa.moa_server.domain.vote.scheduler;
+
+import com.moa.moa_server.domain.vote.config.VoteWriteBehindProperties;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteResponseWriteBehindService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** write-behind 모드에서 메모리 큐의 투표 응답을 주기적으로 DB에 저장하고, 저널에 남은 응답을 재처리하는 스케줄러. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteResponseFlushScheduler {
+
+  private final VoteWriteBehindProperties properties;
+  private final VoteResponseWriteBehindService writeBehindService;
+
+  @Scheduled(fixedDelayString = "#{@voteWriteBehindProperties.flushInterval}")
+  public void flush() {
+    if (!properties.isEnabled()) return;
+    writeBehindService.flush();
+  }
+
+  @Scheduled(fixedDelayString = "#{@voteWriteBehindProperties.replayInterval}")
+  public void replay() {
+    if (!properties.isEnabled()) return;
+    writeBehindService.replay(properties.getReplayDelay());
+  }
+
+  /** 기동 시 이전 프로세스가 저장하지 못한 응답을 모두 복구 */
+  @EventListener(ApplicationReadyEvent.class)
+  public void replayOnStartup() {
+    if (!properties.isEnabled()) return;
+    try {
+      writeBehindService.replay(0);
+    } catch (Exception e) {
+      log.error(
+          "[VoteResponseFlushScheduler#replayOnStartup] 기동 시 저널 재처리 실패 - reason={}",
+          e.getMessage());
+    }
+  }
+
+  /** 정상 종료 시 큐에 남은 응답 저장 */
+  @PreDestroy
+  public void flushOnShutdown() {
+    if (!properties.isEnabled()) return;
+    writeBehindService.flush();
+  }
+}
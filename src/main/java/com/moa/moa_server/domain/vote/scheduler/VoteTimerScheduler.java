@@ -0,0 +1,82 @@
+package com.moa.moa_server.domain.vote.scheduler;
+
+import com.moa.moa_server.domain.vote.model.VoteTimerEvent;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTimerService;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTransitionService;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Redis 타이머에서 만기된 오픈/종료 이벤트만 꺼내 투표 상태를 전환하는 폴러. 1초 간격으로 실행. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteTimerScheduler {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final VoteTimerService voteTimerService;
+  private final VoteTransitionService voteTransitionService;
+
+  @Scheduled(fixedDelay = 1_000)
+  public void processDueEvents() {
+    List<VoteTimerEvent> events;
+    do {
+      events = voteTimerService.popDue(System.currentTimeMillis(), BATCH_SIZE);
+      if (events.isEmpty()) return;
+
+      Map<VoteTimerEvent.Type, List<VoteTimerEvent>> eventsByType =
+          events.stream().collect(Collectors.groupingBy(VoteTimerEvent::type));
+      process(eventsByType.get(VoteTimerEvent.Type.OPEN), voteTransitionService::openAIVotes);
+      process(eventsByType.get(VoteTimerEvent.Type.CLOSE), voteTransitionService::closeVotes);
+    } while (events.size() == BATCH_SIZE);
+  }
+
+  private void process(List<VoteTimerEvent> events, Function<List<Long>, Integer> transition) {
+    if (events == null || events.isEmpty()) return;
+
+    List<Long> voteIds = events.stream().map(VoteTimerEvent::voteId).toList();
+    try {
+      int updatedCount = transition.apply(voteIds);
+      voteTimerService.clearAttempts(events);
+      log.info(
+          "투표 상태 전환 완료 - type={}, 대상={}건, 전환={}건",
+          events.getFirst().type(),
+          voteIds.size(),
+          updatedCount);
+    } catch (Exception e) {
+      log.warn(
+          "[VoteTimerScheduler#process] 일괄 전환 실패, 개별 재시도 - type={}, 대상={}건, reason={}",
+          events.getFirst().type(),
+          voteIds.size(),
+          e.getMessage());
+      events.forEach(event -> processOne(event, transition));
+    }
+  }
+
+  /** 실패한 이벤트만 재시도 예약하므로 한 건의 실패가 같은 배치의 다른 투표 전환을 막지 않는다. */
+  private void processOne(VoteTimerEvent event, Function<List<Long>, Integer> transition) {
+    try {
+      transition.apply(List.of(event.voteId()));
+      voteTimerService.clearAttempts(List.of(event));
+    } catch (Exception e) {
+      if (voteTimerService.retryOrDeadLetter(event, System.currentTimeMillis())) {
+        log.warn(
+            "[VoteTimerScheduler#processOne] 투표 상태 전환 실패, 재시도 예약 - event={}, reason={}",
+            event.encode(),
+            e.getMessage());
+      } else {
+        log.error(
+            "[VoteTimerScheduler#processOne] 투표 상태 전환 {}회 실패, dead-letter 이동 - event={}",
+            VoteTimerService.MAX_ATTEMPTS,
+            event.encode(),
+            e);
+      }
+    }
+  }
+}
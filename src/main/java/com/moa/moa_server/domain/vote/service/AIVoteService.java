@@ -1,16 +1,19 @@
 package com.moa.moa_server.domain.vote.service;
 
-import com.moa.moa_server.domain.global.constant.SystemConstants;
+import com.moa.moa_server.domain.global.registry.SystemEntityRegistry;
 import com.moa.moa_server.domain.global.util.XssUtil;
 import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.model.GroupSnapshot;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
 import com.moa.moa_server.domain.image.service.ImageService;
 import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.model.ActiveUser;
 import com.moa.moa_server.domain.user.repository.UserRepository;
 import com.moa.moa_server.domain.vote.dto.ai_vote.AIVoteCreateRequest;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.service.vote_result.VoteResultRedisService;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTimerService;
 import com.moa.moa_server.domain.vote.util.VoteValidator;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -28,9 +31,11 @@ public class AIVoteService {
   private final VoteRepository voteRepository;
   private final UserRepository userRepository;
   private final GroupRepository groupRepository;
+  private final SystemEntityRegistry systemEntityRegistry;
 
   private final ImageService imageService;
   private final VoteResultRedisService voteResultRedisService;
+  private final VoteTimerService voteTimerService;
 
   public Long createVote(AIVoteCreateRequest request) {
     // 유효성 검사
@@ -59,6 +64,10 @@ public class AIVoteService {
     voteRepository.save(vote);
     voteResultRedisService.setCountsWithTTL(vote.getId(), Map.of(1, 0, 2, 0), vote.getClosedAt());
 
+    // 오픈/종료 타이머 등록
+    voteTimerService.scheduleOpen(vote.getId(), vote.getOpenAt());
+    voteTimerService.scheduleClose(vote.getId(), vote.getClosedAt());
+
     log.info("[AIVoteService#createVote] AI 투표 저장 완료: {}", vote);
 
     return vote.getId();
@@ -85,14 +94,18 @@ public class AIVoteService {
   }
 
   private User getSystemAIUser() {
-    return userRepository
-        .findById(SystemConstants.SYSTEM_AI_USER_ID)
-        .orElseThrow(() -> new IllegalStateException("System ai user not found"));
+    ActiveUser systemAIUser =
+        systemEntityRegistry
+            .findSystemAIUser()
+            .orElseThrow(() -> new IllegalStateException("System ai user not found"));
+    return userRepository.getReferenceById(systemAIUser.id());
   }
 
   private Group getPublicGroup() {
-    return groupRepository
-        .findById(SystemConstants.PUBLIC_GROUP_ID)
-        .orElseThrow(() -> new IllegalStateException("Public group not found"));
+    GroupSnapshot publicGroup =
+        systemEntityRegistry
+            .findPublicGroup()
+            .orElseThrow(() -> new IllegalStateException("Public group not found"));
+    return groupRepository.getReferenceById(publicGroup.id());
   }
 }
@@ -2,6 +2,7 @@ package com.moa.moa_server.domain.vote.service;
 
 import com.moa.moa_server.domain.comment.repository.CommentRepository;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,10 +13,12 @@ public class VoteCleanerService {
 
   private final VoteRepository voteRepository;
   private final CommentRepository commentRepository;
+  private final VoteFeedIndexService voteFeedIndexService;
 
   public void deleteVoteByGroupId(Long groupId) {
     // 1. 해당 그룹의 모든 투표 soft delete
     voteRepository.softDeleteByGroupId(groupId);
+    voteFeedIndexService.removeGroup(groupId);
 
     // 2. 각 투표의 연관 데이터 정리
     List<Long> voteIds = voteRepository.findAllIdsByGroupId(groupId);
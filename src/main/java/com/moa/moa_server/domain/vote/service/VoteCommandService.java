@@ -3,16 +3,13 @@ package com.moa.moa_server.domain.vote.service;
 import com.moa.moa_server.domain.global.util.XssUtil;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.entity.GroupMember;
-import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
 import com.moa.moa_server.domain.image.model.ImageProcessResult;
 import com.moa.moa_server.domain.image.service.ImageService;
-import com.moa.moa_server.domain.ranking.service.RankingRedisService;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
+import com.moa.moa_server.domain.vote.config.VoteWriteBehindProperties;
 import com.moa.moa_server.domain.vote.dto.request.VoteCreateRequest;
 import com.moa.moa_server.domain.vote.dto.request.VoteSubmitRequest;
 import com.moa.moa_server.domain.vote.dto.request.VoteUpdateRequest;
@@ -22,21 +19,29 @@ import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.entity.VoteResponse;
 import com.moa.moa_server.domain.vote.handler.VoteErrorCode;
 import com.moa.moa_server.domain.vote.handler.VoteException;
+import com.moa.moa_server.domain.vote.model.PendingVoteResponse;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteResponseWriteBehindService;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteSubmitRedisService;
 import com.moa.moa_server.domain.vote.service.vote_result.VoteResultRedisService;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTimerService;
 import com.moa.moa_server.domain.vote.util.VoteValidator;
+import jakarta.annotation.Nullable;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VoteCommandService {
@@ -47,28 +52,32 @@ public class VoteCommandService {
   private String activeProfile;
 
   private final VoteRepository voteRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupRepository groupRepository;
-  private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
   private final VoteResponseRepository voteResponseRepository;
 
   private final VoteCleanerService voteCleanerService;
   private final VoteModerationService voteModerationService;
   private final VoteResultRedisService voteResultRedisService;
   private final ImageService imageService;
-  private final RankingRedisService rankingRedisService;
+  private final VoteResponseWriteBehindService voteResponseWriteBehindService;
+  private final VoteSubmitRedisService voteSubmitRedisService;
+  private final VoteTimerService voteTimerService;
+  private final VoteFeedIndexService voteFeedIndexService;
+  private final VoteWriteBehindProperties writeBehindProperties;
 
   @Transactional
   public Long createVote(Long userId, VoteCreateRequest request) {
     // 유저, 그룹 조회 및 멤버십 검사
     User user = validateAndGetUser(userId);
     Group group = validateAndGetGroup(request.groupId());
-    GroupMember groupMember = validateGroupMembership(user, group);
+    GroupMember.Role role = validateGroupMembership(user, group);
 
     // 관리자 투표 여부 판단
     boolean adminVote =
-        groupMember != null
-            && switch (groupMember.getRole()) {
+        role != null
+            && switch (role) {
               case OWNER, MANAGER -> true;
               default -> false;
             };
@@ -113,6 +122,14 @@ public class VoteCommandService {
     // Redis 캐시 초기화 (옵션별 count 0 설정 및 만료 시간 등록)
     voteResultRedisService.setCountsWithTTL(vote.getId(), Map.of(1, 0, 2, 0), vote.getClosedAt());
 
+    // 종료 타이머 등록 (오픈은 검열 결과에 따라 처리)
+    voteTimerService.scheduleClose(vote.getId(), vote.getClosedAt());
+
+    // 검열 없이 바로 공개되는 경우 피드 인덱스에 추가
+    if (vote.isOpen()) {
+      voteFeedIndexService.add(vote);
+    }
+
     // AI 서버로 검열 요청 (prod 환경에서만)
     if (PROFILE_PROD.equals(activeProfile)) {
       voteModerationService.requestModeration(vote.getId(), vote.getContent());
@@ -151,6 +168,9 @@ public class VoteCommandService {
     vote.pending();
     voteRepository.save(vote);
 
+    // 변경된 종료 시각으로 타이머 갱신
+    voteTimerService.scheduleClose(vote.getId(), vote.getClosedAt());
+
     // 6. AI 서버로 검열 요청 (prod 환경에서만)
     if (PROFILE_PROD.equals(activeProfile)) {
       voteModerationService.requestModeration(vote.getId(), vote.getContent());
@@ -201,32 +221,43 @@ public class VoteCommandService {
     // 멤버십 검사
     validateGroupMembership(user, vote.getGroup());
 
-    // 중복 투표 확인
-    if (voteResponseRepository.existsByVoteAndUser(vote, user)) {
-      throw new VoteException(VoteErrorCode.ALREADY_VOTED);
+    // write-behind 모드: Redis로 중복 판정 및 집계 후 응답 행은 배치로 저장
+    if (writeBehindProperties.isEnabled()) {
+      PendingVoteResponse pending =
+          new PendingVoteResponse(voteId, userId, response, LocalDateTime.now());
+      if (!voteResponseWriteBehindService.accept(pending, vote.getClosedAt())) {
+        throw new VoteException(VoteErrorCode.ALREADY_VOTED);
+      }
+      return;
     }
 
-    // 투표 응답 저장
+    // 투표 응답 저장 (유니크 제약으로 중복 투표 판정)
     VoteResponse voteResponse = VoteResponse.create(vote, user, response);
     try {
-      voteResponseRepository.save(voteResponse);
+      voteResponseRepository.saveAndFlush(voteResponse);
     } catch (DataIntegrityViolationException e) {
       throw new VoteException(VoteErrorCode.ALREADY_VOTED);
     }
 
-    // Redis에 투표 결과 반영
-    voteResultRedisService.incrementOptionCount(voteId, response);
-    // 랭킹 갱신을 위해 수정된 투표를 Redis ZSet에 기록
-    rankingRedisService.trackUpdatedVote(voteId);
+    // Redis에 투표 결과 및 랭킹 갱신 대상 반영 (Lua 스크립트 1회 호출)
+    try {
+      if (voteSubmitRedisService.submit(voteId, userId, response, vote.getClosedAt(), null)) {
+        log.warn(
+            "[VoteCommandService#submitVote] Redis에 이미 반영된 응답 - voteId={}, userId={}",
+            voteId,
+            userId);
+      }
+    } catch (Exception e) {
+      log.error(
+          "[Redis ERROR] 투표 응답 반영 실패 - voteId={}, option={}, reason={}",
+          voteId,
+          response,
+          e.getMessage());
+    }
   }
 
   private User validateAndGetUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private Group validateAndGetGroup(Long groupId) {
@@ -242,13 +273,16 @@ public class VoteCommandService {
         .orElseThrow(() -> new VoteException(VoteErrorCode.VOTE_NOT_FOUND));
   }
 
-  /** 그룹에 소속된 유저인지 검사 (등록/참여에 사용) */
-  private GroupMember validateGroupMembership(User user, Group group) {
+  /** 그룹에 소속된 유저인지 검사하고 그룹 내 역할을 반환 (등록/참여에 사용, 공개 그룹은 null) */
+  @Nullable
+  private GroupMember.Role validateGroupMembership(User user, Group group) {
     if (group.isPublicGroup()) return null;
 
-    return groupMemberRepository
-        .findByGroupAndUser(group, user)
-        .orElseThrow(() -> new VoteException(VoteErrorCode.NOT_GROUP_MEMBER));
+    GroupMember.Role role = membershipIndex.roleOf(user.getId(), group.getId());
+    if (role == null) {
+      throw new VoteException(VoteErrorCode.NOT_GROUP_MEMBER);
+    }
+    return role;
   }
 
   /** 투표 작성자인지 검사 */
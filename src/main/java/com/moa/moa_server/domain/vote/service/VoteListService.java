@@ -5,14 +5,11 @@ import com.moa.moa_server.domain.global.cursor.UpdatedAtVoteIdCursor;
 import com.moa.moa_server.domain.global.cursor.VoteClosedCursor;
 import com.moa.moa_server.domain.global.cursor.VotedAtVoteIdCursor;
 import com.moa.moa_server.domain.group.entity.Group;
-import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
 import com.moa.moa_server.domain.group.util.GroupLookupHelper;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteItem;
 import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteResponse;
 import com.moa.moa_server.domain.vote.dto.response.mine.MyVoteItem;
@@ -24,6 +21,7 @@ import com.moa.moa_server.domain.vote.handler.VoteErrorCode;
 import com.moa.moa_server.domain.vote.handler.VoteException;
 import com.moa.moa_server.domain.vote.model.VoteWithVotedAt;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
 import com.moa.moa_server.domain.vote.service.vote_result.VoteResultService;
 import jakarta.annotation.Nullable;
 import java.util.List;
@@ -41,13 +39,14 @@ public class VoteListService {
   private static final int DEFAULT_UNAUTHENTICATED_PAGE_SIZE = 3;
 
   private final VoteRepository voteRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final GroupRepository groupRepository;
-  private final GroupMemberRepository groupMemberRepository;
+  private final GroupMembershipIndex membershipIndex;
 
   private final GroupLookupHelper groupLookupHelper;
   private final VoteResultService voteResultService;
   private final CommentCountService commentCountService;
+  private final VoteFeedIndexService voteFeedIndexService;
 
   @Transactional(readOnly = true)
   public ActiveVoteResponse getActiveVotes(
@@ -70,10 +69,9 @@ public class VoteListService {
         throw new VoteException(VoteErrorCode.FORBIDDEN);
       }
 
-      List<Vote> votes =
-          voteRepository.findActiveVotes(
+      List<ActiveVoteItem> items =
+          findActiveVoteItems(
               List.of(group), parsedCursor, null, DEFAULT_UNAUTHENTICATED_PAGE_SIZE);
-      List<ActiveVoteItem> items = votes.stream().map(ActiveVoteItem::from).toList();
       return new ActiveVoteResponse(items, null, false, items.size());
     }
     // 로그인 사용자 요청
@@ -85,25 +83,24 @@ public class VoteListService {
       List<Group> accessibleGroups = getAccessibleGroups(user, groupId);
 
       // 투표 목록 조회
-      List<Vote> votes =
-          voteRepository.findActiveVotes(accessibleGroups, parsedCursor, user, pageSize + 1);
+      List<ActiveVoteItem> items =
+          findActiveVoteItems(accessibleGroups, parsedCursor, user, pageSize + 1);
 
       // 응답 구성
-      boolean hasNext = votes.size() > pageSize;
-      if (hasNext) votes = votes.subList(0, pageSize);
+      boolean hasNext = items.size() > pageSize;
+      if (hasNext) items = items.subList(0, pageSize);
 
       String nextCursor =
-          votes.isEmpty()
+          items.isEmpty()
               ? null
-              : new VoteClosedCursor(votes.getLast().getClosedAt(), votes.getLast().getCreatedAt())
+              : new VoteClosedCursor(items.getLast().closedAt(), items.getLast().createdAt())
                   .encode();
 
-      List<ActiveVoteItem> items = votes.stream().map(ActiveVoteItem::from).toList();
       return new ActiveVoteResponse(items, nextCursor, hasNext, items.size());
     }
   }
 
-  @Transactional
+  @Transactional(readOnly = true)
   public MyVoteResponse getMyVotes(
       Long userId, @Nullable Long groupId, @Nullable String cursor, @Nullable Integer size) {
     int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : size;
@@ -127,12 +124,7 @@ public class VoteListService {
       groups = List.of(group);
     } else {
       // 전체 그룹 조회: 유저가 속한 그룹 + 공개 그룹
-      groups = groupMemberRepository.findAllActiveGroupsByUser(user);
-
-      Group publicGroup = groupLookupHelper.getPublicGroup();
-      if (!groups.contains(publicGroup)) {
-        groups.add(publicGroup);
-      }
+      groups = getUserGroupsWithPublicGroup(user);
     }
 
     // 사용자가 생성한 투표 목록 조회
@@ -152,12 +144,15 @@ public class VoteListService {
     List<Long> voteIds = votes.stream().map(Vote::getId).toList();
     Map<Long, Integer> commentCounts = commentCountService.getCommentCountsByVoteIds(voteIds);
 
+    // 투표 결과 일괄 조회
+    var resultsByVoteId = voteResultService.getResultsWithVoteId(votes);
+
     // 각 투표별 집계 결과를 포함한 응답 DTO 구성
     List<MyVoteItem> items =
         votes.stream()
             .map(
                 vote -> {
-                  var results = voteResultService.getResultsWithVoteId(vote);
+                  var results = resultsByVoteId.get(vote.getId());
                   int commentsCount = commentCounts.getOrDefault(vote.getId(), 0);
                   return MyVoteItem.from(vote, results, commentsCount);
                 })
@@ -165,7 +160,7 @@ public class VoteListService {
     return new MyVoteResponse(items, nextCursor, hasNext, items.size());
   }
 
-  @Transactional
+  @Transactional(readOnly = true)
   public SubmittedVoteResponse getSubmittedVotes(
       Long userId, @Nullable Long groupId, @Nullable String cursor, @Nullable Integer size) {
 
@@ -189,11 +184,7 @@ public class VoteListService {
       groups = List.of(group);
     } else {
       // 전체 그룹 조회: 유저가 속한 그룹 + 공개 그룹
-      groups = groupMemberRepository.findAllActiveGroupsByUser(user);
-      Group publicGroup = groupLookupHelper.getPublicGroup();
-      if (!groups.contains(publicGroup)) {
-        groups.add(publicGroup);
-      }
+      groups = getUserGroupsWithPublicGroup(user);
     }
 
     // 참여한 투표 목록 조회
@@ -214,12 +205,16 @@ public class VoteListService {
     List<Long> voteIds = votes.stream().map(v -> v.vote().getId()).toList();
     Map<Long, Integer> commentCounts = commentCountService.getCommentCountsByVoteIds(voteIds);
 
+    // 투표 결과 일괄 조회
+    var resultsByVoteId =
+        voteResultService.getResultsWithVoteId(votes.stream().map(VoteWithVotedAt::vote).toList());
+
     // 각 투표별 집계 결과를 포함한 응답 DTO 구성
     List<SubmittedVoteItem> items =
         votes.stream()
             .map(
                 v -> {
-                  var results = voteResultService.getResultsWithVoteId(v.vote());
+                  var results = resultsByVoteId.get(v.vote().getId());
                   int commentsCount = commentCounts.getOrDefault(v.vote().getId(), 0);
                   return SubmittedVoteItem.from(v.vote(), results, commentsCount);
                 })
@@ -228,18 +223,25 @@ public class VoteListService {
   }
 
   private User getValidUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   private int resolvePageSize(@Nullable Integer size) {
     return (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : size;
   }
 
+  /** 피드 인덱스로 조회하고, 인덱스를 사용할 수 없으면 DB에서 직접 조회 */
+  private List<ActiveVoteItem> findActiveVoteItems(
+      List<Group> groups, @Nullable VoteClosedCursor cursor, @Nullable User user, int size) {
+    List<ActiveVoteItem> items =
+        voteFeedIndexService.findActiveVoteItems(
+            groups.stream().map(Group::getId).toList(),
+            cursor,
+            user != null ? user.getId() : null,
+            size);
+    return items != null ? items : voteRepository.findActiveVoteItems(groups, cursor, user, size);
+  }
+
   /**
    * 접근 가능한 그룹 목록 조회 (투표 리스트 조회에 사용) - groupId가 지정된 경우: 해당 그룹만 조회 (권한 확인 포함) - groupId가 없는 경우: 공개 그룹
    * + 사용자가 속한 모든 그룹 반환
@@ -252,19 +254,25 @@ public class VoteListService {
               .findById(groupId)
               .orElseThrow(() -> new VoteException(VoteErrorCode.GROUP_NOT_FOUND));
 
-      if (!group.isPublicGroup()) {
-        groupMemberRepository
-            .findByGroupAndUser(group, user)
-            .orElseThrow(() -> new VoteException(VoteErrorCode.FORBIDDEN));
+      if (!group.isPublicGroup() && !membershipIndex.isMember(user.getId(), groupId)) {
+        throw new VoteException(VoteErrorCode.FORBIDDEN);
       }
 
       return List.of(group);
     }
 
     // 전체 그룹 조회: 공개 그룹 + 사용자의 그룹
-    Group publicGroup = groupLookupHelper.getPublicGroup();
-    List<Group> userGroups = groupMemberRepository.findAllActiveGroupsByUser(user);
+    return getUserGroupsWithPublicGroup(user);
+  }
+
+  /** 공개 그룹 + 사용자가 속한 모든 그룹 (멤버십 인덱스 기준, 공개 그룹 외에는 조회 조건에만 쓰는 참조) */
+  private List<Group> getUserGroupsWithPublicGroup(User user) {
+    Group publicGroup = groupLookupHelper.getPublicGroupReference();
+    Stream<Group> userGroups =
+        membershipIndex.getGroupIds(user.getId()).stream()
+            .filter(id -> !id.equals(Group.PUBLIC_GROUP_ID))
+            .map(groupRepository::getReferenceById);
 
-    return Stream.concat(Stream.of(publicGroup), userGroups.stream()).distinct().toList();
+    return Stream.concat(Stream.of(publicGroup), userGroups).toList();
   }
 }
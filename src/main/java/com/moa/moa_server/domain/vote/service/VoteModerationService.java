@@ -10,6 +10,7 @@ import com.moa.moa_server.domain.vote.handler.VoteErrorCode;
 import com.moa.moa_server.domain.vote.handler.VoteException;
 import com.moa.moa_server.domain.vote.repository.VoteModerationLogRepository;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,6 +29,7 @@ public class VoteModerationService {
 
   private final VoteRepository voteRepository;
   private final VoteModerationLogRepository moderationLogRepository;
+  private final VoteFeedIndexService voteFeedIndexService;
 
   private final VoteNotificationProducerImpl voteNotificationProducer;
 
@@ -83,6 +85,7 @@ public class VoteModerationService {
       voteNotificationProducer.notifyVoteRejected(vote);
     } else if (reviewResult == VoteModerationLog.ReviewResult.APPROVED) {
       vote.updateModerationResult(Vote.VoteStatus.OPEN);
+      voteFeedIndexService.add(vote);
       voteNotificationProducer.notifyVoteApproved(vote);
     }
 
@@ -2,10 +2,7 @@ package com.moa.moa_server.domain.vote.service;
 
 import com.moa.moa_server.domain.ranking.util.RankingPermissionValidator;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.handler.UserErrorCode;
-import com.moa.moa_server.domain.user.handler.UserException;
-import com.moa.moa_server.domain.user.repository.UserRepository;
-import com.moa.moa_server.domain.user.util.AuthUserValidator;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.dto.response.VoteDetailResponse;
 import com.moa.moa_server.domain.vote.dto.response.VoteModerationReasonResponse;
 import com.moa.moa_server.domain.vote.dto.response.result.VoteOptionResult;
@@ -15,6 +12,7 @@ import com.moa.moa_server.domain.vote.entity.VoteModerationLog;
 import com.moa.moa_server.domain.vote.entity.VoteResponse;
 import com.moa.moa_server.domain.vote.handler.VoteErrorCode;
 import com.moa.moa_server.domain.vote.handler.VoteException;
+import com.moa.moa_server.domain.vote.model.OptionCount;
 import com.moa.moa_server.domain.vote.repository.VoteModerationLogRepository;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
@@ -30,14 +28,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class VoteQueryService {
 
   private final VoteRepository voteRepository;
-  private final UserRepository userRepository;
+  private final ActiveUserService activeUserService;
   private final VoteResponseRepository voteResponseRepository;
   private final VoteModerationLogRepository voteModerationLogRepository;
 
   private final VoteResultService voteResultService;
   private final RankingPermissionValidator rankingPermissionValidator;
 
-  @Transactional
+  @Transactional(readOnly = true)
   public VoteDetailResponse getVoteDetail(Long userId, Long voteId) {
     // 유저, 투표 조회 및 상태/권한 검사
     User user = validateAndGetUser(userId);
@@ -48,7 +46,7 @@ public class VoteQueryService {
     return VoteDetailResponse.of(vote);
   }
 
-  @Transactional
+  @Transactional(readOnly = true)
   public VoteResultResponse getVoteResult(Long userId, Long voteId) {
     // 유저, 투표 조회 및 상태/권한 검사
     User user = validateAndGetUser(userId);
@@ -61,8 +59,11 @@ public class VoteQueryService {
     Integer userResponse = userVoteResponse.map(VoteResponse::getOptionNumber).orElse(null);
 
     // 전체 참여자 수 계산
-    List<VoteResponse> responses = voteResponseRepository.findAllByVote(vote);
-    int totalCount = (int) responses.stream().filter(vr -> vr.getOptionNumber() > 0).count();
+    int totalCount =
+        (int)
+            voteResponseRepository.countByOptionNumber(voteId).stream()
+                .mapToLong(OptionCount::count)
+                .sum();
 
     // 결과 조회
     List<VoteOptionResult> results = voteResultService.getResults(vote);
@@ -85,12 +86,7 @@ public class VoteQueryService {
   }
 
   private User validateAndGetUser(Long userId) {
-    User user =
-        userRepository
-            .findById(userId)
-            .orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
-    AuthUserValidator.validateActive(user);
-    return user;
+    return activeUserService.getActiveUserReference(userId);
   }
 
   /** 투표 조회 */
@@ -137,7 +133,7 @@ public class VoteQueryService {
   }
 
   private boolean isVoteAuthor(User user, Vote vote) {
-    return vote.getUser().equals(user);
+    return vote.getUser().getId().equals(user.getId());
   }
 
   private boolean hasParticipatedWithValidOption(User user, Vote vote) {
@@ -0,0 +1,408 @@
+package com.moa.moa_server.domain.vote.service.vote_feed;
+
+import com.moa.moa_server.config.datasource.PrimaryDbReader;
+import com.moa.moa_server.domain.global.cursor.VoteClosedCursor;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteItem;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.event.VoteClosedEvent;
+import com.moa.moa_server.domain.vote.event.VoteOpenedEvent;
+import com.moa.moa_server.domain.vote.model.VoteFeedEntry;
+import com.moa.moa_server.domain.vote.model.VoteFeedMember;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 진행 중 투표 피드 인덱스 서비스.
+ *
+ * <p>그룹별 진행 중 투표를 {@code vote_feed:group:{groupId}} ZSet({@link VoteFeedMember})으로, 사용자가 응답한 투표 ID를
+ * {@code vote_feed:answered:{userId}} Set으로 유지한다. 피드 조회 시 그룹 ZSet들을 k-way 병합하면서 응답한 투표를 건너뛰고, 최종
+ * 페이지만 PK로 조회한다. 인덱스 추가와 제거는 트랜잭션 커밋 이후에 반영한다. 인덱스는 없으면 DB에서 재구성하며(복제 지연으로 최근 투표가 빠지지 않도록 기본 DB에서
+ * 조회), 조회 결과는 항상 DB 상태로 다시 검증하므로 인덱스에 남은 오래된 항목은 결과에 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteFeedIndexService {
+
+  private static final String GROUP_PREFIX = "vote_feed:group:";
+  private static final String ANSWERED_PREFIX = "vote_feed:answered:";
+
+  /** 인덱스 구성 완료 표시 멤버 (score 0이라 조회 범위에 포함되지 않음) */
+  private static final String BUILT_MARKER = "~";
+
+  /** 응답 Set 구성 완료 표시 멤버 (투표 ID는 0이 없음) */
+  private static final String ANSWERED_BUILT_MARKER = "0";
+
+  public static final Duration ANSWERED_TTL = Duration.ofDays(1);
+
+  private static final int MIN_BATCH_SIZE = 20;
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final StringRedisTemplate redisTemplate;
+  private final VoteRepository voteRepository;
+  private final VoteResponseRepository voteResponseRepository;
+  private final PrimaryDbReader primaryDbReader;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public static String groupKeyOf(Long groupId) {
+    return GROUP_PREFIX + groupId;
+  }
+
+  public static String answeredKeyOf(Long userId) {
+    return ANSWERED_PREFIX + userId;
+  }
+
+  /** 진행 중(OPEN)이 된 투표를 인덱스에 추가 (트랜잭션 안에서 호출되면 커밋 이후 추가) */
+  public void add(Vote vote) {
+    addAll(List.of(vote));
+  }
+
+  public void addAll(List<Vote> votes) {
+    if (votes.isEmpty()) return;
+    eventPublisher.publishEvent(
+        new VoteOpenedEvent(votes.stream().map(VoteFeedEntry::of).toList()));
+  }
+
+  /** 종료된 투표를 인덱스에서 제거 (트랜잭션 안에서 호출되면 커밋 이후 제거) */
+  public void removeAll(List<Vote> votes) {
+    if (votes.isEmpty()) return;
+    eventPublisher.publishEvent(
+        new VoteClosedEvent(votes.stream().map(VoteFeedEntry::of).toList()));
+  }
+
+  /**
+   * 커밋된 투표만 인덱스에 추가.
+   *
+   * <p>커밋 전에 추가하면 동시에 실행된 피드 조회가 아직 보이지 않는 투표를 오래된 항목으로 보고 제거할 수 있고, 이미 구성된 인덱스는 재구성되지 않으므로 투표가
+   * 피드에서 계속 누락된다.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleVoteOpened(VoteOpenedEvent event) {
+    List<VoteFeedEntry> entries = event.entries();
+    try {
+      redisTemplate.executePipelined(
+          new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+              entries.forEach(
+                  entry -> {
+                    VoteFeedMember member = entry.toMember();
+                    operations
+                        .opsForZSet()
+                        .add(groupKeyOf(entry.groupId()), member.encode(), member.score());
+                  });
+              return null;
+            }
+          });
+    } catch (Exception e) {
+      // 인덱스를 재구성하기 전까지 피드에서 누락될 수 있으므로 로그로 남김
+      log.error(
+          "[VoteFeedIndexService#handleVoteOpened] 피드 인덱스 추가 실패 - voteIds={}, reason={}",
+          entries.stream().map(VoteFeedEntry::voteId).toList(),
+          e.getMessage());
+    }
+  }
+
+  /** 조회 시 종료 시각으로도 걸러지므로 실패해도 정리만 늦어짐 */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleVoteClosed(VoteClosedEvent event) {
+    List<VoteFeedEntry> entries = event.entries();
+    try {
+      redisTemplate.executePipelined(
+          new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+              entries.forEach(
+                  entry ->
+                      operations
+                          .opsForZSet()
+                          .remove(groupKeyOf(entry.groupId()), entry.toMember().encode()));
+              return null;
+            }
+          });
+    } catch (Exception e) {
+      log.warn(
+          "[VoteFeedIndexService#handleVoteClosed] 피드 인덱스 제거 실패 - voteIds={}, reason={}",
+          entries.stream().map(VoteFeedEntry::voteId).toList(),
+          e.getMessage());
+    }
+  }
+
+  /** 삭제된 그룹의 인덱스 제거 */
+  public void removeGroup(Long groupId) {
+    try {
+      redisTemplate.delete(groupKeyOf(groupId));
+    } catch (Exception e) {
+      log.warn(
+          "[VoteFeedIndexService#removeGroup] 피드 인덱스 제거 실패 - groupId={}, reason={}",
+          groupId,
+          e.getMessage());
+    }
+  }
+
+  /**
+   * 진행 중 투표 피드의 한 페이지 조회.
+   *
+   * @param groupIds 조회 대상 그룹 ID (접근 권한은 호출 측에서 검사)
+   * @param userId 응답한 투표를 제외할 사용자 ID (비로그인이면 null)
+   * @return closedAt, createdAt 오름차순 투표 목록. Redis 오류 시 null (DB 조회로 대체)
+   */
+  @Nullable
+  public List<ActiveVoteItem> findActiveVoteItems(
+      List<Long> groupIds, @Nullable VoteClosedCursor cursor, @Nullable Long userId, int size) {
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      Set<String> answered = prepareIndexes(groupIds, userId, now);
+
+      for (int attempt = 1; ; attempt++) {
+        List<VoteFeedMember> members = mergeGroupIndexes(groupIds, cursor, answered, size, now);
+        // 인덱스 이후 상태가 바뀐 투표(삭제, 종료 등)는 조회 조건에서 제외됨
+        Map<Long, ActiveVoteItem> itemById = new HashMap<>();
+        voteRepository
+            .findActiveVoteItemsByIds(
+                members.stream().map(VoteFeedMember::voteId).toList(), groupIds, now)
+            .forEach(item -> itemById.put(item.voteId(), item));
+
+        List<Long> missingIds =
+            members.stream()
+                .map(VoteFeedMember::voteId)
+                .filter(voteId -> !itemById.containsKey(voteId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+          // 복제 지연으로 최근 공개된 투표가 보이지 않을 수 있으므로 제거 전에 기본 DB에서 다시 확인
+          primaryDbReader
+              .read(() -> voteRepository.findActiveVoteItemsByIds(missingIds, groupIds, now))
+              .forEach(item -> itemById.put(item.voteId(), item));
+        }
+
+        List<VoteFeedMember> stale =
+            members.stream().filter(member -> !itemById.containsKey(member.voteId())).toList();
+        if (stale.isEmpty() || attempt == MAX_ATTEMPTS) {
+          return members.stream()
+              .map(member -> itemById.get(member.voteId()))
+              .filter(Objects::nonNull)
+              .toList();
+        }
+        removeStale(groupIds, stale);
+      }
+    } catch (Exception e) {
+      log.error(
+          "[VoteFeedIndexService#findActiveVoteItems] 피드 인덱스 조회 실패, DB 조회로 대체 - groupIds={}, reason={}",
+          groupIds,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  /** 그룹 인덱스와 응답 Set이 없으면 재구성하고, 응답한 투표 ID를 반환 */
+  private Set<String> prepareIndexes(
+      List<Long> groupIds, @Nullable Long userId, LocalDateTime now) {
+    List<Object> raw =
+        redisTemplate.executePipelined(
+            new SessionCallback<>() {
+              @Override
+              @SuppressWarnings("unchecked")
+              public Object execute(RedisOperations operations) {
+                groupIds.forEach(
+                    groupId -> operations.opsForZSet().score(groupKeyOf(groupId), BUILT_MARKER));
+                if (userId != null) operations.opsForSet().members(answeredKeyOf(userId));
+                return null;
+              }
+            });
+
+    List<Long> missingGroupIds = new ArrayList<>();
+    for (int i = 0; i < groupIds.size(); i++) {
+      if (raw.get(i) == null) missingGroupIds.add(groupIds.get(i));
+    }
+    if (!missingGroupIds.isEmpty()) rebuildGroupIndexes(missingGroupIds, now);
+
+    if (userId == null) return Set.of();
+    @SuppressWarnings("unchecked")
+    Set<String> answered = (Set<String>) raw.get(groupIds.size());
+    if (answered == null || !answered.contains(ANSWERED_BUILT_MARKER)) {
+      return rebuildAnswered(userId, now);
+    }
+    return answered;
+  }
+
+  private void rebuildGroupIndexes(List<Long> groupIds, LocalDateTime now) {
+    List<VoteFeedEntry> entries =
+        primaryDbReader.read(() -> voteRepository.findOpenFeedEntries(groupIds, now));
+    redisTemplate.executePipelined(
+        new SessionCallback<>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object execute(RedisOperations operations) {
+            entries.forEach(
+                entry -> {
+                  VoteFeedMember member = entry.toMember();
+                  operations
+                      .opsForZSet()
+                      .add(groupKeyOf(entry.groupId()), member.encode(), member.score());
+                });
+            groupIds.forEach(
+                groupId -> operations.opsForZSet().add(groupKeyOf(groupId), BUILT_MARKER, 0));
+            return null;
+          }
+        });
+    log.info(
+        "[VoteFeedIndexService#rebuildGroupIndexes] 피드 인덱스 재구성 - groupIds={}, size={}",
+        groupIds,
+        entries.size());
+  }
+
+  private Set<String> rebuildAnswered(Long userId, LocalDateTime now) {
+    Set<String> answered = new HashSet<>();
+    answered.add(ANSWERED_BUILT_MARKER);
+    primaryDbReader
+        .read(() -> voteResponseRepository.findOpenVoteIdsByUserId(userId, now))
+        .forEach(voteId -> answered.add(voteId.toString()));
+
+    String key = answeredKeyOf(userId);
+    redisTemplate.executePipelined(
+        new SessionCallback<>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object execute(RedisOperations operations) {
+            operations.opsForSet().add(key, (Object[]) answered.toArray(String[]::new));
+            operations.expire(key, ANSWERED_TTL);
+            return null;
+          }
+        });
+    return answered;
+  }
+
+  /**
+   * 그룹 인덱스들을 k-way 병합해 커서 이후, 미응답인 투표를 최대 size개 선택.
+   *
+   * <p>그룹마다 일정 개수씩 읽어 두고, 소진된 그룹만 다음 구간을 추가로 읽는다.
+   */
+  private List<VoteFeedMember> mergeGroupIndexes(
+      List<Long> groupIds,
+      @Nullable VoteClosedCursor cursor,
+      Set<String> answered,
+      int size,
+      LocalDateTime now) {
+    long nowMicros = VoteFeedMember.toMicros(now);
+    long minMicros =
+        cursor != null
+            ? Math.max(nowMicros, VoteFeedMember.toMicros(cursor.closedAt()))
+            : nowMicros;
+    double minScore = minMicros / 1000;
+    int batchSize = Math.max(size * 2, MIN_BATCH_SIZE);
+
+    List<GroupStream> streams =
+        groupIds.stream().map(id -> new GroupStream(groupKeyOf(id))).toList();
+    List<Object> firstBatches =
+        redisTemplate.executePipelined(
+            new SessionCallback<>() {
+              @Override
+              @SuppressWarnings("unchecked")
+              public Object execute(RedisOperations operations) {
+                streams.forEach(
+                    stream ->
+                        operations
+                            .opsForZSet()
+                            .rangeByScore(
+                                stream.key, minScore, Double.POSITIVE_INFINITY, 0, batchSize));
+                return null;
+              }
+            });
+
+    PriorityQueue<GroupStream> heads = new PriorityQueue<>(Comparator.comparing(GroupStream::head));
+    for (int i = 0; i < streams.size(); i++) {
+      @SuppressWarnings("unchecked")
+      Set<String> batch = (Set<String>) firstBatches.get(i);
+      if (streams.get(i).append(batch, batchSize)) heads.add(streams.get(i));
+    }
+
+    List<VoteFeedMember> selected = new ArrayList<>();
+    Set<Long> selectedIds = new HashSet<>();
+    while (selected.size() < size && !heads.isEmpty()) {
+      GroupStream stream = heads.poll();
+      VoteFeedMember member = VoteFeedMember.parse(stream.buffer.poll());
+
+      if (member.closedAtMicros() > nowMicros
+          && (cursor == null || member.isAfter(cursor))
+          && !answered.contains(member.voteId().toString())
+          && selectedIds.add(member.voteId())) {
+        selected.add(member);
+      }
+
+      if (stream.buffer.isEmpty() && !stream.exhausted) {
+        stream.append(
+            redisTemplate
+                .opsForZSet()
+                .rangeByScore(
+                    stream.key, minScore, Double.POSITIVE_INFINITY, stream.offset, batchSize),
+            batchSize);
+      }
+      if (!stream.buffer.isEmpty()) heads.add(stream);
+    }
+    return selected;
+  }
+
+  private void removeStale(List<Long> groupIds, List<VoteFeedMember> stale) {
+    String[] members = stale.stream().map(VoteFeedMember::encode).toArray(String[]::new);
+    redisTemplate.executePipelined(
+        new SessionCallback<>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object execute(RedisOperations operations) {
+            groupIds.forEach(
+                groupId -> operations.opsForZSet().remove(groupKeyOf(groupId), (Object[]) members));
+            return null;
+          }
+        });
+  }
+
+  /** 그룹 인덱스 하나의 병합 진행 상태 */
+  private static class GroupStream {
+    private final String key;
+    private final Deque<String> buffer = new ArrayDeque<>();
+    private long offset = 0;
+    private boolean exhausted = false;
+
+    private GroupStream(String key) {
+      this.key = key;
+    }
+
+    /** 읽은 구간을 버퍼에 추가하고, 버퍼가 비어 있지 않은지 반환 */
+    private boolean append(@Nullable Set<String> batch, int batchSize) {
+      Set<String> members = batch != null ? batch : new LinkedHashSet<>();
+      buffer.addAll(members);
+      offset += members.size();
+      exhausted = members.size() < batchSize;
+      return !buffer.isEmpty();
+    }
+
+    private String head() {
+      return buffer.peek();
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.moa.moa_server.domain.vote.service.vote_response;
+
+import com.moa.moa_server.domain.vote.config.VoteWriteBehindProperties;
+import com.moa.moa_server.domain.vote.model.OptionCount;
+import com.moa.moa_server.domain.vote.model.PendingVoteResponse;
+import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 집계 캐시가 없을 때 옵션별 응답 수를 다시 세는 서비스.
+ *
+ * <p>write-behind 모드에서는 아직 DB에 저장되지 않은 응답이 저널({@code vote_resp:pending})에 남아 있으므로 저널의 응답을 함께 센다.
+ * 저널을 먼저 읽고, DB 집계에서는 저널에 있던 사용자를 제외하므로 집계 도중 저장된 응답도 한 번만 센다.
+ */
+@Service
+@RequiredArgsConstructor
+public class VoteResponseCounter {
+
+  private final VoteResponseRepository voteResponseRepository;
+  private final VoteResponseWriteBehindService writeBehindService;
+  private final VoteWriteBehindProperties writeBehindProperties;
+
+  /**
+   * 저장 대기 중인 응답까지 포함한 옵션별 응답 수 (기권 제외).
+   *
+   * @throws org.springframework.dao.DataAccessException write-behind 모드에서 저널 조회 실패 시
+   */
+  public Map<Integer, Integer> count(Long voteId) {
+    if (!writeBehindProperties.isEnabled()) return countStored(voteId);
+
+    List<PendingVoteResponse> pending = writeBehindService.findPending(voteId);
+    if (pending.isEmpty()) return countStored(voteId);
+
+    Map<Integer, Integer> counts =
+        toMap(
+            voteResponseRepository.countByOptionNumberExcludingUsers(
+                voteId, pending.stream().map(PendingVoteResponse::userId).toList()));
+    pending.stream()
+        .filter(response -> response.optionNumber() > 0)
+        .forEach(response -> counts.merge(response.optionNumber(), 1, Integer::sum));
+    return counts;
+  }
+
+  /** DB에 저장된 응답만으로 센 옵션별 응답 수 (기권 제외). write-behind 모드에서는 저장 대기 중인 응답이 빠질 수 있다. */
+  public Map<Integer, Integer> countStored(Long voteId) {
+    return toMap(voteResponseRepository.countByOptionNumber(voteId));
+  }
+
+  private Map<Integer, Integer> toMap(List<OptionCount> optionCounts) {
+    Map<Integer, Integer> counts = new HashMap<>();
+    optionCounts.forEach(c -> counts.put(c.optionNumber(), (int) c.count()));
+    return counts;
+  }
+}
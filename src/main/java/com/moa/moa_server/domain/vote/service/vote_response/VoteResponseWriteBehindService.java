@@ -0,0 +1,155 @@
+package com.moa.moa_server.domain.vote.service.vote_response;
+
+import com.moa.moa_server.domain.vote.config.VoteWriteBehindProperties;
+import com.moa.moa_server.domain.vote.model.PendingVoteResponse;
+import com.moa.moa_server.domain.vote.repository.VoteResponseBatchRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 투표 응답 write-behind 서비스.
+ *
+ * <p>응답 수락 시 {@link VoteSubmitRedisService}가 중복 판정, 집계, Redis 저널 해시({@code vote_resp:pending}) 기록을
+ * 한 번에 처리하고, 수락된 응답은 메모리 큐에 넣는다. 저널은 DB 저장이 끝난 뒤에만 지우므로, 서버가 비정상 종료되어 메모리 큐가 유실되어도 {@link
+ * #replay(long)}로 복구할 수 있다.
+ */
+@Slf4j
+@Service
+public class VoteResponseWriteBehindService {
+
+  private static final String JOURNAL_KEY = VoteSubmitRedisService.JOURNAL_KEY;
+
+  private final StringRedisTemplate redisTemplate;
+  private final VoteSubmitRedisService voteSubmitRedisService;
+  private final VoteResponseBatchRepository batchRepository;
+  private final VoteWriteBehindProperties properties;
+  private final BlockingQueue<PendingVoteResponse> queue;
+
+  public VoteResponseWriteBehindService(
+      StringRedisTemplate redisTemplate,
+      VoteSubmitRedisService voteSubmitRedisService,
+      VoteResponseBatchRepository batchRepository,
+      VoteWriteBehindProperties properties) {
+    this.redisTemplate = redisTemplate;
+    this.voteSubmitRedisService = voteSubmitRedisService;
+    this.batchRepository = batchRepository;
+    this.properties = properties;
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+  }
+
+  /**
+   * 투표 응답 수락.
+   *
+   * @param response 저장할 응답
+   * @param closedAt 투표 종료 시각 (중복 키 TTL 계산용)
+   * @return 최초 응답이면 true, 이미 응답한 사용자면 false
+   */
+  public boolean accept(PendingVoteResponse response, LocalDateTime closedAt) {
+    boolean duplicated =
+        voteSubmitRedisService.submit(
+            response.voteId(), response.userId(), response.optionNumber(), closedAt, response);
+    if (duplicated) return false;
+
+    if (!queue.offer(response)) {
+      log.warn(
+          "[VoteResponseWriteBehindService#accept] 메모리 큐 포화 - 저널 재처리로 저장 예정 voteId={}, userId={}",
+          response.voteId(),
+          response.userId());
+    }
+    return true;
+  }
+
+  /** 메모리 큐에 쌓인 응답을 batchSize 단위로 DB에 저장 */
+  public int flush() {
+    int flushed = 0;
+    List<PendingVoteResponse> batch = new ArrayList<>(properties.getBatchSize());
+    while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+      flushed += persist(batch);
+      batch.clear();
+    }
+    return flushed;
+  }
+
+  /**
+   * 저널에 minAgeMillis 이상 남아 있는 응답을 DB에 저장.
+   *
+   * <p>비정상 종료로 메모리 큐가 유실됐거나, 큐 포화 또는 DB 오류로 저장되지 못한 응답을 복구한다. 저장은 멱등하므로 다른 노드가 처리 중인 응답과 겹쳐도 안전하다.
+   *
+   * @param minAgeMillis 재처리 대상 최소 경과 시간 (0이면 전체)
+   */
+  public int replay(long minAgeMillis) {
+    LocalDateTime threshold = LocalDateTime.now().minusNanos(minAgeMillis * 1_000_000);
+    int replayed = 0;
+    List<PendingVoteResponse> batch = new ArrayList<>(properties.getBatchSize());
+
+    ScanOptions options = ScanOptions.scanOptions().count(properties.getBatchSize()).build();
+    try (Cursor<Map.Entry<Object, Object>> cursor =
+        redisTemplate.opsForHash().scan(JOURNAL_KEY, options)) {
+      while (cursor.hasNext()) {
+        Map.Entry<Object, Object> entry = cursor.next();
+        PendingVoteResponse response =
+            PendingVoteResponse.fromJournal(entry.getKey().toString(), entry.getValue().toString());
+        if (response.votedAt().isAfter(threshold)) continue;
+
+        batch.add(response);
+        if (batch.size() >= properties.getBatchSize()) {
+          replayed += persist(batch);
+          batch.clear();
+        }
+      }
+    }
+    replayed += persist(batch);
+
+    if (replayed > 0) {
+      log.info("[VoteResponseWriteBehindService#replay] 저널 재처리 완료 - count={}", replayed);
+    }
+    return replayed;
+  }
+
+  /**
+   * 저널에 남아 있는 투표의 응답 조회 (DB 저장이 끝났지만 저널 정리 전인 응답도 포함될 수 있음).
+   *
+   * @throws org.springframework.dao.DataAccessException 저널 조회 실패 시
+   */
+  public List<PendingVoteResponse> findPending(Long voteId) {
+    List<PendingVoteResponse> responses = new ArrayList<>();
+    ScanOptions options =
+        ScanOptions.scanOptions().match(voteId + ":*").count(properties.getBatchSize()).build();
+    try (Cursor<Map.Entry<Object, Object>> cursor =
+        redisTemplate.opsForHash().scan(JOURNAL_KEY, options)) {
+      cursor.forEachRemaining(
+          entry ->
+              responses.add(
+                  PendingVoteResponse.fromJournal(
+                      entry.getKey().toString(), entry.getValue().toString())));
+    }
+    return responses;
+  }
+
+  /** 배치 저장 후 저널 정리. 실패 시 저널에 남겨 재처리 대상이 되게 한다. */
+  private int persist(List<PendingVoteResponse> batch) {
+    if (batch.isEmpty()) return 0;
+    try {
+      batchRepository.insertIgnoreAll(batch);
+      redisTemplate
+          .opsForHash()
+          .delete(JOURNAL_KEY, batch.stream().map(PendingVoteResponse::journalField).toArray());
+      return batch.size();
+    } catch (Exception e) {
+      log.error(
+          "[VoteResponseWriteBehindService#persist] 투표 응답 배치 저장 실패 - count={}, reason={}",
+          batch.size(),
+          e.getMessage());
+      return 0;
+    }
+  }
+}
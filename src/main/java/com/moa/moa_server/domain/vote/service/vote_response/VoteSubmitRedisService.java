@@ -0,0 +1,111 @@
+package com.moa.moa_server.domain.vote.service.vote_response;
+
+import com.moa.moa_server.domain.ranking.service.RankingRedisService;
+import com.moa.moa_server.domain.vote.config.VoteCountAggregationProperties;
+import com.moa.moa_server.domain.vote.model.PendingVoteResponse;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteCountAggregator;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultNearCache;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultRedisService;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 투표 응답의 Redis 반영을 Lua 스크립트 1회 호출로 처리하는 서비스.
+ *
+ * <p>중복 판정 키 기록, {@code vote_result:{voteId}}(핫 투표는 스트라이프 하위 키) 옵션 카운트 증가, {@code
+ * ranking:changed:{yyyyMMdd}} 기록, 피드 인덱스의 응답한 투표 기록(및 write-behind 모드의 저널 기록)을 원자적으로 수행하고, 각 서버의 L1
+ * 캐시 무효화를 위해 변경 알림을 발행한다. 여러 키를 함께 다루므로 Redis Cluster 전환 시에는 해시 태그로 슬롯을 맞춰야 한다.
+ *
+ * <p>로컬 집계 모드({@code vote.count-aggregation.enabled})에서는 카운트 증가와 변경 알림을 {@link
+ * VoteCountAggregator}의 주기 반영으로 대신한다.
+ */
+@Service
+public class VoteSubmitRedisService {
+
+  public static final String DEDUP_PREFIX = "vote_resp:";
+  public static final String JOURNAL_KEY = "vote_resp:pending";
+
+  private static final RedisScript<Long> SUBMIT_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/vote_submit.lua"), Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final VoteResultRedisService voteResultRedisService;
+  private final VoteCountAggregator countAggregator;
+  private final VoteCountAggregationProperties aggregationProperties;
+
+  public VoteSubmitRedisService(
+      StringRedisTemplate redisTemplate,
+      VoteResultRedisService voteResultRedisService,
+      VoteCountAggregator countAggregator,
+      VoteCountAggregationProperties aggregationProperties) {
+    this.redisTemplate = redisTemplate;
+    this.voteResultRedisService = voteResultRedisService;
+    this.countAggregator = countAggregator;
+    this.aggregationProperties = aggregationProperties;
+  }
+
+  /**
+   * 투표 응답을 Redis에 원자적으로 반영.
+   *
+   * @param voteId 투표 ID
+   * @param userId 응답자 ID
+   * @param optionNumber 선택한 옵션 번호
+   * @param closedAt 투표 종료 시각 (중복 키 TTL 계산용)
+   * @param journal write-behind 저널에 함께 기록할 응답 (write-behind 모드가 아니면 null)
+   * @return 이미 응답한 사용자면 true (이 경우 아무것도 변경하지 않음)
+   */
+  public boolean submit(
+      Long voteId,
+      Long userId,
+      int optionNumber,
+      LocalDateTime closedAt,
+      @Nullable PendingVoteResponse journal) {
+    // 로컬 집계 모드는 카운트를 주기 반영에 맡기므로 스트라이프 전환이 필요 없음
+    boolean aggregated = aggregationProperties.isEnabled();
+    List<String> keys =
+        List.of(
+            DEDUP_PREFIX + voteId + ":" + userId,
+            aggregated
+                ? VoteResultRedisService.keyOf(voteId)
+                : voteResultRedisService.counterKeyOf(voteId, userId),
+            RankingRedisService.updatedVoteKey(),
+            JOURNAL_KEY,
+            VoteFeedIndexService.answeredKeyOf(userId),
+            VoteResultRedisService.changeNotifiedKeyOf(voteId));
+
+    Long duplicated =
+        redisTemplate.execute(
+            SUBMIT_SCRIPT,
+            keys,
+            String.valueOf(optionNumber),
+            String.valueOf(dedupTtl(closedAt).toSeconds()),
+            String.valueOf(Instant.now().getEpochSecond()),
+            String.valueOf(voteId),
+            journal != null ? journal.journalField() : "",
+            journal != null ? journal.journalValue() : "",
+            VoteResultRedisService.CHANGED_CHANNEL,
+            aggregated ? "0" : "1",
+            String.valueOf(VoteFeedIndexService.ANSWERED_TTL.toSeconds()),
+            String.valueOf(VoteResultNearCache.STALENESS.toMillis()));
+    boolean isDuplicate = Long.valueOf(1L).equals(duplicated);
+
+    if (aggregated && !isDuplicate) {
+      countAggregator.increment(voteId, optionNumber, closedAt);
+    }
+    return isDuplicate;
+  }
+
+  /** 중복 키는 투표 결과 캐시와 같이 종료 6시간 후 만료 */
+  private Duration dedupTtl(LocalDateTime closedAt) {
+    Duration ttl = Duration.between(LocalDateTime.now(), closedAt.plusHours(6));
+    return ttl.isNegative() || ttl.isZero() ? Duration.ofHours(6) : ttl;
+  }
+}
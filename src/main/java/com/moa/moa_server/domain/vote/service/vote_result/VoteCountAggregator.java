@@ -0,0 +1,124 @@
+package com.moa.moa_server.domain.vote.service.vote_result;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표 옵션 카운트 증가분을 서버 내 {@link LongAdder}로 합산했다가 주기적으로 Redis에 반영하는 집계기.
+ *
+ * <p>반영은 증가분이 있는 (voteId, option)마다 {@code HINCRBY}를 파이프라인 1회로 보내고, 각 서버의 L1 캐시 무효화 알림을 함께 발행한다. 반영
+ * 실패 시 증가분을 다시 적립해 다음 주기에 재시도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VoteCountAggregator {
+
+  private final StringRedisTemplate redisTemplate;
+  private final Map<Long, PendingCounts> pending = new ConcurrentHashMap<>();
+
+  /** 응답 1건의 증가분 적립 */
+  public void increment(Long voteId, int optionNumber, LocalDateTime closedAt) {
+    pending
+        .computeIfAbsent(voteId, id -> new PendingCounts(closedAt, new ConcurrentHashMap<>()))
+        .adders()
+        .computeIfAbsent(optionNumber, option -> new LongAdder())
+        .increment();
+  }
+
+  /** 아직 Redis에 반영되지 않은 옵션별 증가분 (없으면 빈 Map) */
+  public Map<Integer, Integer> pendingCounts(Long voteId) {
+    PendingCounts counts = pending.get(voteId);
+    if (counts == null) return Map.of();
+
+    Map<Integer, Integer> result = new HashMap<>();
+    counts.adders().forEach((option, adder) -> result.put(option, adder.intValue()));
+    return result;
+  }
+
+  /**
+   * 적립된 증가분을 파이프라인 1회로 Redis에 반영.
+   *
+   * <p>종료 처리와 주기 반영이 동시에 호출될 수 있으므로 직렬화한다. 반환 시점에는 그 전에 적립된 증가분이 모두 Redis에 반영(또는 실패 시 재적립)되어 있다.
+   */
+  public synchronized void flush() {
+    List<Delta> deltas = new ArrayList<>();
+    LocalDateTime now = LocalDateTime.now();
+    pending.forEach(
+        (voteId, counts) -> {
+          counts
+              .adders()
+              .forEach(
+                  (option, adder) -> {
+                    long delta = adder.sumThenReset();
+                    if (delta != 0) deltas.add(new Delta(voteId, option, delta, counts.closedAt()));
+                  });
+          // 종료된 투표는 더 이상 응답이 들어오지 않으므로 정리 (다음 주기까지 여유를 둠)
+          if (counts.closedAt().plusMinutes(1).isBefore(now)) pending.remove(voteId, counts);
+        });
+    if (deltas.isEmpty()) return;
+
+    Map<Long, LocalDateTime> touchedVotes = new HashMap<>();
+    deltas.forEach(d -> touchedVotes.putIfAbsent(d.voteId(), d.closedAt()));
+
+    try {
+      redisTemplate.executePipelined(
+          new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+              deltas.forEach(
+                  d ->
+                      operations
+                          .opsForHash()
+                          .increment(
+                              VoteResultRedisService.keyOf(d.voteId()),
+                              String.valueOf(d.optionNumber()),
+                              d.delta()));
+              touchedVotes.forEach(
+                  (voteId, closedAt) -> {
+                    operations.expire(VoteResultRedisService.keyOf(voteId), ttlOf(closedAt));
+                    operations.convertAndSend(
+                        VoteResultRedisService.CHANGED_CHANNEL, voteId.toString());
+                  });
+              return null;
+            }
+          });
+    } catch (Exception e) {
+      log.error(
+          "[VoteCountAggregator#flush] 카운트 반영 실패, 다음 주기에 재시도 - size={}, reason={}",
+          deltas.size(),
+          e.getMessage());
+      deltas.forEach(
+          d ->
+              pending
+                  .computeIfAbsent(
+                      d.voteId(), id -> new PendingCounts(d.closedAt(), new ConcurrentHashMap<>()))
+                  .adders()
+                  .computeIfAbsent(d.optionNumber(), option -> new LongAdder())
+                  .add(d.delta()));
+    }
+  }
+
+  /** 투표 결과 캐시와 같이 종료 6시간 후 만료 */
+  private Duration ttlOf(LocalDateTime closedAt) {
+    Duration ttl = Duration.between(LocalDateTime.now(), closedAt.plusHours(6));
+    return ttl.isNegative() || ttl.isZero() ? Duration.ofHours(6) : ttl;
+  }
+
+  private record PendingCounts(LocalDateTime closedAt, Map<Integer, LongAdder> adders) {}
+
+  private record Delta(Long voteId, int optionNumber, long delta, LocalDateTime closedAt) {}
+}
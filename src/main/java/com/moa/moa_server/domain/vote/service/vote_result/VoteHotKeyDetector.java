@@ -0,0 +1,48 @@
+package com.moa.moa_server.domain.vote.service.vote_result;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * 투표별 초당 응답 수를 서버 내에서 집계해 핫 키(응답이 몰리는 투표)를 판정하는 컴포넌트.
+ *
+ * <p>1초 고정 윈도우 카운터이며, 한 서버 기준으로 임계치를 넘으면 핫 투표로 본다. 여러 서버에 부하가 분산되면 전체 유입량은 서버 수만큼 더 크다.
+ */
+@Component
+public class VoteHotKeyDetector {
+
+  /** 서버 1대 기준 초당 응답 수 임계치 */
+  static final int RATE_THRESHOLD_PER_SECOND = 50;
+
+  private static final long MAXIMUM_SIZE = 10_000;
+
+  private final Cache<Long, Window> windows =
+      Caffeine.newBuilder()
+          .maximumSize(MAXIMUM_SIZE)
+          .expireAfterAccess(Duration.ofSeconds(10))
+          .build();
+
+  /**
+   * 응답 1건을 기록하고 현재 윈도우에서 임계치에 도달했는지 반환.
+   *
+   * @return 이번 응답으로 임계치에 도달했으면 true (윈도우당 최대 1회)
+   */
+  public boolean recordAndCheck(Long voteId) {
+    long currentSecond = System.currentTimeMillis() / 1000;
+    Window window =
+        windows
+            .asMap()
+            .compute(
+                voteId,
+                (id, prev) ->
+                    prev == null || prev.second() != currentSecond
+                        ? new Window(currentSecond, new AtomicInteger())
+                        : prev);
+    return window.count().incrementAndGet() == RATE_THRESHOLD_PER_SECOND;
+  }
+
+  private record Window(long second, AtomicInteger count) {}
+}
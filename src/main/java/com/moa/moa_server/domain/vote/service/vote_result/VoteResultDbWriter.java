@@ -1,60 +1,106 @@
 package com.moa.moa_server.domain.vote.service.vote_result;
 
+import com.moa.moa_server.domain.vote.config.VoteCountAggregationProperties;
 import com.moa.moa_server.domain.vote.entity.Vote;
-import com.moa.moa_server.domain.vote.entity.VoteResponse;
 import com.moa.moa_server.domain.vote.entity.VoteResult;
-import com.moa.moa_server.domain.vote.model.ResultRaw;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
-import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
-import com.moa.moa_server.domain.vote.repository.VoteResultRepository;
+import com.moa.moa_server.domain.vote.repository.VoteResultBatchRepository;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteResponseCounter;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /** 종료된 투표에 대해 결과를 집계하고 DB에 저장하는 서비스 */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class VoteResultDbWriter {
 
-  private final VoteResponseRepository voteResponseRepository;
-  private final VoteResultRepository voteResultRepository;
+  private final VoteResultBatchRepository voteResultBatchRepository;
   private final VoteRepository voteRepository;
+  private final VoteResponseCounter voteResponseCounter;
 
-  /** 종료된 투표에 대해 투표 결과 집계 및 DB 저장 후 반환 */
-  public List<ResultRaw> finalize(Vote vote) {
-    // 투표 상태 변경
-    vote.close();
-    voteRepository.save(vote);
-
-    // 투표 결과 집계
-    List<VoteResponse> responses = voteResponseRepository.findAllByVote(vote);
-    Map<Integer, Long> countMap =
-        responses.stream()
-            .filter(vr -> vr.getOptionNumber() > 0)
-            .collect(Collectors.groupingBy(VoteResponse::getOptionNumber, Collectors.counting()));
-
-    int totalCount = countMap.values().stream().mapToInt(Number::intValue).sum();
-
-    // vote_result 테이블에 집계 결과 저장
-    List<VoteResult> results =
-        Stream.of(1, 2)
-            .map(
-                option -> {
-                  int count = countMap.getOrDefault(option, 0L).intValue();
-                  double ratio = totalCount == 0 ? 0.0 : (count * 100.0) / totalCount;
-
-                  return VoteResult.create(vote, option, count, ratio);
-                })
-            .toList();
-
-    voteResultRepository.saveAll(results);
-
-    // ResultRaw로 변환 후 반환
-    return results.stream()
-        .map(r -> new ResultRaw(r.getOptionNumber(), r.getCount(), r.getRatio().doubleValue()))
+  private final VoteResultRedisService voteResultRedisService;
+  private final VoteFeedIndexService voteFeedIndexService;
+  private final VoteCountAggregator countAggregator;
+  private final VoteCountAggregationProperties aggregationProperties;
+
+  /**
+   * 종료 처리할 수 있는 투표의 종료 시각 상한 (UTC).
+   *
+   * <p>로컬 집계 모드에서는 모든 서버의 증가분이 Redis에 반영될 때까지 {@link
+   * VoteCountAggregationProperties#finalizeDelay()}만큼 종료 처리를 미룬다.
+   */
+  public LocalDateTime finalizeCutoff(LocalDateTime now) {
+    return now.minus(aggregationProperties.finalizeDelay());
+  }
+
+  /**
+   * 종료 시각이 지난 투표들의 최종 결과를 일괄 저장하고 CLOSED로 변경.
+   *
+   * <p>최종 카운트는 L1 캐시를 거치지 않고 Redis 파이프라인 1회로 읽고, 캐시가 없는 투표만 DB와 write-behind 저널에서 집계한다. 결과는 다중 행
+   * INSERT 1회, 상태 변경은 UPDATE 1회로 처리한다. 로컬 집계 모드에서는 이 서버의 증가분을 먼저 반영하고, {@link #finalizeCutoff}가 지나지
+   * 않은 투표는 다음 실행으로 미룬다.
+   *
+   * @param votes 종료 처리할 투표 목록
+   * @return CLOSED로 변경된 투표 수
+   */
+  @Transactional
+  public int finalizeAll(List<Vote> votes) {
+    if (aggregationProperties.isEnabled()) {
+      countAggregator.flush();
+      LocalDateTime cutoff = finalizeCutoff(LocalDateTime.now(ZoneOffset.UTC));
+      votes = votes.stream().filter(vote -> !vote.getClosedAt().isAfter(cutoff)).toList();
+    }
+    if (votes.isEmpty()) return 0;
+
+    List<Long> voteIds = votes.stream().map(Vote::getId).toList();
+    Map<Long, Map<Integer, Integer>> cached;
+    try {
+      cached = voteResultRedisService.getOptionCountsFromRedis(voteIds);
+    } catch (DataAccessException e) {
+      log.error(
+          "[VoteResultDbWriter#finalizeAll] Redis 최종 카운트 조회 실패 - DB 집계로 종료 처리 voteIds={}, reason={}",
+          voteIds,
+          e.getMessage());
+      cached = Map.of();
+    }
+
+    List<VoteResult> results = new ArrayList<>(votes.size() * 2);
+    for (Vote vote : votes) {
+      Map<Integer, Integer> counts = cached.get(vote.getId());
+      if (counts == null || !counts.containsKey(1) || !counts.containsKey(2)) {
+        log.warn(
+            "[VoteResultDbWriter#finalizeAll] Redis 캐시 없음 - DB 집계로 종료 처리 voteId={}", vote.getId());
+        // write-behind 모드에서 저널을 읽지 못하면 예외가 전파되어 종료 처리가 다음 실행으로 미뤄진다
+        counts = voteResponseCounter.count(vote.getId());
+      }
+      results.addAll(toVoteResults(vote, counts));
+    }
+
+    voteResultBatchRepository.insertIgnoreAll(results);
+    voteFeedIndexService.removeAll(votes);
+    return voteRepository.closeAllByIds(voteIds, LocalDateTime.now());
+  }
+
+  /** 옵션(1, 2)별 VoteResult 생성 */
+  private List<VoteResult> toVoteResults(Vote vote, Map<Integer, Integer> counts) {
+    int totalCount = counts.getOrDefault(1, 0) + counts.getOrDefault(2, 0);
+    return List.of(1, 2).stream()
+        .map(
+            option -> {
+              int count = counts.getOrDefault(option, 0);
+              double ratio = totalCount == 0 ? 0.0 : (count * 100.0) / totalCount;
+              return VoteResult.create(vote, option, count, ratio);
+            })
         .toList();
   }
 }
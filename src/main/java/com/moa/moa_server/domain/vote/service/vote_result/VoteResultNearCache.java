@@ -0,0 +1,51 @@
+package com.moa.moa_server.domain.vote.service.vote_result;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중 투표 옵션별 카운트의 서버 내(L1) 캐시.
+ *
+ * <p>크기와 시간(1초)으로 제한되며, 투표 응답 시 Redis pub/sub 알림으로 무효화된다. 알림은 투표당 유효 시간마다 최대 1회만 발송되므로 응답이 몰리는 투표도
+ * 캐시 히트율이 유지되고, 그 사이의 변경은 캐시 만료로 반영된다. 히트/미스 지표는 {@code
+ * cache_gets_total{cache="vote_result_near_cache"}}로 노출된다.
+ */
+@Component
+public class VoteResultNearCache {
+
+  private static final String CACHE_NAME = "vote_result_near_cache";
+  private static final long MAXIMUM_SIZE = 10_000;
+
+  /** 캐시 유효 시간 (조회 결과가 지연될 수 있는 최대 시간) */
+  public static final Duration STALENESS = Duration.ofSeconds(1);
+
+  private final Cache<Long, Map<Integer, Integer>> cache =
+      Caffeine.newBuilder()
+          .maximumSize(MAXIMUM_SIZE)
+          .expireAfterWrite(STALENESS)
+          .recordStats()
+          .build();
+
+  public VoteResultNearCache(MeterRegistry meterRegistry) {
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  /** 캐시에 있는 투표의 카운트만 반환 */
+  public Map<Long, Map<Integer, Integer>> getAllPresent(Collection<Long> voteIds) {
+    return cache.getAllPresent(voteIds);
+  }
+
+  public void put(Long voteId, Map<Integer, Integer> counts) {
+    cache.put(voteId, Map.copyOf(counts));
+  }
+
+  public void invalidate(Long voteId) {
+    cache.invalidate(voteId);
+  }
+}
@@ -1,33 +1,87 @@
 package com.moa.moa_server.domain.vote.service.vote_result;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
-/** Redis에서 투표 결과를 조회하거나 캐시하는 서비스 */
+/**
+ * Redis에서 투표 결과를 조회하거나 캐시하는 서비스 (조회는 {@link VoteResultNearCache}를 먼저 확인).
+ *
+ * <p>응답이 몰리는 투표는 스트라이프 모드로 전환되어 카운트 증가가 {@code vote_result:{voteId}:{stripe}} 하위 키들로 분산된다. 전환 여부는
+ * 기본 해시의 {@code striped} 필드로 표시되며, 조회 시 기본 해시와 모든 스트라이프를 합산한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VoteResultRedisService {
 
   private final RedisTemplate<String, Object> redisTemplate;
+  private final VoteResultNearCache nearCache;
+  private final VoteHotKeyDetector hotKeyDetector;
+  private final VoteCountAggregator countAggregator;
   private static final String PREFIX = "vote_result:";
 
-  public void incrementOptionCount(Long voteId, int optionNumber) {
-    String key = PREFIX + voteId;
+  /** 스트라이프 모드 표시 필드 (값: 스트라이프 수) */
+  static final String STRIPED_FIELD = "striped";
+
+  static final int STRIPE_COUNT = 8;
+
+  /** 이 서버가 스트라이프 모드로 쓰거나 조회한 투표 ID (종료 후에는 접근이 줄어들므로 접근 기준 만료) */
+  private final Cache<Long, Boolean> stripedVoteIds =
+      Caffeine.newBuilder().maximumSize(10_000).expireAfterAccess(Duration.ofHours(1)).build();
+
+  /** 투표 결과 변경 알림 채널 (메시지 본문: voteId) */
+  public static final String CHANGED_CHANNEL = "vote_result:changed";
+
+  private static final String CHANGE_NOTIFIED_PREFIX = "vote_result_notified:";
+
+  public static String keyOf(Long voteId) {
+    return PREFIX + voteId;
+  }
+
+  public static String stripeKeyOf(Long voteId, int stripe) {
+    return PREFIX + voteId + ":" + stripe;
+  }
+
+  /** 변경 알림 발송 표시 키 (키가 있는 동안은 같은 투표의 변경 알림을 생략) */
+  public static String changeNotifiedKeyOf(Long voteId) {
+    return CHANGE_NOTIFIED_PREFIX + voteId;
+  }
+
+  /**
+   * 응답 1건의 카운트를 증가시킬 키를 결정.
+   *
+   * <p>초당 응답 수가 임계치를 넘은 투표는 스트라이프 모드로 전환하고, 사용자 ID 해시로 스트라이프를 고른다. 조회는 항상 기본 해시와 스트라이프를 합산하므로 서버마다
+   * 전환 시점이 달라도 집계는 정확하다.
+   */
+  public String counterKeyOf(Long voteId, Long userId) {
+    if (stripedVoteIds.getIfPresent(voteId) == null) {
+      if (!hotKeyDetector.recordAndCheck(voteId)) return keyOf(voteId);
+      enableStriping(voteId);
+    }
+    return stripeKeyOf(voteId, Math.floorMod(userId.hashCode(), STRIPE_COUNT));
+  }
+
+  private void enableStriping(Long voteId) {
     try {
-      redisTemplate.opsForHash().increment(key, String.valueOf(optionNumber), 1);
+      redisTemplate.opsForHash().putIfAbsent(keyOf(voteId), STRIPED_FIELD, STRIPE_COUNT);
+      stripedVoteIds.put(voteId, Boolean.TRUE);
+      log.info("[VoteResultRedisService#enableStriping] 스트라이프 모드 전환 - voteId={}", voteId);
     } catch (Exception e) {
-      log.error(
-          "[Redis ERROR] 투표 응답 카운트 증가 실패 - voteId={}, option={}, reason={}",
-          voteId,
-          optionNumber,
-          e.getMessage());
+      // 표시에 실패하면 조회 시 스트라이프를 합산하지 못하므로 기본 키에 계속 기록
+      log.error("[Redis ERROR] 스트라이프 모드 전환 실패 - voteId={}, reason={}", voteId, e.getMessage());
     }
   }
 
@@ -35,6 +89,9 @@ public class VoteResultRedisService {
     String key = PREFIX + voteId;
 
     try {
+      // DB 기준으로 다시 채우는 경우 남아 있는 스트라이프가 중복 합산되지 않도록 정리
+      redisTemplate.delete(stripeKeysOf(voteId));
+      stripedVoteIds.invalidate(voteId);
       counts.forEach(
           (option, count) -> redisTemplate.opsForHash().put(key, String.valueOf(option), count));
 
@@ -42,26 +99,140 @@ public class VoteResultRedisService {
       if (!ttl.isNegative() && !ttl.isZero()) {
         redisTemplate.expire(key, ttl);
       }
+      nearCache.invalidate(voteId);
     } catch (Exception e) {
       log.error("[Redis ERROR] 투표 초기 캐시 설정 실패 - voteId={}, reason={}", voteId, e.getMessage());
     }
   }
 
-  public Map<Integer, Integer> getOptionCounts(Long voteId) {
-    String key = PREFIX + voteId;
-    try {
-      Map<Object, Object> raw = redisTemplate.opsForHash().entries(key);
+  /**
+   * 여러 투표의 옵션별 카운트를 파이프라인 1회로 조회 (이 서버가 모르는 스트라이프 모드 투표가 있을 때만 파이프라인 1회 추가).
+   *
+   * <p>조회 실패는 캐시 없음과 구분되도록 예외로 전파한다. 호출자는 실패 시 DB 집계 결과로 캐시를 덮어쓰면 안 된다.
+   *
+   * @return voteId별 카운트 (캐시가 없는 투표는 포함되지 않음)
+   * @throws org.springframework.dao.DataAccessException Redis 조회 실패 시
+   */
+  public Map<Long, Map<Integer, Integer>> getOptionCounts(List<Long> voteIds) {
+    // L1 캐시에 있는 투표는 Redis 조회 생략
+    Map<Long, Map<Integer, Integer>> result = new HashMap<>(nearCache.getAllPresent(voteIds));
+    List<Long> missedIds = voteIds.stream().filter(id -> !result.containsKey(id)).toList();
+    if (missedIds.isEmpty()) return withPendingCounts(result);
+
+    fetchCounts(missedIds)
+        .forEach(
+            (voteId, counts) -> {
+              result.put(voteId, counts);
+              nearCache.put(voteId, counts);
+            });
+    return withPendingCounts(result); // 누락된 투표는 fallback 유도
+  }
 
-      Map<Integer, Integer> result = new HashMap<>();
-      for (Map.Entry<Object, Object> entry : raw.entrySet()) {
-        Integer keyInt = Integer.parseInt(entry.getKey().toString());
-        Integer valueInt = Integer.parseInt(entry.getValue().toString());
-        result.put(keyInt, valueInt);
+  /**
+   * 종료 처리용 옵션별 카운트 조회.
+   *
+   * <p>L1 캐시는 변경 알림 전까지 최대 TTL만큼 지난 값을 돌려줄 수 있으므로, 최종 결과로 저장될 카운트는 L1 캐시를 거치지 않고 Redis에서 직접 읽는다. 읽은
+   * 값은 L1 캐시에 넣지 않는다.
+   *
+   * @return voteId별 카운트 (캐시가 없는 투표는 포함되지 않음)
+   * @throws org.springframework.dao.DataAccessException Redis 조회 실패 시
+   */
+  public Map<Long, Map<Integer, Integer>> getOptionCountsFromRedis(List<Long> voteIds) {
+    return withPendingCounts(fetchCounts(voteIds));
+  }
+
+  /**
+   * 기본 해시와 스트라이프를 합산한 카운트를 Redis에서 조회 (조회 실패 시 예외 전파).
+   *
+   * <p>이 서버가 스트라이프 모드로 알고 있는 투표는 스트라이프 키도 같은 파이프라인에 넣어 한 번에 조회한다. 다른 서버가 전환해 이 서버가 모르는 투표만 스트라이프
+   * 조회용 파이프라인을 1회 추가하고, 이후 조회를 위해 스트라이프 모드로 기록한다.
+   */
+  private Map<Long, Map<Integer, Integer>> fetchCounts(List<Long> voteIds) {
+    List<Boolean> knownStriped =
+        voteIds.stream().map(id -> stripedVoteIds.getIfPresent(id) != null).toList();
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < voteIds.size(); i++) {
+      keys.add(keyOf(voteIds.get(i)));
+      if (knownStriped.get(i)) keys.addAll(stripeKeysOf(voteIds.get(i)));
+    }
+    List<Object> rawList = hashEntriesPipelined(keys);
+
+    Map<Long, Map<Integer, Integer>> fetched = new HashMap<>();
+    List<Long> unknownStripedIds = new ArrayList<>();
+    int cursor = 0;
+    for (int i = 0; i < voteIds.size(); i++) {
+      Long voteId = voteIds.get(i);
+      Object base = rawList.get(cursor++);
+      List<Object> stripes = List.of();
+      if (knownStriped.get(i)) {
+        stripes = rawList.subList(cursor, cursor + STRIPE_COUNT);
+        cursor += STRIPE_COUNT;
       }
-      return result;
-    } catch (Exception e) {
-      log.error("[Redis ERROR] 캐시 조회 실패 - voteId={}, reason={}", voteId, e.getMessage());
-      return null; // fallback 유도
+      if (!(base instanceof Map<?, ?> raw) || raw.isEmpty()) continue;
+
+      Map<Integer, Integer> counts = addCounts(new HashMap<>(), raw);
+      if (!raw.containsKey(STRIPED_FIELD)) {
+        if (knownStriped.get(i)) stripedVoteIds.invalidate(voteId); // 다른 서버가 DB 기준으로 다시 채움
+      } else if (knownStriped.get(i)) {
+        stripes.forEach(stripe -> addCounts(counts, stripe));
+      } else {
+        unknownStripedIds.add(voteId);
+      }
+      fetched.put(voteId, counts);
+    }
+
+    if (!unknownStripedIds.isEmpty()) {
+      List<String> stripeKeys =
+          unknownStripedIds.stream().flatMap(id -> stripeKeysOf(id).stream()).toList();
+      List<Object> stripeRawList = hashEntriesPipelined(stripeKeys);
+      for (int i = 0; i < stripeKeys.size(); i++) {
+        addCounts(fetched.get(unknownStripedIds.get(i / STRIPE_COUNT)), stripeRawList.get(i));
+      }
+      unknownStripedIds.forEach(id -> stripedVoteIds.put(id, Boolean.TRUE));
     }
+    return fetched;
+  }
+
+  /** 이 서버에서 아직 Redis에 반영되지 않은 증가분을 더해 본인 응답이 바로 보이도록 함 (L1 캐시에는 넣지 않음) */
+  private Map<Long, Map<Integer, Integer>> withPendingCounts(
+      Map<Long, Map<Integer, Integer>> result) {
+    result.replaceAll(
+        (voteId, counts) -> {
+          Map<Integer, Integer> pending = countAggregator.pendingCounts(voteId);
+          if (pending.isEmpty()) return counts;
+
+          Map<Integer, Integer> merged = new HashMap<>(counts);
+          pending.forEach((option, delta) -> merged.merge(option, delta, Integer::sum));
+          return merged;
+        });
+    return result;
+  }
+
+  private List<Object> hashEntriesPipelined(List<String> keys) {
+    return redisTemplate.executePipelined(
+        new SessionCallback<>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public Object execute(RedisOperations operations) {
+            keys.forEach(key -> operations.opsForHash().entries(key));
+            return null;
+          }
+        });
+  }
+
+  private static List<String> stripeKeysOf(Long voteId) {
+    return IntStream.range(0, STRIPE_COUNT).mapToObj(i -> stripeKeyOf(voteId, i)).toList();
+  }
+
+  /** 해시의 옵션별 카운트를 누적 (스트라이프 표시 필드는 제외, 해시가 없으면 그대로 반환) */
+  private Map<Integer, Integer> addCounts(Map<Integer, Integer> counts, Object hash) {
+    if (!(hash instanceof Map<?, ?> raw)) return counts;
+    raw.forEach(
+        (key, value) -> {
+          if (STRIPED_FIELD.equals(key.toString())) return;
+          counts.merge(
+              Integer.parseInt(key.toString()), Integer.parseInt(value.toString()), Integer::sum);
+        });
+    return counts;
   }
 }
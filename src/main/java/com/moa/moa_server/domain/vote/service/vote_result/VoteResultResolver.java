@@ -1,18 +1,21 @@
 package com.moa.moa_server.domain.vote.service.vote_result;
 
 import com.moa.moa_server.domain.vote.entity.Vote;
-import com.moa.moa_server.domain.vote.entity.VoteResponse;
 import com.moa.moa_server.domain.vote.entity.VoteResult;
 import com.moa.moa_server.domain.vote.model.ResultRaw;
-import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
 import com.moa.moa_server.domain.vote.repository.VoteResultRepository;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteResponseCounter;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 /** 투표 상태에 따라 결과 조회 경로(DB, Redis)를 결정하는 중간 조정 서비스 */
@@ -21,89 +24,134 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class VoteResultResolver {
 
-  private final VoteResponseRepository voteResponseRepository;
   private final VoteResultRepository voteResultRepository;
+  private final VoteResponseCounter voteResponseCounter;
 
   private final VoteResultRedisService voteResultRedisService;
-  private final VoteResultDbWriter voteResultDbWriter;
 
   /** 캐시 또는 DB 상태에 따라 투표 결과를 조회하거나 계산 */
   public List<ResultRaw> getOrComputeResults(Vote vote) {
-    // 0. 반려(REJECTED) 또는 미승인(PENDING) 투표는 결과 없음
-    if (vote.getVoteStatus() == Vote.VoteStatus.REJECTED
-        || vote.getVoteStatus() == Vote.VoteStatus.PENDING) {
-      return List.of();
+    return getOrComputeResults(List.of(vote)).get(vote.getId());
+  }
+
+  /**
+   * 여러 투표의 결과를 한 번에 조회하거나 계산.
+   *
+   * <p>진행 중 투표는 Redis 파이프라인 1회로, 종료된 투표는 {@code vote_id IN (...)} 쿼리 1회로 조회한다. 종료 처리 전인 투표는 진행 중
+   * 투표와 같이 Redis에서 조회하고, 캐시 유실 시에만 투표별로 집계한다. Redis 조회 자체가 실패한 경우에는 DB 집계로 응답만 하고 캐시는 덮어쓰지 않는다.
+   * DB에는 쓰지 않으므로 읽기 전용 트랜잭션에서 호출할 수 있다.
+   *
+   * @param votes 조회 대상 투표 목록
+   * @return voteId별 결과 (입력 순서 유지)
+   */
+  public Map<Long, List<ResultRaw>> getOrComputeResults(List<Vote> votes) {
+    Map<Long, List<ResultRaw>> results = new LinkedHashMap<>();
+    List<Vote> closedVotes = new ArrayList<>();
+    List<Vote> openVotes = new ArrayList<>();
+
+    LocalDateTime now = LocalDateTime.now();
+    for (Vote vote : votes) {
+      results.put(vote.getId(), List.of());
+      // 반려(REJECTED) 또는 미승인(PENDING) 투표는 결과 없음
+      if (vote.getVoteStatus() == Vote.VoteStatus.REJECTED
+          || vote.getVoteStatus() == Vote.VoteStatus.PENDING) {
+        continue;
+      }
+      if (vote.getClosedAt().isBefore(now)) closedVotes.add(vote);
+      else openVotes.add(vote);
     }
 
-    // 1. 종료된 투표: DB에서 조회 또는 종료 처리
-    log.debug(
-        "voteClosedAt={}, now={}, result={}",
-        vote.getClosedAt(),
-        LocalDateTime.now(),
-        vote.getClosedAt().isBefore(LocalDateTime.now()));
-    if (vote.getClosedAt().isBefore(LocalDateTime.now())) {
-      if (voteResultRepository.existsByVoteId(vote.getId())) {
-        return getResultsFromDbOnly(vote); // 이미 집계된 결과 조회
+    // 1. 종료된 투표: DB에서 일괄 조회 (종료 처리는 VoteCloseScheduler가 담당하며, 조회 경로는 쓰기를 하지 않음)
+    if (!closedVotes.isEmpty()) {
+      Map<Long, List<ResultRaw>> stored = getResultsFromDbOnly(closedVotes);
+      for (Vote vote : closedVotes) {
+        List<ResultRaw> raw = stored.get(vote.getId());
+        if (raw != null) results.put(vote.getId(), raw);
+        else openVotes.add(vote); // 아직 종료 처리 전이면 진행 중 투표와 같은 경로로 계산
       }
-      return voteResultDbWriter.finalize(vote); // 최초 종료 처리
     }
 
-    // 2. 진행 중 투표: Redis 캐시 조회
-    Map<Integer, Integer> cached = voteResultRedisService.getOptionCounts(vote.getId());
-    if (cached.containsKey(1) && cached.containsKey(2)) {
-      return toResultRawListInt(cached);
+    // 2. 진행 중(또는 종료 처리 전) 투표: Redis 캐시 일괄 조회
+    if (!openVotes.isEmpty()) {
+      List<Long> openVoteIds = openVotes.stream().map(Vote::getId).toList();
+      Map<Long, Map<Integer, Integer>> cached;
+      boolean redisAvailable = true;
+      try {
+        cached = voteResultRedisService.getOptionCounts(openVoteIds);
+      } catch (DataAccessException e) {
+        log.error(
+            "[Redis ERROR] 투표 결과 캐시 조회 실패 - DB 집계로 응답하고 캐시는 갱신하지 않음 voteIds={}, reason={}",
+            openVoteIds,
+            e.getMessage());
+        cached = Map.of();
+        redisAvailable = false;
+      }
+
+      for (Vote vote : openVotes) {
+        Map<Integer, Integer> counts = cached.get(vote.getId());
+        if (counts != null && counts.containsKey(1) && counts.containsKey(2)) {
+          results.put(vote.getId(), toResultRawList(counts));
+          continue;
+        }
+
+        // 3. Redis 조회 실패 → DB 집계로 응답만 (저널 응답이 빠질 수 있으므로 캐시에 쓰지 않음)
+        if (!redisAvailable) {
+          results.put(vote.getId(), toResultRawList(voteResponseCounter.countStored(vote.getId())));
+          continue;
+        }
+
+        // 4. Redis miss → 실시간 집계 후 Redis에 저장
+        log.warn(
+            "[Redis MISS] voteId={} - 예상치 못한 Redis 캐시 유실 또는 DB 저장 실패 가능성. 실시간으로 집계 후 Redis에 저장합니다.",
+            vote.getId());
+        results.put(vote.getId(), computeAndCacheResults(vote));
+      }
     }
 
-    // 3. Redis miss → 실시간 집계 후 Redis에 저장
-    log.warn(
-        "[Redis MISS] voteId={} - 예상치 못한 Redis 캐시 유실 또는 DB 저장 실패 가능성. 실시간으로 집계 후 Redis에 저장합니다.",
-        vote.getId());
-    return computeAndCacheResults(vote);
+    return results;
   }
 
-  /** vote_result 테이블에서 결과 조회 */
-  private List<ResultRaw> getResultsFromDbOnly(Vote vote) {
-    List<VoteResult> results = voteResultRepository.findAllByVoteId(vote.getId());
+  /** vote_result 테이블에서 결과 일괄 조회 (집계된 투표만 포함) */
+  private Map<Long, List<ResultRaw>> getResultsFromDbOnly(List<Vote> votes) {
+    List<VoteResult> results =
+        voteResultRepository.findAllByVoteIdIn(votes.stream().map(Vote::getId).toList());
     return results.stream()
-        .map(r -> new ResultRaw(r.getOptionNumber(), r.getCount(), r.getRatio().doubleValue()))
-        .toList();
+        .sorted(Comparator.comparingInt(VoteResult::getOptionNumber))
+        .collect(
+            Collectors.groupingBy(
+                r -> r.getVote().getId(),
+                Collectors.mapping(
+                    r ->
+                        new ResultRaw(
+                            r.getOptionNumber(), r.getCount(), r.getRatio().doubleValue()),
+                    Collectors.toList())));
   }
 
-  /** 실시간 집계 후 Redis에 저장, 결과 계산하여 반환 */
+  /**
+   * 저장 대기 중인 응답까지 포함해 실시간 집계 후 Redis에 저장, 결과 계산하여 반환.
+   *
+   * <p>write-behind 저널 조회에 실패하면 DB에 저장된 응답만으로 응답하고 캐시에는 쓰지 않는다.
+   */
   private List<ResultRaw> computeAndCacheResults(Vote vote) {
-    List<VoteResponse> responses = voteResponseRepository.findAllByVote(vote);
-
-    Map<Integer, Long> countMap =
-        responses.stream()
-            .filter(vr -> vr.getOptionNumber() > 0)
-            .collect(Collectors.groupingBy(VoteResponse::getOptionNumber, Collectors.counting()));
-
-    Map<Integer, Integer> intMap =
-        countMap.entrySet().stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().intValue()));
+    Map<Integer, Integer> counts;
+    try {
+      counts = voteResponseCounter.count(vote.getId());
+    } catch (DataAccessException e) {
+      log.error(
+          "[Redis ERROR] 저널 조회 실패 - DB 집계로 응답하고 캐시는 갱신하지 않음 voteId={}, reason={}",
+          vote.getId(),
+          e.getMessage());
+      return toResultRawList(voteResponseCounter.countStored(vote.getId()));
+    }
 
     // Redis에 저장
-    voteResultRedisService.setCountsWithTTL(vote.getId(), intMap, vote.getClosedAt());
+    voteResultRedisService.setCountsWithTTL(vote.getId(), counts, vote.getClosedAt());
 
-    return toResultRawListLong(countMap);
-  }
-
-  /** countMap(Long) 기반으로 ResultRaw 리스트 생성 */
-  private List<ResultRaw> toResultRawListLong(Map<Integer, Long> countMap) {
-    int total =
-        Stream.of(1, 2).mapToInt(option -> countMap.getOrDefault(option, 0L).intValue()).sum();
-    return Stream.of(1, 2)
-        .map(
-            option -> {
-              int count = countMap.getOrDefault(option, 0L).intValue();
-              double ratio = total == 0 ? 0.0 : (count * 100.0) / total;
-              return new ResultRaw(option, count, ratio);
-            })
-        .toList();
+    return toResultRawList(counts);
   }
 
-  /** countMap(Integer) 기반으로 ResultRaw 리스트 생성 */
-  private List<ResultRaw> toResultRawListInt(Map<Integer, Integer> countMap) {
+  /** countMap 기반으로 ResultRaw 리스트 생성 */
+  private List<ResultRaw> toResultRawList(Map<Integer, Integer> countMap) {
     int total = Stream.of(1, 2).mapToInt(option -> countMap.getOrDefault(option, 0)).sum();
     return Stream.of(1, 2)
         .map(
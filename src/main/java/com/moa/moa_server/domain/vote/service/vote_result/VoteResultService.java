@@ -3,7 +3,9 @@ package com.moa.moa_server.domain.vote.service.vote_result;
 import com.moa.moa_server.domain.vote.dto.response.VoteOptionResultWithId;
 import com.moa.moa_server.domain.vote.dto.response.result.VoteOptionResult;
 import com.moa.moa_server.domain.vote.entity.Vote;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -25,4 +27,37 @@ public class VoteResultService {
         .map(r -> new VoteOptionResultWithId(vote.getId(), r.optionNumber(), r.count(), r.ratio()))
         .toList();
   }
+
+  /** 여러 투표의 결과를 한 번에 조회 (voteId별, 입력 순서 유지) */
+  public Map<Long, List<VoteOptionResult>> getResults(List<Vote> votes) {
+    Map<Long, List<VoteOptionResult>> results = new LinkedHashMap<>();
+    voteResultResolver
+        .getOrComputeResults(votes)
+        .forEach(
+            (voteId, raws) ->
+                results.put(
+                    voteId,
+                    raws.stream()
+                        .map(r -> new VoteOptionResult(r.optionNumber(), r.count(), r.ratio()))
+                        .toList()));
+    return results;
+  }
+
+  /** 여러 투표의 결과를 voteId 포함 형태로 한 번에 조회 (voteId별, 입력 순서 유지) */
+  public Map<Long, List<VoteOptionResultWithId>> getResultsWithVoteId(List<Vote> votes) {
+    Map<Long, List<VoteOptionResultWithId>> results = new LinkedHashMap<>();
+    voteResultResolver
+        .getOrComputeResults(votes)
+        .forEach(
+            (voteId, raws) ->
+                results.put(
+                    voteId,
+                    raws.stream()
+                        .map(
+                            r ->
+                                new VoteOptionResultWithId(
+                                    voteId, r.optionNumber(), r.count(), r.ratio()))
+                        .toList()));
+    return results;
+  }
 }
@@ -0,0 +1,156 @@
+package com.moa.moa_server.domain.vote.service.vote_timer;
+
+import com.moa.moa_server.domain.vote.config.VoteCountAggregationProperties;
+import com.moa.moa_server.domain.vote.event.VoteTimerRequestedEvent;
+import com.moa.moa_server.domain.vote.model.VoteTimerEvent;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 투표 오픈/종료 시각을 Redis ZSet({@code vote:timer}, score = 실행 시각 epoch ms)으로 관리하는 타이머 서비스.
+ *
+ * <p>폴러는 만기된 이벤트만 꺼내므로 vote 테이블을 스캔하지 않고 수 초 이내에 상태를 전환할 수 있다. 트랜잭션 안에서 요청된 예약은 커밋 이후에 등록하므로 롤백된
+ * 투표의 타이머는 남지 않는다.
+ *
+ * <p>처리에 실패한 이벤트는 이벤트별 시도 횟수({@code vote:timer:attempts})를 기록하며 지수 백오프로 재시도하고, {@link
+ * #MAX_ATTEMPTS}회 실패하면 dead-letter ZSet({@code vote:timer:dead}, score = 이동 시각)으로 옮긴다. 이 경우 보정
+ * 스케줄러가 처리한다.
+ */
+@Slf4j
+@Service
+public class VoteTimerService {
+
+  public static final int MAX_ATTEMPTS = 5;
+
+  private static final String TIMER_KEY = "vote:timer";
+  private static final String ATTEMPTS_KEY = "vote:timer:attempts";
+  private static final String DEAD_LETTER_KEY = "vote:timer:dead";
+  private static final long RETRY_BASE_DELAY_MILLIS = 5_000L;
+
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> POP_DUE_SCRIPT =
+      RedisScript.of(new ClassPathResource("redis/vote_timer_pop.lua"), List.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final VoteCountAggregationProperties aggregationProperties;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public VoteTimerService(
+      StringRedisTemplate redisTemplate,
+      VoteCountAggregationProperties aggregationProperties,
+      ApplicationEventPublisher eventPublisher) {
+    this.redisTemplate = redisTemplate;
+    this.aggregationProperties = aggregationProperties;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /** AI 투표 오픈 예약 (openAt: UTC) */
+  public void scheduleOpen(Long voteId, LocalDateTime openAt) {
+    requestSchedule(new VoteTimerEvent(VoteTimerEvent.Type.OPEN, voteId), toEpochMillis(openAt));
+  }
+
+  /**
+   * 투표 종료 예약 (closedAt: UTC). 이미 예약된 경우 실행 시각만 갱신.
+   *
+   * <p>로컬 집계 모드에서는 모든 서버의 증가분이 반영된 뒤 종료되도록 {@link VoteCountAggregationProperties#finalizeDelay()}만큼
+   * 늦게 실행한다.
+   */
+  public void scheduleClose(Long voteId, LocalDateTime closedAt) {
+    requestSchedule(
+        new VoteTimerEvent(VoteTimerEvent.Type.CLOSE, voteId),
+        toEpochMillis(closedAt.plus(aggregationProperties.finalizeDelay())));
+  }
+
+  /**
+   * 실행 시각이 지난 이벤트를 최대 limit개 꺼낸다. 꺼낸 이벤트는 ZSet에서 삭제된다.
+   *
+   * @param nowMillis 현재 epoch ms
+   * @param limit 최대 개수
+   */
+  @SuppressWarnings("unchecked")
+  public List<VoteTimerEvent> popDue(long nowMillis, int limit) {
+    List<String> due =
+        redisTemplate.execute(
+            POP_DUE_SCRIPT, List.of(TIMER_KEY), String.valueOf(nowMillis), String.valueOf(limit));
+    if (due == null) return List.of();
+    return due.stream().map(VoteTimerEvent::parse).toList();
+  }
+
+  /**
+   * 처리 실패한 이벤트의 시도 횟수를 늘리고 재시도 예약. 최대 시도 횟수에 도달하면 dead-letter로 옮긴다.
+   *
+   * @return 재시도가 예약되었으면 true, dead-letter로 옮겼으면 false
+   */
+  public boolean retryOrDeadLetter(VoteTimerEvent event, long nowMillis) {
+    String member = event.encode();
+    try {
+      Long attempts = redisTemplate.opsForHash().increment(ATTEMPTS_KEY, member, 1);
+      if (attempts != null && attempts >= MAX_ATTEMPTS) {
+        redisTemplate.opsForZSet().add(DEAD_LETTER_KEY, member, nowMillis);
+        redisTemplate.opsForHash().delete(ATTEMPTS_KEY, member);
+        return false;
+      }
+      long attempt = attempts == null ? 1 : attempts;
+      schedule(event, nowMillis + (RETRY_BASE_DELAY_MILLIS << (attempt - 1)));
+    } catch (Exception e) {
+      log.error(
+          "[VoteTimerService#retryOrDeadLetter] 재시도 등록 실패 - event={}, reason={}",
+          member,
+          e.getMessage());
+    }
+    return true;
+  }
+
+  /** 처리에 성공한 이벤트의 시도 횟수 초기화 */
+  public void clearAttempts(List<VoteTimerEvent> events) {
+    try {
+      redisTemplate
+          .opsForHash()
+          .delete(ATTEMPTS_KEY, events.stream().map(VoteTimerEvent::encode).toArray());
+    } catch (Exception e) {
+      log.warn("[VoteTimerService#clearAttempts] 시도 횟수 초기화 실패 - reason={}", e.getMessage());
+    }
+  }
+
+  /** dead-letter로 옮겨진 이벤트 목록 */
+  public List<VoteTimerEvent> findDeadLetters() {
+    Set<String> members = redisTemplate.opsForZSet().range(DEAD_LETTER_KEY, 0, -1);
+    if (members == null) return List.of();
+    return members.stream().map(VoteTimerEvent::parse).toList();
+  }
+
+  /** 트랜잭션 안에서 호출되면 커밋 이후, 트랜잭션 밖이면 즉시 등록 */
+  private void requestSchedule(VoteTimerEvent event, long dueMillis) {
+    eventPublisher.publishEvent(new VoteTimerRequestedEvent(event, dueMillis));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void handleTimerRequested(VoteTimerRequestedEvent event) {
+    schedule(event.event(), event.dueMillis());
+  }
+
+  /** 예약 실패 시에도 보정 스케줄러가 처리하므로 예외를 전파하지 않는다. */
+  private void schedule(VoteTimerEvent event, long dueMillis) {
+    try {
+      redisTemplate.opsForZSet().add(TIMER_KEY, event.encode(), dueMillis);
+    } catch (Exception e) {
+      log.error(
+          "[VoteTimerService#schedule] 타이머 등록 실패 - event={}, reason={}",
+          event.encode(),
+          e.getMessage());
+    }
+  }
+
+  private long toEpochMillis(LocalDateTime utcTime) {
+    return utcTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+}
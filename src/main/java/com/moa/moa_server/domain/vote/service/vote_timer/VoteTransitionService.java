@@ -0,0 +1,49 @@
+package com.moa.moa_server.domain.vote.service.vote_timer;
+
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultDbWriter;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 타이머 이벤트에 따라 투표 상태를 전환하는 서비스 */
+@Service
+@RequiredArgsConstructor
+public class VoteTransitionService {
+
+  private final VoteRepository voteRepository;
+  private final VoteResultDbWriter voteResultDbWriter;
+  private final VoteFeedIndexService voteFeedIndexService;
+
+  /** 오픈 시각이 된 PENDING AI 투표를 OPEN으로 변경하고 피드 인덱스에 추가 */
+  @Transactional
+  public int openAIVotes(List<Long> voteIds) {
+    int openedCount = voteRepository.openAIVotesByIds(voteIds, LocalDateTime.now(ZoneOffset.UTC));
+    if (openedCount > 0) {
+      voteFeedIndexService.addAll(
+          voteRepository.findAllById(voteIds).stream().filter(Vote::isOpen).toList());
+    }
+    return openedCount;
+  }
+
+  /**
+   * 종료 시각이 된 OPEN 투표를 종료 처리.
+   *
+   * <p>종료 시각이 수정되어 아직 도래하지 않은 투표나 OPEN이 아닌 투표는 제외한다. 로컬 집계 모드의 대기 시간이 지나지 않은 투표도 제외하며, 이 경우 보정
+   * 스케줄러가 처리한다.
+   */
+  public int closeVotes(List<Long> voteIds) {
+    LocalDateTime cutoff = voteResultDbWriter.finalizeCutoff(LocalDateTime.now(ZoneOffset.UTC));
+    List<Vote> votes =
+        voteRepository.findAllById(voteIds).stream()
+            .filter(Vote::isOpen)
+            .filter(vote -> !vote.getClosedAt().isAfter(cutoff))
+            .toList();
+    return voteResultDbWriter.finalizeAll(votes);
+  }
+}
@@ -0,0 +1,20 @@
+-- 커서(keyset) 페이지네이션 조회용 복합 인덱스
+-- 엔티티 @Index 선언과 이름/컬럼을 맞춰 ddl-auto 환경과 운영 스키마를 동일하게 유지한다.
+
+-- 진행 중 투표 피드: group_id IN (...) AND vote_status = 'OPEN' AND closed_at > ? ORDER BY closed_at, created_at
+CREATE INDEX idx_vote_group_status_closed_created ON vote (group_id, vote_status, closed_at, created_at);
+
+-- 그룹 투표 목록: group_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_vote_group_created ON vote (group_id, created_at, id);
+
+-- 내가 만든 투표: user_id = ? ORDER BY updated_at DESC, id DESC
+CREATE INDEX idx_vote_user_updated ON vote (user_id, updated_at, id);
+
+-- 내가 참여한 투표: user_id = ? ORDER BY voted_at DESC, vote_id DESC
+CREATE INDEX idx_vote_response_user_voted ON vote_response (user_id, voted_at, vote_id);
+
+-- 댓글 목록/롱폴링: vote_id = ? ORDER BY created_at, id
+CREATE INDEX idx_comment_vote_created ON comment (vote_id, created_at, id);
+
+-- 알림 목록: user_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_notification_user_created ON notification (user_id, created_at, id);
@@ -0,0 +1,13 @@
+-- 대량 INSERT 테이블의 ID를 시퀀스(pooled-lo, allocationSize = 50)로 발급하기 위한 시퀀스 테이블
+-- MySQL은 시퀀스를 지원하지 않으므로 Hibernate가 단일 행 테이블(next_val)로 시퀀스를 에뮬레이션한다.
+-- next_val은 다음 ID 블록의 시작 값이므로 기존 최대 ID 다음 값으로 초기화한다.
+-- 기존 AUTO_INCREMENT 속성은 그대로 두며, 애플리케이션이 ID를 직접 지정해 INSERT한다.
+
+CREATE TABLE notification_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO notification_seq SELECT COALESCE(MAX(id), 0) + 1 FROM notification;
+
+CREATE TABLE comment_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO comment_seq SELECT COALESCE(MAX(id), 0) + 1 FROM comment;
+
+CREATE TABLE vote_ranking_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO vote_ranking_seq SELECT COALESCE(MAX(id), 0) + 1 FROM vote_ranking;
@@ -0,0 +1,43 @@
+-- 투표 응답 원자 처리 (중복 판정 + 결과 집계 + 랭킹 변경 기록)
+-- KEYS[1] vote_resp:{voteId}:{userId}   중복 판정 키
+-- KEYS[2] vote_result:{voteId}[:{stripe}] 옵션별 집계 해시 (스트라이프 모드면 하위 키)
+-- KEYS[3] ranking:changed:{yyyyMMdd}    랭킹 갱신 대상 ZSet
+-- KEYS[4] vote_resp:pending             write-behind 저널 해시
+-- KEYS[5] vote_feed:answered:{userId}   피드 인덱스의 응답한 투표 Set
+-- KEYS[6] vote_result_notified:{voteId} 변경 알림 발송 표시 (L1 캐시 유효 시간 동안 유지)
+-- ARGV[1] 옵션 번호, ARGV[2] 중복 키 TTL(초), ARGV[3] 현재 epoch 초, ARGV[4] voteId
+-- ARGV[5] 저널 field, ARGV[6] 저널 value (write-behind 모드가 아니면 빈 문자열)
+-- ARGV[7] 결과 변경 알림 채널 (L1 캐시 무효화용)
+-- ARGV[8] 카운트 증가 여부 ('1'이면 증가, 로컬 집계 모드는 '0'으로 증가와 알림을 주기 반영에 맡김)
+-- ARGV[9] 응답한 투표 Set TTL(초)
+-- ARGV[10] 변경 알림 최소 간격(ms, L1 캐시 유효 시간)
+-- 반환: 중복 응답이면 1, 최초 응답이면 0
+
+if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2]) then
+  return 1
+end
+
+if ARGV[6] ~= '' then
+  redis.call('HSET', KEYS[4], ARGV[5], ARGV[6])
+end
+
+redis.call('ZADD', KEYS[3], ARGV[3], ARGV[4])
+
+-- 응답한 투표를 피드에서 바로 제외 (Set이 아직 구성되지 않았으면 조회 시 DB 기준으로 재구성됨)
+redis.call('SADD', KEYS[5], ARGV[4])
+if redis.call('TTL', KEYS[5]) == -1 then
+  redis.call('EXPIRE', KEYS[5], ARGV[9])
+end
+
+if ARGV[8] == '1' then
+  redis.call('HINCRBY', KEYS[2], ARGV[1], 1)
+  -- 스트라이프 키는 처음 생성될 때 중복 키와 같은 TTL 부여
+  if redis.call('TTL', KEYS[2]) == -1 then
+    redis.call('EXPIRE', KEYS[2], ARGV[2])
+  end
+  -- 알림은 투표당 L1 캐시 유효 시간마다 최대 1회 (그 사이의 변경은 L1 캐시 만료로 반영되므로 지연은 유효 시간 이내)
+  if redis.call('SET', KEYS[6], '1', 'NX', 'PX', ARGV[10]) then
+    redis.call('PUBLISH', ARGV[7], ARGV[4])
+  end
+end
+return 0
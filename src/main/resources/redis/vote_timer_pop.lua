@@ -0,0 +1,10 @@
+-- 만기된 타이머 이벤트를 꺼내고 삭제 (여러 서버가 동시에 폴링해도 이벤트는 한 번만 전달됨)
+-- KEYS[1] vote:timer   ZSet (score = 실행 시각 epoch ms)
+-- ARGV[1] 현재 epoch ms, ARGV[2] 최대 개수
+-- 반환: 만기된 이벤트 목록
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+if #due > 0 then
+  redis.call('ZREM', KEYS[1], unpack(due))
+end
+return due
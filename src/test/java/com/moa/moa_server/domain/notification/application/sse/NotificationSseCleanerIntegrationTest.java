@@ -3,6 +3,7 @@ package com.moa.moa_server.domain.notification.application.sse;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.moa.moa_server.domain.notification.config.SseProperties;
+import com.moa.moa_server.domain.notification.model.SseConnection;
 import com.moa.moa_server.domain.notification.repository.FakeEmitterRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,18 +32,18 @@ public class NotificationSseCleanerIntegrationTest {
   void testOldEmitterIsRemoved() {
     long now = System.currentTimeMillis();
 
-    String staleKey = "user1_" + (now - 5000);
-    String validKey = "user2_" + now;
+    SseConnection stale = new SseConnection("1_" + (now - 5000), 1L, new SseEmitter(), now - 5000);
+    SseConnection valid = new SseConnection("2_" + now, 2L, new SseEmitter(), now);
 
-    fakeRepo.save(staleKey, new SseEmitter());
-    fakeRepo.save(validKey, new SseEmitter());
+    fakeRepo.save(stale);
+    fakeRepo.save(valid);
 
     // when
     cleaner.cleanUpStaleEmitters();
 
     // then
-    assertThat(fakeRepo.contains(staleKey)).isFalse();
-    assertThat(fakeRepo.contains(validKey)).isTrue();
-    assertThat(fakeRepo.findAllEmitters()).hasSize(1);
+    assertThat(fakeRepo.contains(stale.id())).isFalse();
+    assertThat(fakeRepo.contains(valid.id())).isTrue();
+    assertThat(fakeRepo.count()).isEqualTo(1);
   }
 }
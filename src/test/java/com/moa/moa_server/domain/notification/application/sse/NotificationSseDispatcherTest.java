@@ -0,0 +1,158 @@
+package com.moa.moa_server.domain.notification.application.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.moa.moa_server.domain.notification.config.SseProperties;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import com.moa.moa_server.domain.notification.model.SseOutbox;
+import com.moa.moa_server.domain.notification.repository.FakeEmitterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** 연결별 전송 대기열과 느린 연결 제거 테스트. */
+public class NotificationSseDispatcherTest {
+
+  FakeEmitterRepository fakeRepo;
+  SimpleMeterRegistry meterRegistry;
+  ThreadPoolTaskExecutor executor;
+  NotificationSseDispatcher dispatcher;
+  CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    fakeRepo = new FakeEmitterRepository();
+    meterRegistry = new SimpleMeterRegistry();
+
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.initialize();
+
+    SseWriteWatchdog writeWatchdog =
+        new SseWriteWatchdog(fakeRepo, new SseProperties(), meterRegistry);
+    dispatcher = new NotificationSseDispatcher(fakeRepo, executor, writeWatchdog, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("대기열에 넣은 이벤트는 순서대로 비동기 전송된다")
+  void enqueuedEvents_sentInOrder() {
+    // given
+    RecordingEmitter emitter = new RecordingEmitter();
+    SseConnection connection = new SseConnection("1_0", 1L, emitter, 0);
+    fakeRepo.save(connection);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      dispatcher.enqueue(connection, SseEmitter.event().id(String.valueOf(i)).data("event"));
+    }
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(
+            () ->
+                assertThat(emitter.sentIds)
+                    .containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"));
+  }
+
+  @Test
+  @DisplayName("전송이 멈춘 연결은 대기열이 넘치면 제거되고, 다른 연결 전송에 영향을 주지 않는다")
+  void overflowingConnection_evicted() {
+    // given: 쓰기가 멈춘 연결(대기열 2개)과 정상 연결
+    BlockingEmitter stalledEmitter = new BlockingEmitter();
+    SseConnection stalled = new SseConnection("1_0", 1L, stalledEmitter, 0, new SseOutbox(2));
+    RecordingEmitter healthyEmitter = new RecordingEmitter();
+    SseConnection healthy = new SseConnection("2_0", 2L, healthyEmitter, 0);
+    fakeRepo.save(stalled);
+    fakeRepo.save(healthy);
+
+    // when: 첫 이벤트는 전송 중에 멈추고, 이후 이벤트가 대기열을 넘침
+    dispatcher.enqueue(stalled, SseEmitter.event().id("0").data("event"));
+    await().atMost(Duration.ofSeconds(1)).until(() -> stalledEmitter.sending.get() == 1);
+    for (int i = 1; i < 5; i++) {
+      dispatcher.enqueue(stalled, SseEmitter.event().id(String.valueOf(i)).data("event"));
+    }
+    dispatcher.enqueue(healthy, SseEmitter.event().id("ok").data("event"));
+
+    // then
+    assertThat(fakeRepo.contains(stalled.id())).isFalse();
+    assertThat(stalled.outbox().isClosed()).isTrue();
+    assertThat(meterRegistry.get("sse.send.failures").tag("reason", "overflow").counter().count())
+        .isEqualTo(1);
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(() -> assertThat(healthyEmitter.sentIds).containsExactly("ok"));
+
+    // 쓰기 중인 스레드가 전송을 마치면 제거된 연결을 한 번만 종료해 클라이언트가 재연결하게 함
+    assertThat(stalledEmitter.completed.get()).isZero();
+    release.countDown();
+    await().atMost(Duration.ofSeconds(2)).until(() -> stalledEmitter.completed.get() == 1);
+  }
+
+  @Test
+  @DisplayName("전송 중이 아닌 연결은 제거 즉시 종료된다")
+  void idleConnection_completedOnEviction() {
+    // given: 전송 스레드가 없어 대기열에 남은 이벤트로 가득 찬 연결
+    BlockingEmitter idleEmitter = new BlockingEmitter();
+    SseConnection idle = new SseConnection("1_0", 1L, idleEmitter, 0, new SseOutbox(1));
+    fakeRepo.save(idle);
+    idle.outbox().offer(SseEmitter.event().data("queued"), null);
+
+    // when
+    dispatcher.enqueue(idle, SseEmitter.event().data("overflow"));
+
+    // then
+    assertThat(fakeRepo.contains(idle.id())).isFalse();
+    assertThat(idleEmitter.completed.get()).isEqualTo(1);
+  }
+
+  /** 전송된 이벤트 ID를 기록하는 emitter */
+  static class RecordingEmitter extends SseEmitter {
+    final List<String> sentIds = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      builder.build().stream()
+          .map(data -> data.getData().toString())
+          .filter(text -> text.startsWith("id:"))
+          .forEach(text -> sentIds.add(text.substring(3, text.indexOf('\n')))); // "id:{id}\ndata:"
+    }
+  }
+
+  /** 소켓 쓰기가 멈춘 클라이언트 */
+  class BlockingEmitter extends SseEmitter {
+    final AtomicInteger sending = new AtomicInteger();
+    final AtomicInteger completed = new AtomicInteger();
+
+    @Override
+    public void complete() {
+      completed.incrementAndGet();
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      sending.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
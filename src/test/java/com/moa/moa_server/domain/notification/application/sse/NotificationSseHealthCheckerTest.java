@@ -0,0 +1,186 @@
+package com.moa.moa_server.domain.notification.application.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.moa.moa_server.domain.notification.config.SseProperties;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import com.moa.moa_server.domain.notification.model.SseOutbox;
+import com.moa.moa_server.domain.notification.repository.FakeEmitterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** 슬롯 단위 ping 전송과 전송 제한 시간 처리 테스트. */
+public class NotificationSseHealthCheckerTest {
+
+  FakeEmitterRepository fakeRepo;
+  SimpleMeterRegistry meterRegistry;
+  ThreadPoolTaskExecutor executor;
+  SseWriteWatchdog writeWatchdog;
+  NotificationSseDispatcher dispatcher;
+  NotificationSseHealthChecker healthChecker;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+
+    SseProperties props = new SseProperties();
+    props.setPingShards(4);
+    props.setWriteTimeout(200L);
+    fakeRepo = new FakeEmitterRepository(props.getPingShards());
+    writeWatchdog = new SseWriteWatchdog(fakeRepo, props, meterRegistry);
+
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(4);
+    executor.initialize();
+
+    dispatcher = new NotificationSseDispatcher(fakeRepo, executor, writeWatchdog, meterRegistry);
+    healthChecker = new NotificationSseHealthChecker(fakeRepo, props, dispatcher, meterRegistry);
+    healthChecker.registerMetrics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  @DisplayName("ping 주기 동안 슬롯을 한 바퀴 돌면 모든 연결에 한 번씩 ping을 보낸다")
+  void fullRotation_pingsEveryConnectionOnce() {
+    // given
+    CountingEmitter[] emitters = new CountingEmitter[10];
+    for (int i = 0; i < emitters.length; i++) {
+      emitters[i] = new CountingEmitter();
+      fakeRepo.save(new SseConnection((long) i + "_0", (long) i, emitters[i], 0));
+    }
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      healthChecker.sendPing();
+    }
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .untilAsserted(
+            () -> {
+              for (CountingEmitter emitter : emitters) {
+                assertThat(emitter.sent.get()).isEqualTo(1);
+              }
+            });
+    assertThat(meterRegistry.get("sse.connections").gauge().value()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("쓰기가 멈춘 연결은 제한 시간 후 응답이 종료되어 전송 스레드를 돌려주고, 같은 슬롯의 다른 연결 전송을 막지 않는다")
+  void slowConnection_timesOutWithoutBlockingOthers() {
+    // given: 같은 슬롯(0)의 느린 연결과 정상 연결
+    MockHttpServletRequest request = asyncRequest();
+    BlockingEmitter slowEmitter = new BlockingEmitter(request);
+    SseConnection slow = new SseConnection("4_0", 4L, slowEmitter, 0, new SseOutbox(1), request);
+    CountingEmitter healthyEmitter = new CountingEmitter();
+    SseConnection healthy = new SseConnection("8_0", 8L, healthyEmitter, 0);
+    fakeRepo.save(slow);
+    fakeRepo.save(healthy);
+
+    // when
+    healthChecker.sendPing();
+
+    // then
+    await().atMost(Duration.ofSeconds(1)).until(() -> healthyEmitter.sent.get() == 1);
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .until(
+            () -> {
+              writeWatchdog.abortStalledWrites();
+              return !fakeRepo.contains(slow.id());
+            });
+    assertThat(request.isAsyncStarted()).isFalse(); // emitter가 아닌 비동기 응답을 종료
+    await().atMost(Duration.ofSeconds(1)).until(() -> executor.getActiveCount() == 0);
+    assertThat(fakeRepo.contains(healthy.id())).isTrue();
+    assertThat(meterRegistry.get("sse.write.timeouts").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("sse.ping.latency").timer().count()).isEqualTo(1);
+    assertThat(slowEmitter.completed.get()).isEqualTo(1); // 제거된 연결은 항상 종료
+  }
+
+  @Test
+  @DisplayName("알림 전송 중인 연결의 ping은 같은 대기열에 들어가 전송 스레드를 추가로 점유하지 않는다")
+  void pingWhileSending_sharesSingleWriter() {
+    // given: 알림 전송이 멈춘 연결
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger sent = new AtomicInteger();
+    SseEmitter stalledEmitter =
+        new SseEmitter() {
+          @Override
+          public void send(SseEventBuilder builder) {
+            sent.incrementAndGet();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    SseConnection connection = new SseConnection("4_0", 4L, stalledEmitter, 0, new SseOutbox(2));
+    fakeRepo.save(connection);
+    dispatcher.enqueue(connection, SseEmitter.event().name("notification").data("1"));
+    await().atMost(Duration.ofSeconds(1)).until(() -> sent.get() == 1);
+
+    // when
+    healthChecker.sendPing();
+
+    // then
+    assertThat(executor.getActiveCount()).isEqualTo(1);
+    assertThat(sent.get()).isEqualTo(1);
+    release.countDown();
+    await().atMost(Duration.ofSeconds(1)).until(() -> sent.get() == 2); // 알림 다음 ping 전송
+    assertThat(meterRegistry.get("sse.ping.latency").timer().count()).isEqualTo(1);
+  }
+
+  private MockHttpServletRequest asyncRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setAsyncSupported(true);
+    request.startAsync();
+    return request;
+  }
+
+  static class CountingEmitter extends SseEmitter {
+    final AtomicInteger sent = new AtomicInteger();
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      sent.incrementAndGet();
+    }
+  }
+
+  /** 소켓 쓰기가 멈춘 클라이언트 (컨테이너가 응답을 닫으면 쓰기가 예외로 끝남) */
+  static class BlockingEmitter extends SseEmitter {
+    private final MockHttpServletRequest request;
+    final AtomicInteger completed = new AtomicInteger();
+
+    BlockingEmitter(MockHttpServletRequest request) {
+      this.request = request;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      await().atMost(Duration.ofSeconds(5)).until(() -> !request.isAsyncStarted());
+      throw new IOException("Broken pipe");
+    }
+
+    @Override
+    public void complete() {
+      completed.incrementAndGet();
+    }
+  }
+}
@@ -1,36 +1,68 @@
 package com.moa.moa_server.domain.notification.repository;
 
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.function.Predicate;
 
 public class FakeEmitterRepository implements EmitterRepository {
-  private final Map<String, SseEmitter> store = new ConcurrentHashMap<>();
+  private final Map<String, SseConnection> store = new ConcurrentHashMap<>();
+  private final int shardCount;
+
+  public FakeEmitterRepository() {
+    this(10);
+  }
+
+  public FakeEmitterRepository(int shardCount) {
+    this.shardCount = shardCount;
+  }
+
+  @Override
+  public void save(SseConnection connection) {
+    store.put(connection.id(), connection);
+  }
+
+  @Override
+  public void delete(SseConnection connection) {
+    store.remove(connection.id());
+  }
+
+  @Override
+  public void deleteAllByUserId(Long userId) {
+    store.values().removeIf(c -> c.userId().equals(userId));
+  }
+
+  @Override
+  public int deleteAllIf(Predicate<SseConnection> condition) {
+    int before = store.size();
+    store.values().removeIf(condition);
+    return before - store.size();
+  }
 
   @Override
-  public void save(String id, SseEmitter emitter) {
-    store.put(id, emitter);
+  public List<SseConnection> findAll() {
+    return List.copyOf(store.values());
   }
 
   @Override
-  public void deleteById(String id) {
-    store.remove(id);
+  public List<SseConnection> findAllByUserId(Long userId) {
+    return store.values().stream().filter(c -> c.userId().equals(userId)).toList();
   }
 
   @Override
-  public Map<String, SseEmitter> findAllEmitters() {
-    return store;
+  public List<SseConnection> findAllInShard(int shard) {
+    return store.values().stream()
+        .filter(c -> NotificationEmitterRepository.shardOf(c.userId(), shardCount) == shard)
+        .toList();
   }
 
   @Override
-  public Map<String, SseEmitter> findAllByUserId(Long userId) {
-    return store.entrySet().stream()
-        .filter(e -> e.getKey().startsWith(userId + "_"))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+  public int count() {
+    return store.size();
   }
 
-  public boolean contains(String key) {
-    return store.containsKey(key);
+  public boolean contains(String id) {
+    return store.containsKey(id);
   }
 }
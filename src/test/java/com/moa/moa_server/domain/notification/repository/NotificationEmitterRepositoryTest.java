@@ -0,0 +1,100 @@
+package com.moa.moa_server.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.notification.application.event.SseConnectionChangedEvent;
+import com.moa.moa_server.domain.notification.config.SseProperties;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** 사용자별로 색인된 NotificationEmitterRepository 단위 테스트. */
+public class NotificationEmitterRepositoryTest {
+
+  NotificationEmitterRepository repository;
+  List<Object> events = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    SseProperties props = new SseProperties();
+    props.setPingShards(4);
+    repository = new NotificationEmitterRepository(null, events::add, props); // 유실 이벤트 조회는 사용하지 않음
+  }
+
+  @Test
+  @DisplayName("사용자 ID로 해당 사용자의 연결만 조회한다")
+  void findAllByUserId_returnsOnlyThatUsersConnections() {
+    SseConnection first = connection(1L, "1_100", 100);
+    SseConnection second = connection(1L, "1_200", 200);
+    repository.save(first);
+    repository.save(second);
+    repository.save(connection(11L, "11_100", 100)); // 접두사가 같은 다른 사용자
+
+    assertThat(repository.findAllByUserId(1L)).containsExactlyInAnyOrder(first, second);
+    assertThat(repository.findAllByUserId(2L)).isEmpty();
+    assertThat(repository.count()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("마지막 연결이 삭제되면 사용자 항목도 제거되고, 사용자 단위로 일괄 삭제할 수 있다")
+  void delete_andDeleteAllByUserId() {
+    SseConnection connection = connection(1L, "1_100", 100);
+    repository.save(connection);
+    repository.save(connection(2L, "2_100", 100));
+    repository.save(connection(2L, "2_200", 200));
+
+    repository.delete(connection);
+    repository.deleteAllByUserId(2L);
+
+    assertThat(repository.findAll()).isEmpty();
+    assertThat(repository.count()).isZero();
+    assertThat(events) // 사용자별 첫 연결 등록, 마지막 연결 삭제 시에만 발행
+        .containsExactly(
+            new SseConnectionChangedEvent(1L),
+            new SseConnectionChangedEvent(2L),
+            new SseConnectionChangedEvent(1L),
+            new SseConnectionChangedEvent(2L));
+  }
+
+  @Test
+  @DisplayName("조건에 맞는 연결만 삭제하고 삭제한 개수를 반환한다")
+  void deleteAllIf_removesMatchingConnections() {
+    SseConnection recent = connection(1L, "1_300", 300);
+    repository.save(connection(1L, "1_100", 100));
+    repository.save(recent);
+    repository.save(connection(2L, "2_100", 100));
+
+    int removed = repository.deleteAllIf(c -> c.createdAt() < 200);
+
+    assertThat(removed).isEqualTo(2);
+    assertThat(repository.findAll()).containsExactly(recent);
+  }
+
+  @Test
+  @DisplayName("슬롯별 조회는 연결 등록/삭제 시 갱신되는 슬롯 색인의 사용자만 조회한다")
+  void findAllInShard_usesShardIndex() {
+    // given: 슬롯 4개 중 1번 슬롯(1, 5)과 2번 슬롯(2)
+    SseConnection first = connection(1L, "1_100", 100);
+    SseConnection fifth = connection(5L, "5_100", 100);
+    repository.save(first);
+    repository.save(fifth);
+    repository.save(connection(2L, "2_100", 100));
+
+    // when
+    repository.delete(fifth);
+    repository.deleteAllIf(c -> c.userId().equals(2L));
+
+    // then
+    assertThat(repository.findAllInShard(1)).containsExactly(first);
+    assertThat(repository.findAllInShard(2)).isEmpty();
+    assertThat(repository.findAllInShard(0)).isEmpty();
+  }
+
+  private SseConnection connection(Long userId, String id, long createdAt) {
+    return new SseConnection(id, userId, new SseEmitter(), createdAt);
+  }
+}
@@ -12,6 +12,7 @@ import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
 import com.moa.moa_server.domain.user.entity.User;
 import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
@@ -44,6 +45,7 @@ public class CommentCreateIntegrationTest {
   @Autowired VoteRepository voteRepository;
   @Autowired VoteResponseRepository voteResponseRepository;
   @Autowired JwtTokenService jwtTokenService;
+  @Autowired ActiveUserService activeUserService;
 
   User testUser;
   Group testGroup;
@@ -53,6 +55,7 @@ public class CommentCreateIntegrationTest {
   @BeforeEach
   void setup() {
     testUser = userRepository.save(user("testuser"));
+    activeUserService.evict(testUser.getId()); // 이전 실행에서 같은 ID로 캐시된 사용자 스냅샷 제거
     testGroup = groupRepository.save(group(testUser, "공개"));
     testVote = voteRepository.save(vote(testUser, testGroup, Vote.VoteStatus.OPEN));
     accessToken = jwtTokenService.issueAccessToken(testUser.getId());
@@ -85,6 +88,7 @@ public class CommentCreateIntegrationTest {
     void createComment_success_participant() throws Exception {
       // given: 투표 참여자 유저 추가
       User participant = userRepository.save(user("participant"));
+      activeUserService.evict(participant.getId());
       String participantToken = jwtTokenService.issueAccessToken(participant.getId());
 
       voteResponseRepository.save(voteResponse(testVote, participant, 1));
@@ -7,21 +7,24 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.moa.moa_server.domain.auth.service.JwtTokenService;
+import com.moa.moa_server.domain.comment.dto.request.CommentCreateRequest;
 import com.moa.moa_server.domain.comment.entity.Comment;
 import com.moa.moa_server.domain.comment.handler.CommentErrorCode;
 import com.moa.moa_server.domain.comment.repository.CommentRepository;
+import com.moa.moa_server.domain.comment.service.CommentPollingRedisService;
+import com.moa.moa_server.domain.comment.service.CommentService;
 import com.moa.moa_server.domain.group.entity.Group;
 import com.moa.moa_server.domain.group.repository.GroupRepository;
 import com.moa.moa_server.domain.user.entity.User;
 import com.moa.moa_server.domain.user.repository.UserRepository;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
-import jakarta.persistence.EntityManager;
 import java.util.UUID;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -37,7 +40,8 @@ public class CommentPollingIntegrationTest {
   @Autowired VoteRepository voteRepository;
   @Autowired JwtTokenService jwtTokenService;
   @Autowired CommentRepository commentRepository;
-  @Autowired EntityManager em;
+  @Autowired CommentService commentService;
+  @Autowired StringRedisTemplate stringRedisTemplate;
 
   User testUser;
   Group testGroup;
@@ -60,14 +64,15 @@ public class CommentPollingIntegrationTest {
     @Test
     @DisplayName("새 댓글이 중간에 생기는 경우")
     void pollComments_newComment_arrives() throws Exception {
-      // 1. 별도 쓰레드에서 2초 뒤 댓글 삽입
+      // 1. 별도 쓰레드에서 2초 뒤 댓글 작성 (커밋 시 롱폴링 대기자를 깨움)
       new Thread(
               () -> {
                 try {
                   Thread.sleep(2000);
-                  commentRepository.save(comment(testVote, testUser, "테스트 댓글", 0));
-                  em.flush();
-                  em.clear();
+                  commentService.createComment(
+                      testUser.getId(),
+                      testVote.getId(),
+                      new CommentCreateRequest("테스트 댓글", false));
                 } catch (Exception ignored) {
                 }
               })
@@ -119,6 +124,41 @@ public class CommentPollingIntegrationTest {
           .andExpect(jsonPath("$.data.size").value(0));
     }
 
+    @Test
+    @DisplayName("다른 노드에서 댓글이 생성되면 Redis 알림으로 대기자를 깨움")
+    void pollComments_wokenByOtherNode() throws Exception {
+      // 1. 다른 노드가 댓글을 저장하고 알림을 발행하는 상황 (이 노드의 이벤트는 발생하지 않음)
+      new Thread(
+              () -> {
+                try {
+                  Thread.sleep(2000);
+                  commentRepository.save(comment(testVote, testUser, "다른 노드 댓글", 0));
+                  stringRedisTemplate.convertAndSend(
+                      CommentPollingRedisService.CHANNEL_PREFIX + testVote.getId(), "other-node");
+                } catch (Exception ignored) {
+                }
+              })
+          .start();
+
+      // 2. 롱폴링 요청
+      MvcResult asyncListener =
+          mockMvc
+              .perform(
+                  get("/api/v1/votes/{voteId}/comments/poll", testVote.getId())
+                      .header("Authorization", "Bearer " + accessToken))
+              .andExpect(request().asyncStarted())
+              .andReturn();
+
+      asyncListener.getAsyncResult(12000);
+
+      // 3. 타임아웃 전에 새 댓글 응답
+      mockMvc
+          .perform(asyncDispatch(asyncListener))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.data.comments.length()").value(1))
+          .andExpect(jsonPath("$.data.comments[0].content").value("다른 노드 댓글"));
+    }
+
     @Test
     @DisplayName("커서가 있는 경우 커서 이후 댓글만 수신")
     void pollComments_cursorBasedFilter() throws Exception {
@@ -126,14 +166,13 @@ public class CommentPollingIntegrationTest {
       Comment oldComment = commentRepository.save(comment(testVote, testUser, "이전 댓글", 0));
       String cursor = oldComment.getCreatedAt().toString() + "_" + oldComment.getId();
 
-      // 2. 새 댓글 1개는 별도 쓰레드에서 2초 후 삽입
+      // 2. 새 댓글 1개는 별도 쓰레드에서 2초 후 작성
       new Thread(
               () -> {
                 try {
                   Thread.sleep(2000);
-                  commentRepository.save(comment(testVote, testUser, "새 댓글", 0));
-                  em.flush();
-                  em.clear();
+                  commentService.createComment(
+                      testUser.getId(), testVote.getId(), new CommentCreateRequest("새 댓글", false));
                 } catch (Exception e) {
                   throw new IllegalStateException("댓글 저장 중 예외 발생", e);
                 }
@@ -0,0 +1,218 @@
+package com.moa.moa_server.integration.datasource;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.config.datasource.PrimaryDbReader;
+import com.moa.moa_server.config.datasource.ReadYourWritesContext;
+import com.moa.moa_server.config.datasource.ReadYourWritesInterceptor;
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteItem;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 기본/복제본 DB 라우팅 테스트.
+ *
+ * <p>두 개의 H2 메모리 DB를 사용하며, 복제본은 각 테스트 시작 시점의 기본 DB 스냅샷이다. 이후 기본 DB에 쓴 데이터는 복제본에 없으므로 복제 지연 상황과 같다.
+ * 2차 캐시에 적중하면 DB를 거치지 않으므로, 라우팅만 검증하도록 2차 캐시를 끈다.
+ */
+@SpringBootTest(
+    properties = {
+      "datasource.replica.enabled=true",
+      "datasource.replica.url=jdbc:h2:mem:replicadb;MODE=MYSQL",
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+    })
+@ActiveProfiles("test")
+public class ReplicationRoutingIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired PlatformTransactionManager transactionManager;
+  @Autowired ReadYourWritesInterceptor readYourWritesInterceptor;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired PrimaryDbReader primaryDbReader;
+  @Autowired GroupRepository groupRepository;
+  @Autowired VoteRepository voteRepository;
+  @Autowired VoteFeedIndexService voteFeedIndexService;
+
+  @Autowired
+  @Qualifier("primaryDataSource")
+  DataSource primaryDataSource;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  DataSource replicaDataSource;
+
+  User writer;
+  User reader;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    writer = userRepository.save(user("writer_" + suffix));
+    reader = userRepository.save(user("reader_" + suffix));
+    copyPrimaryToReplica();
+
+    stringRedisTemplate.delete(ReadYourWritesInterceptor.RECENT_WRITE_PREFIX + writer.getId());
+    stringRedisTemplate.delete(ReadYourWritesInterceptor.RECENT_WRITE_PREFIX + reader.getId());
+
+    // 테스트 프레임워크가 바인딩한 요청에 위 쓰기가 기록되지 않도록 요청 컨텍스트 제거
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 기본 DB에서 실행된다")
+  void readOnlyTransaction_routedToReplica() {
+    // given: 복제본에 아직 반영되지 않은 데이터
+    User created = userRepository.save(user("new_" + UUID.randomUUID().toString().substring(0, 6)));
+
+    // when & then
+    assertThat(inTransaction(true, () -> userRepository.findById(created.getId()))).isEmpty();
+    assertThat(inTransaction(false, () -> userRepository.findById(created.getId()))).isPresent();
+  }
+
+  @Test
+  @DisplayName("같은 요청에서 쓰기 이후의 읽기 전용 트랜잭션은 기본 DB에서 실행된다")
+  void readAfterWriteInSameRequest_routedToPrimary() {
+    // given
+    startRequest(writer.getId());
+
+    // when
+    User created =
+        inTransaction(
+            false,
+            () -> userRepository.save(user("new_" + UUID.randomUUID().toString().substring(0, 6))));
+
+    // then
+    assertThat(inTransaction(true, () -> userRepository.findById(created.getId()))).isPresent();
+  }
+
+  @Test
+  @DisplayName("쓰기 직후 같은 사용자의 다음 요청만 기본 DB에서 조회한다")
+  void nextRequestAfterWrite_routedToPrimaryForSameUser() {
+    // given: writer의 쓰기 요청
+    MockHttpServletRequest writeRequest = startRequest(writer.getId());
+    readYourWritesInterceptor.preHandle(writeRequest, new MockHttpServletResponse(), null);
+    User created =
+        inTransaction(
+            false,
+            () -> userRepository.save(user("new_" + UUID.randomUUID().toString().substring(0, 6))));
+    readYourWritesInterceptor.afterCompletion(
+        writeRequest, new MockHttpServletResponse(), null, null);
+
+    // when & then: writer의 다음 요청은 기본 DB
+    MockHttpServletRequest writerRead = startRequest(writer.getId());
+    readYourWritesInterceptor.preHandle(writerRead, new MockHttpServletResponse(), null);
+    assertThat(inTransaction(true, () -> userRepository.findById(created.getId()))).isPresent();
+
+    // 다른 사용자의 요청은 복제본
+    MockHttpServletRequest readerRead = startRequest(reader.getId());
+    readYourWritesInterceptor.preHandle(readerRead, new MockHttpServletResponse(), null);
+    assertThat(inTransaction(true, () -> userRepository.findById(created.getId()))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("요청 밖의 커밋 직후 조회는 기본 DB로 고정할 수 있고, 복제본을 쓰던 트랜잭션 안에서도 기본 DB에서 조회한다")
+  void primaryDbReader_readsLatestCommit() {
+    // given: 복제본에 아직 반영되지 않은 데이터 (요청 컨텍스트 없음)
+    User created = userRepository.save(user("new_" + UUID.randomUUID().toString().substring(0, 6)));
+
+    // when & then: 스레드 고정 후 시작한 읽기 전용 트랜잭션
+    assertThat(
+            ReadYourWritesContext.callOnPrimary(
+                () -> inTransaction(true, () -> userRepository.findById(created.getId()))))
+        .isPresent();
+    assertThat(inTransaction(true, () -> userRepository.findById(created.getId()))).isEmpty();
+
+    // 이미 복제본 커넥션을 얻은 읽기 전용 트랜잭션 안
+    assertThat(
+            inTransaction(
+                true,
+                () -> {
+                  userRepository.findById(reader.getId());
+                  return primaryDbReader.read(() -> userRepository.findById(created.getId()));
+                }))
+        .isPresent();
+  }
+
+  @Test
+  @DisplayName("복제본에 아직 없는 투표가 피드 인덱스에 있으면 기본 DB에서 확인해 결과에 포함하고 인덱스에서 제거하지 않는다")
+  void feedIndex_keepsMemberMissingFromReplica() {
+    // given: 인덱스 구성 이후 공개되어 복제본에는 아직 없는 투표
+    Group group =
+        groupRepository.save(
+            group(writer, "group_" + UUID.randomUUID().toString().substring(0, 6)));
+    String groupKey = VoteFeedIndexService.groupKeyOf(group.getId());
+    stringRedisTemplate.delete(groupKey);
+    inTransaction(
+        true,
+        () -> voteFeedIndexService.findActiveVoteItems(List.of(group.getId()), null, null, 10));
+    Vote created = voteRepository.save(vote(writer, group, Vote.VoteStatus.OPEN));
+    voteFeedIndexService.add(created);
+
+    // when: 복제본에서 조회하는 읽기 전용 트랜잭션
+    List<ActiveVoteItem> items =
+        inTransaction(
+            true,
+            () -> voteFeedIndexService.findActiveVoteItems(List.of(group.getId()), null, null, 10));
+
+    // then
+    assertThat(items).extracting(ActiveVoteItem::voteId).containsExactly(created.getId());
+    assertThat(stringRedisTemplate.opsForZSet().size(groupKey)).isEqualTo(2); // 투표 + 구성 완료 표시
+  }
+
+  private <T> T inTransaction(boolean readOnly, Supplier<T> action) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setReadOnly(readOnly);
+    return template.execute(status -> action.get());
+  }
+
+  private MockHttpServletRequest startRequest(Long userId) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(userId, null, null));
+    return request;
+  }
+
+  /** 기본 DB의 스키마와 데이터를 복제본 DB로 복사 */
+  private void copyPrimaryToReplica() {
+    JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+    JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+
+    replica.execute("DROP ALL OBJECTS");
+    primary.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class).forEach(replica::execute);
+  }
+}
@@ -0,0 +1,90 @@
+package com.moa.moa_server.integration.global;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.global.constant.SystemConstants;
+import com.moa.moa_server.domain.global.registry.SystemEntityRegistry;
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.event.GroupUpdatedEvent;
+import com.moa.moa_server.domain.group.model.GroupSnapshot;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.util.GroupLookupHelper;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class SystemEntityRegistryIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired SystemEntityRegistry systemEntityRegistry;
+  @Autowired GroupLookupHelper groupLookupHelper;
+  @Autowired ApplicationEventPublisher eventPublisher;
+  @Autowired TransactionTemplate transactionTemplate;
+  @Autowired EntityManagerFactory entityManagerFactory;
+
+  Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    // 공개 그룹(ID 1)이 없으면 생성
+    if (!groupRepository.existsById(SystemConstants.PUBLIC_GROUP_ID)) {
+      User owner =
+          userRepository.save(user("system_" + UUID.randomUUID().toString().substring(0, 6)));
+      groupRepository.save(group(owner, "public_" + UUID.randomUUID().toString().substring(0, 6)));
+    }
+    systemEntityRegistry.refresh();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("공개 그룹은 적재 이후 DB 조회 없이 스냅샷으로 제공된다")
+  void publicGroup_servedWithoutQuery() {
+    // when
+    statistics.clear();
+    GroupSnapshot first = groupLookupHelper.getPublicGroup();
+    GroupSnapshot second = groupLookupHelper.getPublicGroup();
+
+    // then
+    assertThat(first.id()).isEqualTo(SystemConstants.PUBLIC_GROUP_ID);
+    assertThat(second).isSameAs(first);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("공개 그룹 정보가 수정되면 커밋 이후 스냅샷이 갱신된다")
+  void publicGroupUpdated_refreshesSnapshot() {
+    // given
+    String newName = "public_" + UUID.randomUUID().toString().substring(0, 6);
+
+    // when
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          Group publicGroup =
+              groupRepository.findById(SystemConstants.PUBLIC_GROUP_ID).orElseThrow();
+          publicGroup.updateInfo(
+              newName,
+              publicGroup.getDescription(),
+              publicGroup.getImageUrl(),
+              publicGroup.getImageName());
+          eventPublisher.publishEvent(new GroupUpdatedEvent(SystemConstants.PUBLIC_GROUP_ID));
+        });
+
+    // then
+    assertThat(groupLookupHelper.getPublicGroup().name()).isEqualTo(newName);
+  }
+}
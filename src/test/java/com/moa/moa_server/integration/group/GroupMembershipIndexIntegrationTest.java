@@ -0,0 +1,123 @@
+package com.moa.moa_server.integration.group;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.group.dto.group_user.GroupJoinRequest;
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.entity.GroupMember;
+import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMemberService;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
+import com.moa.moa_server.domain.group.service.GroupService;
+import com.moa.moa_server.domain.group.service.GroupUserService;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class GroupMembershipIndexIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired GroupMemberRepository groupMemberRepository;
+  @Autowired GroupUserService groupUserService;
+  @Autowired GroupMemberService groupMemberService;
+  @Autowired GroupService groupService;
+  @Autowired GroupMembershipIndex membershipIndex;
+  @Autowired ActiveUserService activeUserService;
+  @Autowired EntityManagerFactory entityManagerFactory;
+
+  User owner;
+  User member;
+  Group group;
+  Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    owner = userRepository.save(user("owner_" + suffix));
+    member = userRepository.save(user("member_" + suffix));
+    if (!groupRepository.existsById(Group.PUBLIC_GROUP_ID)) {
+      groupRepository.save(group(owner, "public_" + suffix)); // 공개 그룹(ID 1)은 가입 대상이 아니므로 먼저 생성
+    }
+    group =
+        groupRepository.save(
+            Group.create(owner, "group_" + suffix, "테스트 그룹입니다.", null, null, suffix.toUpperCase()));
+    groupMemberRepository.save(groupMember(owner, group, "OWNER"));
+
+    // 이전 테스트 실행에서 같은 ID로 캐시된 인덱스, 사용자 스냅샷 제거
+    membershipIndex.evict(List.of(owner.getId(), member.getId()));
+    activeUserService.evict(owner.getId());
+    activeUserService.evict(member.getId());
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("멤버십은 한 번 조회한 뒤 DB 조회 없이 메모리에서 검사한다")
+  void membership_servedFromMemoryAfterFirstLoad() {
+    // given
+    membershipIndex.get(owner.getId());
+
+    // when
+    statistics.clear();
+    boolean isMember = membershipIndex.isMember(owner.getId(), group.getId());
+    GroupMember.Role role = membershipIndex.roleOf(owner.getId(), group.getId());
+
+    // then
+    assertThat(isMember).isTrue();
+    assertThat(role).isEqualTo(GroupMember.Role.OWNER);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("가입, 역할 변경, 탈퇴 시 커밋 이후 멤버십 인덱스가 갱신된다")
+  void joinChangeRoleLeave_evictIndex() {
+    // given: 가입 전 인덱스 적재
+    assertThat(membershipIndex.isMember(member.getId(), group.getId())).isFalse();
+
+    // when & then: 가입
+    groupUserService.joinGroup(member.getId(), new GroupJoinRequest(group.getInviteCode()));
+    assertThat(membershipIndex.roleOf(member.getId(), group.getId()))
+        .isEqualTo(GroupMember.Role.MEMBER);
+
+    // 역할 변경
+    groupMemberService.changeRole(owner.getId(), group.getId(), member.getId(), "MANAGER");
+    assertThat(membershipIndex.roleOf(member.getId(), group.getId()))
+        .isEqualTo(GroupMember.Role.MANAGER);
+
+    // 탈퇴
+    groupUserService.leaveGroup(member.getId(), group.getId());
+    assertThat(membershipIndex.isMember(member.getId(), group.getId())).isFalse();
+  }
+
+  @Test
+  @DisplayName("추방, 그룹 삭제 시 대상 멤버들의 멤버십 인덱스가 무효화된다")
+  void deleteMemberAndGroup_evictIndex() {
+    // given
+    groupUserService.joinGroup(member.getId(), new GroupJoinRequest(group.getInviteCode()));
+    assertThat(membershipIndex.isMember(member.getId(), group.getId())).isTrue();
+
+    // when & then: 추방
+    groupMemberService.deleteMember(owner.getId(), group.getId(), member.getId());
+    assertThat(membershipIndex.isMember(member.getId(), group.getId())).isFalse();
+
+    // 그룹 삭제
+    assertThat(membershipIndex.isMember(owner.getId(), group.getId())).isTrue();
+    groupService.deleteGroup(owner.getId(), group.getId());
+    assertThat(membershipIndex.getGroupIds(owner.getId())).doesNotContain(group.getId());
+  }
+}
@@ -0,0 +1,138 @@
+package com.moa.moa_server.integration.jpa;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.moa.moa_server.config.jpa.SecondLevelCacheEvictionListener;
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class SecondLevelCacheIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired TransactionTemplate transactionTemplate;
+  @Autowired EntityManagerFactory entityManagerFactory;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired CacheManager hibernateCacheManager;
+  @Autowired MeterRegistry meterRegistry;
+
+  User owner;
+  Group group;
+  Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    owner = userRepository.save(user("owner_" + suffix));
+    group = groupRepository.save(group(owner, "group_" + suffix));
+    entityManagerFactory.getCache().evictAll();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("한 번 조회한 그룹, 사용자는 이후 트랜잭션에서 DB 조회 없이 2차 캐시에서 조회한다")
+  void findById_servedFromSecondLevelCache() {
+    // given
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          groupRepository.findById(group.getId()).orElseThrow();
+          userRepository.findById(owner.getId()).orElseThrow();
+        });
+
+    // when
+    statistics.clear();
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          groupRepository.findById(group.getId()).orElseThrow();
+          userRepository.findById(owner.getId()).orElseThrow();
+        });
+
+    // then
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(statistics.getDomainDataRegionStatistics(Group.CACHE_REGION).getHitCount())
+        .isEqualTo(1);
+    assertThat(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", Group.CACHE_REGION)
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isPositive();
+  }
+
+  @Test
+  @DisplayName("소프트 삭제된 그룹은 2차 캐시에서 제거되어 ID로 조회되지 않는다")
+  void softDeletedGroup_notServedFromCache() {
+    // given: 캐시 적재
+    transactionTemplate.executeWithoutResult(
+        status -> groupRepository.findById(group.getId()).orElseThrow());
+    assertThat(entityManagerFactory.getCache().contains(Group.class, group.getId())).isTrue();
+
+    // when
+    transactionTemplate.executeWithoutResult(
+        status -> groupRepository.findById(group.getId()).orElseThrow().softDelete());
+
+    // then
+    assertThat(entityManagerFactory.getCache().contains(Group.class, group.getId())).isFalse();
+    assertThat(groupRepository.findById(group.getId())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("다른 서버의 제거 알림을 받으면 이 서버의 2차 캐시 항목을 제거한다")
+  void evictMessage_evictsLocalEntry() {
+    // given
+    transactionTemplate.executeWithoutResult(
+        status -> userRepository.findById(owner.getId()).orElseThrow());
+    assertThat(entityManagerFactory.getCache().contains(User.class, owner.getId())).isTrue();
+
+    // when
+    stringRedisTemplate.convertAndSend(
+        SecondLevelCacheEvictionListener.EVICT_CHANNEL,
+        SecondLevelCacheEvictionListener.messageOf(User.class.getName(), owner.getId()));
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(entityManagerFactory.getCache().contains(User.class, owner.getId()))
+                    .isFalse());
+  }
+
+  @Test
+  @DisplayName("리전별 최대 크기가 적용된다")
+  void regionsAreSizeBounded() {
+    assertThat(maximumSizeOf(Group.CACHE_REGION)).isEqualTo(10_000);
+    assertThat(maximumSizeOf(User.CACHE_REGION)).isEqualTo(50_000);
+  }
+
+  private long maximumSizeOf(String region) {
+    Cache<?, ?> cache = hibernateCacheManager.getCache(region).unwrap(Cache.class);
+    return cache.policy().eviction().orElseThrow().getMaximum();
+  }
+}
@@ -0,0 +1,77 @@
+package com.moa.moa_server.integration.notification;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupService;
+import com.moa.moa_server.domain.notification.repository.NotificationRepository;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.util.SqlStatementCounter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/** 그룹 삭제 알림 일괄 저장(JDBC 배치) 테스트 */
+@SpringBootTest(
+    properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.moa.moa_server.util.SqlStatementCounter")
+@ActiveProfiles("test")
+public class GroupDeleteNotificationBatchIntegrationTest {
+
+  private static final String INSERT_NOTIFICATION = "insert into notification";
+  private static final int MEMBER_COUNT = 30;
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired GroupMemberRepository groupMemberRepository;
+  @Autowired GroupService groupService;
+  @Autowired NotificationRepository notificationRepository;
+
+  User owner;
+  Group group;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = UUID.randomUUID().toString().substring(0, 4);
+    owner = userRepository.save(user("소유자" + suffix));
+    group = groupRepository.save(group(owner, "그룹" + suffix));
+    groupMemberRepository.save(groupMember(owner, group, "OWNER"));
+
+    for (int i = 0; i < MEMBER_COUNT; i++) {
+      User member = userRepository.save(user("멤버" + i + suffix));
+      groupMemberRepository.save(groupMember(member, group, "MEMBER"));
+    }
+  }
+
+  @Test
+  @DisplayName("그룹 삭제 알림은 멤버 수와 관계없이 하나의 배치 INSERT로 저장된다")
+  void groupDeletedNotifications_insertedInSingleBatch() {
+    // given
+    SqlStatementCounter.watch(INSERT_NOTIFICATION);
+
+    // when
+    groupService.deleteGroup(owner.getId(), group.getId());
+
+    // then
+    String expectedContent = group.getName() + " 그룹이 삭제되었습니다.";
+    await()
+        .atMost(2, TimeUnit.SECONDS)
+        .untilAsserted(
+            () ->
+                assertThat(
+                        notificationRepository.findAll().stream()
+                            .filter(n -> expectedContent.equals(n.getContent())))
+                    .hasSize(MEMBER_COUNT));
+    assertThat(SqlStatementCounter.count(INSERT_NOTIFICATION)).isEqualTo(1);
+  }
+}
@@ -0,0 +1,114 @@
+package com.moa.moa_server.integration.notification;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.notification.application.sse.NotificationReplayStream;
+import com.moa.moa_server.domain.notification.application.sse.NotificationSseBroadcaster;
+import com.moa.moa_server.domain.notification.application.sse.NotificationSseConnectionHelper;
+import com.moa.moa_server.domain.notification.dto.NotificationItem;
+import com.moa.moa_server.domain.notification.entity.Notification;
+import com.moa.moa_server.domain.notification.entity.NotificationType;
+import com.moa.moa_server.domain.notification.repository.NotificationRepository;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.util.CapturingSseEmitter;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/** Last-Event-ID 기반 유실 알림 재전송 테스트 */
+@SpringBootTest
+@ActiveProfiles("test")
+public class NotificationReplayIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired NotificationRepository notificationRepository;
+  @Autowired NotificationSseBroadcaster broadcaster;
+  @Autowired NotificationSseConnectionHelper connectionHelper;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+
+  User receiver;
+  List<Notification> notifications;
+
+  @BeforeEach
+  void setUp() {
+    receiver =
+        userRepository.save(user("receiver_" + UUID.randomUUID().toString().substring(0, 6)));
+    stringRedisTemplate.delete(NotificationReplayStream.keyOf(receiver.getId())); // 이전 실행 스트림 제거
+
+    notifications =
+        IntStream.range(0, 3)
+            .mapToObj(
+                i ->
+                    notificationRepository.save(
+                        Notification.builder()
+                            .user(receiver)
+                            .type(NotificationType.VOTE_APPROVED)
+                            .content("알림" + i)
+                            .redirectUrl("/votes/" + i)
+                            .isRead(false)
+                            .build()))
+            .toList();
+    notifications.forEach(broadcaster::send);
+  }
+
+  @Test
+  @DisplayName("마지막 이벤트가 스트림에 있으면 DB 조회 없이 이후 이벤트를 재전송한다")
+  void replay_servedFromStream() {
+    // given: DB에서 조회하면 재전송할 알림이 없도록 삭제
+    notificationRepository.deleteAll(notifications);
+    CapturingSseEmitter emitter = new CapturingSseEmitter();
+
+    // when
+    connectionHelper.sendLostEvents(
+        receiver.getId(), String.valueOf(notifications.get(0).getId()), emitter);
+
+    // then
+    assertThat(emitter.getReceived())
+        .extracting(NotificationItem::notificationId)
+        .containsExactly(notifications.get(1).getId(), notifications.get(2).getId());
+  }
+
+  @Test
+  @DisplayName("마지막 이벤트가 스트림에서 트림/만료되었으면 DB에서 조회해 재전송한다")
+  void replay_fallsBackToDatabase() {
+    // given: 스트림 만료
+    stringRedisTemplate.delete(NotificationReplayStream.keyOf(receiver.getId()));
+    CapturingSseEmitter emitter = new CapturingSseEmitter();
+
+    // when
+    connectionHelper.sendLostEvents(
+        receiver.getId(), String.valueOf(notifications.get(0).getId()), emitter);
+
+    // then
+    assertThat(emitter.getReceived())
+        .extracting(NotificationItem::notificationId)
+        .containsExactly(notifications.get(1).getId(), notifications.get(2).getId());
+  }
+
+  @Test
+  @DisplayName("마지막 이벤트의 알림이 DB에서 삭제되었으면 ID 기준으로 이후 알림을 재전송한다")
+  void replay_lastNotificationDeleted_fallsBackToIdOrder() {
+    // given: 스트림 만료 + 기준 알림 삭제
+    stringRedisTemplate.delete(NotificationReplayStream.keyOf(receiver.getId()));
+    notificationRepository.delete(notifications.get(0));
+    CapturingSseEmitter emitter = new CapturingSseEmitter();
+
+    // when
+    connectionHelper.sendLostEvents(
+        receiver.getId(), String.valueOf(notifications.get(0).getId()), emitter);
+
+    // then
+    assertThat(emitter.getReceived())
+        .extracting(NotificationItem::notificationId)
+        .containsExactly(notifications.get(1).getId(), notifications.get(2).getId());
+  }
+}
@@ -0,0 +1,133 @@
+package com.moa.moa_server.integration.notification;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moa.moa_server.domain.notification.application.sse.NotificationSseBroadcaster;
+import com.moa.moa_server.domain.notification.dto.NotificationItem;
+import com.moa.moa_server.domain.notification.entity.Notification;
+import com.moa.moa_server.domain.notification.entity.NotificationType;
+import com.moa.moa_server.domain.notification.handler.NotificationSseMessageListener;
+import com.moa.moa_server.domain.notification.model.SseConnection;
+import com.moa.moa_server.domain.notification.repository.NotificationEmitterRepository;
+import com.moa.moa_server.domain.notification.repository.NotificationRepository;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.util.CapturingSseEmitter;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/** 사용자별 Redis 채널을 통한 다중 서버 SSE 알림 전달 테스트 */
+@SpringBootTest
+@ActiveProfiles("test")
+public class NotificationSseClusterIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired NotificationRepository notificationRepository;
+  @Autowired NotificationEmitterRepository emitterRepository;
+  @Autowired NotificationSseBroadcaster broadcaster;
+  @Autowired NotificationSseMessageListener messageListener;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired ObjectMapper objectMapper;
+
+  User receiver;
+  CapturingSseEmitter emitter;
+  SseConnection connection;
+
+  @BeforeEach
+  void setUp() {
+    receiver =
+        userRepository.save(user("receiver_" + UUID.randomUUID().toString().substring(0, 6)));
+    emitter = new CapturingSseEmitter();
+    connection = SseConnection.of(receiver.getId(), emitter, SseConnection.DEFAULT_QUEUE_CAPACITY);
+  }
+
+  @AfterEach
+  void tearDown() {
+    emitterRepository.deleteAllByUserId(receiver.getId());
+  }
+
+  @Test
+  @DisplayName("알림은 사용자 채널로 발행되어 해당 사용자의 연결을 가진 서버가 전송한다")
+  void send_deliveredThroughUserChannel() {
+    // given
+    emitterRepository.save(connection);
+    awaitSubscribed(true);
+    Notification notification =
+        notificationRepository.save(
+            Notification.builder()
+                .user(receiver)
+                .type(NotificationType.VOTE_APPROVED)
+                .content("투표가 등록 되었습니다.")
+                .redirectUrl("/votes/1")
+                .isRead(false)
+                .build());
+
+    // when
+    broadcaster.send(notification);
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(3))
+        .untilAsserted(
+            () ->
+                assertThat(emitter.getReceived())
+                    .extracting(NotificationItem::notificationId)
+                    .containsExactly(notification.getId()));
+  }
+
+  @Test
+  @DisplayName("다른 서버가 발행한 알림도 이 서버에 연결된 emitter로 전송한다")
+  void messageFromOtherNode_deliveredToLocalEmitter() throws Exception {
+    // given
+    emitterRepository.save(connection);
+    awaitSubscribed(true);
+    NotificationItem item =
+        new NotificationItem(1L, "VOTE_APPROVED", "내용", 0, "/votes/1", "2025-01-01T00:00");
+
+    // when: 다른 서버의 발행
+    stringRedisTemplate.convertAndSend(
+        NotificationSseBroadcaster.channelOf(receiver.getId()),
+        objectMapper.writeValueAsString(item));
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(3))
+        .untilAsserted(() -> assertThat(emitter.getReceived()).containsExactly(item));
+  }
+
+  @Test
+  @DisplayName("사용자의 마지막 연결이 끊기면 사용자 채널 구독을 해제한다")
+  void lastConnectionRemoved_unsubscribes() {
+    // given
+    SseConnection second =
+        SseConnection.of(
+            receiver.getId(), new CapturingSseEmitter(), SseConnection.DEFAULT_QUEUE_CAPACITY);
+    emitterRepository.save(connection);
+    emitterRepository.save(second);
+    awaitSubscribed(true);
+
+    // when & then
+    emitterRepository.delete(connection);
+    assertThat(messageListener.isSubscribed(receiver.getId())).isTrue();
+
+    emitterRepository.delete(second);
+    awaitSubscribed(false);
+  }
+
+  private void awaitSubscribed(boolean subscribed) {
+    await()
+        .atMost(Duration.ofSeconds(3))
+        .until(() -> messageListener.isSubscribed(receiver.getId()) == subscribed);
+  }
+}
@@ -0,0 +1,128 @@
+package com.moa.moa_server.integration.user;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.moa.moa_server.domain.auth.handler.AuthException;
+import com.moa.moa_server.domain.notification.application.service.NotificationService;
+import com.moa.moa_server.domain.user.dto.request.UserUpdateRequest;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.event.UserChangedEvent;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
+import com.moa.moa_server.domain.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class ActiveUserCacheIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired ActiveUserService activeUserService;
+  @Autowired UserService userService;
+  @Autowired NotificationService notificationService;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired ApplicationEventPublisher eventPublisher;
+  @Autowired TransactionTemplate transactionTemplate;
+  @Autowired EntityManagerFactory entityManagerFactory;
+
+  User testUser;
+  Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    testUser = userRepository.save(user("user_" + UUID.randomUUID().toString().substring(0, 6)));
+    activeUserService.evict(testUser.getId()); // 이전 실행에서 같은 ID로 캐시된 스냅샷 제거
+    entityManagerFactory.getCache().evict(User.class, testUser.getId()); // DB 조회 횟수 측정을 위해 2차 캐시 제거
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    // 같은 ID를 재사용하는 다른 테스트 컨텍스트가 탈퇴/변경된 스냅샷을 읽지 않도록 제거
+    activeUserService.evict(testUser.getId());
+  }
+
+  @Test
+  @DisplayName("사용자 스냅샷은 요청당 한 번 조회하고, 이후 요청은 공유 캐시에서 조회한다")
+  void activeUser_loadedOncePerRequestThenShared() {
+    // when: 같은 요청에서 여러 번 조회
+    startRequest();
+    statistics.clear();
+    notificationService.getNotifications(testUser.getId(), null, 10);
+    notificationService.getNotifications(testUser.getId(), null, 10);
+    long firstRequestLoads = userLoadCount();
+
+    // 다음 요청
+    startRequest();
+    statistics.clear();
+    notificationService.getNotifications(testUser.getId(), null, 10);
+    long secondRequestLoads = userLoadCount();
+
+    // then
+    assertThat(firstRequestLoads).isEqualTo(1);
+    assertThat(secondRequestLoads).isZero();
+    assertThat(stringRedisTemplate.hasKey(ActiveUserService.CACHE_PREFIX + testUser.getId()))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("닉네임을 변경하면 커밋 이후 캐시된 스냅샷이 무효화된다")
+  void updateNickname_evictsSnapshot() {
+    // given
+    activeUserService.getActiveUser(testUser.getId());
+    String newNickname = "new" + UUID.randomUUID().toString().substring(0, 6);
+
+    // when
+    userService.updateUserInfo(testUser.getId(), new UserUpdateRequest(newNickname));
+
+    // then
+    assertThat(stringRedisTemplate.hasKey(ActiveUserService.CACHE_PREFIX + testUser.getId()))
+        .isFalse();
+    assertThat(activeUserService.getActiveUser(testUser.getId()).nickname()).isEqualTo(newNickname);
+  }
+
+  @Test
+  @DisplayName("탈퇴 처리 이후에는 캐시된 스냅샷 대신 탈퇴 상태로 거부된다")
+  void withdraw_evictsSnapshot() {
+    // given
+    activeUserService.getActiveUser(testUser.getId());
+
+    // when
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          userRepository.findById(testUser.getId()).orElseThrow().withdraw();
+          eventPublisher.publishEvent(new UserChangedEvent(testUser.getId()));
+        });
+
+    // then
+    assertThatThrownBy(() -> activeUserService.getActiveUser(testUser.getId()))
+        .isInstanceOf(AuthException.class);
+  }
+
+  private void startRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+  }
+
+  private long userLoadCount() {
+    return statistics.getEntityStatistics(User.class.getName()).getLoadCount();
+  }
+}
@@ -0,0 +1,165 @@
+package com.moa.moa_server.integration.vote;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.vote.config.VoteCountAggregationProperties;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.entity.VoteResult;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.repository.VoteResultRepository;
+import com.moa.moa_server.domain.vote.scheduler.VoteCloseScheduler;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteCountAggregator;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultNearCache;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultRedisService;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class VoteCloseSchedulerIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired VoteRepository voteRepository;
+  @Autowired VoteResultRepository voteResultRepository;
+  @Autowired VoteResultRedisService voteResultRedisService;
+  @Autowired VoteResultNearCache nearCache;
+  @Autowired VoteCloseScheduler voteCloseScheduler;
+  @Autowired VoteCountAggregator countAggregator;
+  @Autowired VoteCountAggregationProperties aggregationProperties;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+
+  User testUser;
+  Group testGroup;
+
+  @BeforeEach
+  void setup() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    testUser = userRepository.save(user("user_" + suffix));
+    testGroup = groupRepository.save(group(testUser, "group_" + suffix));
+  }
+
+  @Test
+  @DisplayName("종료 시각이 지난 투표는 Redis 최종 카운트로 결과가 저장되고 CLOSED로 변경됨")
+  void closeExpiredVotes() {
+    // given
+    Vote expired =
+        voteRepository.save(
+            Vote.createUserVote(
+                testUser,
+                testGroup,
+                "종료된 투표",
+                null,
+                null,
+                LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1),
+                false,
+                Vote.VoteStatus.OPEN,
+                false));
+    Vote open = voteRepository.save(vote(testUser, testGroup, Vote.VoteStatus.OPEN));
+    voteResultRedisService.setCountsWithTTL(
+        expired.getId(), Map.of(1, 3, 2, 1), LocalDateTime.now().plusHours(1));
+
+    // when
+    voteCloseScheduler.closeExpiredVotes();
+    voteCloseScheduler.closeExpiredVotes(); // 재실행해도 중복 저장되지 않음
+
+    // then
+    assertThat(voteRepository.findById(expired.getId()).orElseThrow().getVoteStatus())
+        .isEqualTo(Vote.VoteStatus.CLOSED);
+    assertThat(voteRepository.findById(open.getId()).orElseThrow().getVoteStatus())
+        .isEqualTo(Vote.VoteStatus.OPEN);
+
+    List<VoteResult> results =
+        voteResultRepository.findAllByVoteId(expired.getId()).stream()
+            .sorted(Comparator.comparingInt(VoteResult::getOptionNumber))
+            .toList();
+    assertThat(results).extracting(VoteResult::getCount).containsExactly(3, 1);
+    assertThat(results).extracting(r -> r.getRatio().doubleValue()).containsExactly(75.0, 25.0);
+    assertThat(voteResultRepository.findAllByVoteId(open.getId())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("종료 처리 시 L1 캐시에 남은 이전 카운트가 아닌 Redis 카운트로 결과가 저장됨")
+  void closeExpiredVotes_bypassesNearCache() {
+    // given
+    Vote expired =
+        voteRepository.save(
+            Vote.createUserVote(
+                testUser,
+                testGroup,
+                "종료된 투표",
+                null,
+                null,
+                LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1),
+                false,
+                Vote.VoteStatus.OPEN,
+                false));
+    voteResultRedisService.setCountsWithTTL(
+        expired.getId(), Map.of(1, 2, 2, 2), LocalDateTime.now().plusHours(1));
+    nearCache.put(expired.getId(), Map.of(1, 1, 2, 0)); // 변경 알림 전의 이전 값
+
+    // when
+    voteCloseScheduler.closeExpiredVotes();
+
+    // then
+    assertThat(voteResultRepository.findAllByVoteId(expired.getId()))
+        .extracting(VoteResult::getCount)
+        .containsExactlyInAnyOrder(2, 2);
+  }
+
+  @Test
+  @DisplayName("로컬 집계 모드에서는 이 서버의 증가분을 반영한 뒤 종료하고, 대기 시간이 지나지 않은 투표는 미룸")
+  void closeExpiredVotes_localAggregation() {
+    // given
+    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+    Vote expired = voteRepository.save(closedVote(now.minusMinutes(1)));
+    Vote justClosed = voteRepository.save(closedVote(now.minusNanos(100_000_000)));
+    voteResultRedisService.setCountsWithTTL(
+        expired.getId(), Map.of(1, 3, 2, 1), LocalDateTime.now().plusHours(1));
+    voteResultRedisService.setCountsWithTTL(
+        justClosed.getId(), Map.of(1, 0, 2, 0), LocalDateTime.now().plusHours(1));
+    aggregationProperties.setEnabled(true);
+
+    try {
+      countAggregator.increment(expired.getId(), 2, expired.getClosedAt());
+
+      // when
+      voteCloseScheduler.closeExpiredVotes();
+    } finally {
+      aggregationProperties.setEnabled(false);
+    }
+
+    // then
+    assertThat(
+            stringRedisTemplate
+                .opsForHash()
+                .get(VoteResultRedisService.keyOf(expired.getId()), "2"))
+        .isEqualTo("2");
+    assertThat(voteResultRepository.findAllByVoteId(expired.getId()))
+        .extracting(VoteResult::getCount)
+        .containsExactlyInAnyOrder(3, 2);
+    assertThat(voteRepository.findById(justClosed.getId()).orElseThrow().getVoteStatus())
+        .isEqualTo(Vote.VoteStatus.OPEN);
+  }
+
+  private Vote closedVote(LocalDateTime closedAt) {
+    return Vote.createUserVote(
+        testUser, testGroup, "종료된 투표", null, null, closedAt, false, Vote.VoteStatus.OPEN, false);
+  }
+}
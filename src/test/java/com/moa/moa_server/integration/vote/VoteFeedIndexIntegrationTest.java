@@ -0,0 +1,159 @@
+package com.moa.moa_server.integration.vote;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.vote.dto.request.VoteSubmitRequest;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteItem;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteResponse;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.VoteCommandService;
+import com.moa.moa_server.domain.vote.service.VoteListService;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteSubmitRedisService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class VoteFeedIndexIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired GroupMemberRepository groupMemberRepository;
+  @Autowired GroupMembershipIndex membershipIndex;
+  @Autowired VoteRepository voteRepository;
+  @Autowired VoteListService voteListService;
+  @Autowired VoteCommandService voteCommandService;
+  @Autowired VoteFeedIndexService voteFeedIndexService;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired PlatformTransactionManager transactionManager;
+
+  User testUser;
+  Group testGroup;
+
+  @BeforeEach
+  void setup() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    testUser = userRepository.save(user("user_" + suffix));
+    testGroup = groupRepository.save(group(testUser, "group_" + suffix));
+    groupMemberRepository.save(groupMember(testUser, testGroup, "OWNER"));
+    membershipIndex.evict(List.of(testUser.getId())); // 이전 실행에서 같은 ID로 캐시된 멤버십 제거
+
+    // 이전 테스트 실행에서 남은 Redis 키 정리 (H2는 매번 ID를 새로 발급)
+    stringRedisTemplate.delete(VoteFeedIndexService.groupKeyOf(testGroup.getId()));
+    stringRedisTemplate.delete(VoteFeedIndexService.answeredKeyOf(testUser.getId()));
+  }
+
+  @Test
+  @DisplayName("피드 인덱스로 미응답 진행 중 투표를 종료 시각 순으로 페이지 조회")
+  void getActiveVotes_usesFeedIndex() {
+    // given: 인덱스 재구성 대상 투표와 응답한 투표
+    Vote answered = voteRepository.save(openVote(1));
+    Vote first = voteRepository.save(openVote(2));
+    voteRepository.save(
+        Vote.createUserVote(
+            testUser,
+            testGroup,
+            "검열 대기",
+            null,
+            null,
+            LocalDateTime.now().plusHours(3),
+            false,
+            Vote.VoteStatus.PENDING,
+            false));
+    stringRedisTemplate.delete(
+        VoteSubmitRedisService.DEDUP_PREFIX + answered.getId() + ":" + testUser.getId());
+    voteCommandService.submitVote(testUser.getId(), answered.getId(), new VoteSubmitRequest(1));
+
+    // when: 첫 페이지 조회 (인덱스 재구성)
+    ActiveVoteResponse firstPage =
+        voteListService.getActiveVotes(testUser.getId(), testGroup.getId(), null, 1);
+
+    // 인덱스 구성 후 새로 공개된 투표는 인덱스에 추가
+    Vote second = voteRepository.save(openVote(4));
+    voteFeedIndexService.add(second);
+
+    ActiveVoteResponse secondPage =
+        voteListService.getActiveVotes(
+            testUser.getId(), testGroup.getId(), firstPage.nextCursor(), 1);
+
+    // then
+    assertThat(firstPage.votes()).extracting(ActiveVoteItem::voteId).containsExactly(first.getId());
+    assertThat(firstPage.hasNext()).isFalse();
+    assertThat(secondPage.votes())
+        .extracting(ActiveVoteItem::voteId)
+        .containsExactly(second.getId());
+    assertThat(
+            stringRedisTemplate
+                .opsForZSet()
+                .size(VoteFeedIndexService.groupKeyOf(testGroup.getId())))
+        .isEqualTo(4); // 진행 중 투표 3개 + 구성 완료 표시
+    assertThat(
+            stringRedisTemplate
+                .opsForSet()
+                .isMember(
+                    VoteFeedIndexService.answeredKeyOf(testUser.getId()),
+                    answered.getId().toString()))
+        .isTrue();
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 공개된 투표는 커밋 이후에만 인덱스에 추가되고, 롤백되면 추가되지 않는다")
+  void add_appliedAfterCommit() {
+    // given
+    String groupKey = VoteFeedIndexService.groupKeyOf(testGroup.getId());
+    TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+    // when
+    tx.executeWithoutResult(
+        status -> {
+          voteFeedIndexService.add(voteRepository.save(openVote(1)));
+          status.setRollbackOnly();
+        });
+    Vote committed =
+        tx.execute(
+            status -> {
+              Vote vote = voteRepository.save(openVote(2));
+              voteFeedIndexService.add(vote);
+              assertThat(stringRedisTemplate.opsForZSet().size(groupKey)).isZero(); // 커밋 전
+              return vote;
+            });
+
+    // then
+    assertThat(stringRedisTemplate.opsForZSet().range(groupKey, 0, -1))
+        .singleElement()
+        .asString()
+        .endsWith(":" + committed.getId());
+  }
+
+  private Vote openVote(int closedAfterHours) {
+    return Vote.createUserVote(
+        testUser,
+        testGroup,
+        "본문입니다",
+        null,
+        null,
+        LocalDateTime.now().plusHours(closedAfterHours),
+        false,
+        Vote.VoteStatus.OPEN,
+        false);
+  }
+}
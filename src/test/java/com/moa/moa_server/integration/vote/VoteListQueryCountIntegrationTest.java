@@ -0,0 +1,105 @@
+package com.moa.moa_server.integration.vote;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteItem;
+import com.moa.moa_server.domain.vote.dto.response.active.ActiveVoteResponse;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.service.VoteListService;
+import com.moa.moa_server.domain.vote.service.vote_feed.VoteFeedIndexService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class VoteListQueryCountIntegrationTest {
+
+  private static final int VOTE_COUNT = 10;
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired GroupMemberRepository groupMemberRepository;
+  @Autowired GroupMembershipIndex membershipIndex;
+  @Autowired VoteRepository voteRepository;
+  @Autowired VoteListService voteListService;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired EntityManagerFactory entityManagerFactory;
+
+  User testUser;
+  Group testGroup;
+  Statistics statistics;
+
+  @BeforeEach
+  void setup() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    testUser = userRepository.save(user("user_" + suffix));
+    testGroup = groupRepository.save(group(testUser, "group_" + suffix));
+    groupMemberRepository.save(groupMember(testUser, testGroup, "OWNER"));
+    membershipIndex.evict(List.of(testUser.getId())); // 이전 실행에서 같은 ID로 캐시된 멤버십 제거
+
+    // 작성자가 모두 다른 투표 (작성자/그룹을 지연 로딩하면 항목마다 쿼리가 추가됨)
+    for (int i = 0; i < VOTE_COUNT; i++) {
+      User author = userRepository.save(user("author_" + i + "_" + suffix));
+      voteRepository.save(vote(author, testGroup, Vote.VoteStatus.OPEN));
+    }
+
+    stringRedisTemplate.delete(VoteFeedIndexService.groupKeyOf(testGroup.getId()));
+    stringRedisTemplate.delete(VoteFeedIndexService.answeredKeyOf(testUser.getId()));
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("진행 중 투표 목록은 페이지 크기와 관계없이 같은 수의 쿼리로 조회")
+  void getActiveVotes_queryCountIndependentOfPageSize() {
+    // given: 인덱스 재구성
+    voteListService.getActiveVotes(testUser.getId(), testGroup.getId(), null, 1);
+
+    // when
+    long singleItemQueries = countQueries(1);
+    long fullPageQueries = countQueries(VOTE_COUNT);
+
+    // then
+    assertThat(fullPageQueries).isEqualTo(singleItemQueries);
+  }
+
+  @Test
+  @DisplayName("DB 조회 경로는 그룹 이름과 작성자 닉네임까지 단일 쿼리로 조회")
+  void findActiveVoteItems_singleQuery() {
+    statistics.clear();
+
+    List<ActiveVoteItem> items =
+        voteRepository.findActiveVoteItems(List.of(testGroup), null, testUser, VOTE_COUNT);
+
+    assertThat(items).hasSize(VOTE_COUNT);
+    assertThat(items).allSatisfy(item -> assertThat(item.authorNickname()).startsWith("author_"));
+    assertThat(items)
+        .allSatisfy(item -> assertThat(item.groupName()).isEqualTo(testGroup.getName()));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  private long countQueries(int size) {
+    statistics.clear();
+    ActiveVoteResponse response =
+        voteListService.getActiveVotes(testUser.getId(), testGroup.getId(), null, size);
+    assertThat(response.votes()).hasSize(size);
+    return statistics.getPrepareStatementCount();
+  }
+}
@@ -0,0 +1,240 @@
+package com.moa.moa_server.integration.vote;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
+import com.moa.moa_server.domain.ranking.service.RankingRedisService;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.vote.config.VoteCountAggregationProperties;
+import com.moa.moa_server.domain.vote.dto.request.VoteSubmitRequest;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.handler.VoteErrorCode;
+import com.moa.moa_server.domain.vote.handler.VoteException;
+import com.moa.moa_server.domain.vote.model.OptionCount;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
+import com.moa.moa_server.domain.vote.service.VoteCommandService;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteSubmitRedisService;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteCountAggregator;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultRedisService;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class VoteSubmitIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired GroupMemberRepository groupMemberRepository;
+  @Autowired GroupMembershipIndex membershipIndex;
+  @Autowired VoteRepository voteRepository;
+  @Autowired VoteResponseRepository voteResponseRepository;
+  @Autowired VoteCommandService voteCommandService;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired VoteResultRedisService voteResultRedisService;
+  @Autowired VoteSubmitRedisService voteSubmitRedisService;
+  @Autowired VoteCountAggregator countAggregator;
+  @Autowired VoteCountAggregationProperties aggregationProperties;
+  @Autowired RedisMessageListenerContainer listenerContainer;
+
+  User testUser;
+  Vote testVote;
+
+  @BeforeEach
+  void setup() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    testUser = userRepository.save(user("user_" + suffix));
+    Group testGroup = groupRepository.save(group(testUser, "group_" + suffix));
+    groupMemberRepository.save(groupMember(testUser, testGroup, "OWNER"));
+    membershipIndex.evict(List.of(testUser.getId())); // 이전 실행에서 같은 ID로 캐시된 멤버십 제거
+    testVote = voteRepository.save(vote(testUser, testGroup, Vote.VoteStatus.OPEN));
+
+    // 이전 테스트 실행에서 남은 Redis 키 정리 (H2는 매번 ID를 새로 발급)
+    stringRedisTemplate.delete(
+        VoteSubmitRedisService.DEDUP_PREFIX + testVote.getId() + ":" + testUser.getId());
+    stringRedisTemplate.delete(VoteResultRedisService.keyOf(testVote.getId()));
+    stringRedisTemplate.delete(VoteResultRedisService.changeNotifiedKeyOf(testVote.getId()));
+    stringRedisTemplate.delete(
+        stringRedisTemplate.keys(VoteResultRedisService.keyOf(testVote.getId()) + ":*"));
+  }
+
+  @Test
+  @DisplayName("투표 응답 시 Redis 집계와 랭킹 갱신 대상이 함께 반영되고, 중복 응답은 거절")
+  void submitVote_atomicRedisUpdate() {
+    // when
+    voteCommandService.submitVote(testUser.getId(), testVote.getId(), new VoteSubmitRequest(1));
+
+    assertThatThrownBy(
+            () ->
+                voteCommandService.submitVote(
+                    testUser.getId(), testVote.getId(), new VoteSubmitRequest(2)))
+        .isInstanceOf(VoteException.class)
+        .hasMessageContaining(VoteErrorCode.ALREADY_VOTED.name());
+
+    // then
+    assertThat(voteResponseRepository.countByVoteId(testVote.getId())).isEqualTo(1);
+    assertThat(voteResponseRepository.countByOptionNumber(testVote.getId()))
+        .containsExactly(new OptionCount(1, 1));
+    assertThat(
+            stringRedisTemplate
+                .opsForHash()
+                .get(VoteResultRedisService.keyOf(testVote.getId()), "1"))
+        .isEqualTo("1");
+    assertThat(
+            stringRedisTemplate
+                .opsForZSet()
+                .score(RankingRedisService.updatedVoteKey(), testVote.getId().toString()))
+        .isNotNull();
+  }
+
+  @Test
+  @DisplayName("투표 응답 시 변경 알림으로 L1 캐시가 무효화되어 갱신된 카운트를 조회")
+  void submitVote_invalidatesNearCache() throws Exception {
+    // given: 초기 카운트를 조회해 L1 캐시에 적재
+    voteResultRedisService.setCountsWithTTL(
+        testVote.getId(), Map.of(1, 0, 2, 0), testVote.getClosedAt());
+    assertThat(voteResultRedisService.getOptionCounts(List.of(testVote.getId())))
+        .containsEntry(testVote.getId(), Map.of(1, 0, 2, 0));
+
+    // when
+    voteCommandService.submitVote(testUser.getId(), testVote.getId(), new VoteSubmitRequest(2));
+
+    // then: 캐시 유효 시간(1초)보다 빠르게 반영
+    Map<Integer, Integer> counts = Map.of();
+    for (int i = 0; i < 10 && !Integer.valueOf(1).equals(counts.get(2)); i++) {
+      Thread.sleep(50);
+      counts =
+          voteResultRedisService.getOptionCounts(List.of(testVote.getId())).get(testVote.getId());
+    }
+    assertThat(counts).containsEntry(2, 1);
+  }
+
+  @Test
+  @DisplayName("짧은 시간에 응답이 몰려도 변경 알림은 L1 캐시 유효 시간마다 투표당 한 번만 발송")
+  void submit_burst_publishesSingleInvalidation() throws Exception {
+    // given
+    Long voteId = testVote.getId();
+    AtomicInteger received = new AtomicInteger();
+    MessageListener listener =
+        (message, pattern) -> {
+          if (voteId.toString().equals(new String(message.getBody()))) received.incrementAndGet();
+        };
+    listenerContainer.addMessageListener(
+        listener, new ChannelTopic(VoteResultRedisService.CHANGED_CHANNEL));
+    List<Long> userIds = LongStream.rangeClosed(1, 20).map(i -> 2_000_000L + i).boxed().toList();
+    stringRedisTemplate.delete(
+        userIds.stream()
+            .map(id -> VoteSubmitRedisService.DEDUP_PREFIX + voteId + ":" + id)
+            .toList());
+
+    try {
+      // when
+      userIds.forEach(
+          id -> voteSubmitRedisService.submit(voteId, id, 1, testVote.getClosedAt(), null));
+
+      // then
+      Thread.sleep(300);
+      assertThat(received.get()).isEqualTo(1);
+    } finally {
+      listenerContainer.removeMessageListener(listener);
+    }
+  }
+
+  @Test
+  @DisplayName("응답이 몰리는 투표는 스트라이프 키로 분산 기록되고, 조회 시 모든 스트라이프를 합산")
+  void submit_hotVote_switchesToStripedCounters() {
+    // given
+    Long voteId = testVote.getId();
+    voteResultRedisService.setCountsWithTTL(voteId, Map.of(1, 0, 2, 0), testVote.getClosedAt());
+    List<Long> userIds = LongStream.rangeClosed(1, 200).map(i -> 1_000_000L + i).boxed().toList();
+    stringRedisTemplate.delete(
+        userIds.stream()
+            .map(id -> VoteSubmitRedisService.DEDUP_PREFIX + voteId + ":" + id)
+            .toList());
+
+    // when: 임계치를 넘는 응답을 짧은 시간에 반영
+    userIds.forEach(
+        id ->
+            voteSubmitRedisService.submit(
+                voteId, id, id % 2 == 0 ? 1 : 2, testVote.getClosedAt(), null));
+
+    // then
+    assertThat(
+            stringRedisTemplate
+                .opsForHash()
+                .hasKey(VoteResultRedisService.keyOf(voteId), "striped"))
+        .isTrue();
+    assertThat(stringRedisTemplate.keys(VoteResultRedisService.keyOf(voteId) + ":*")).isNotEmpty();
+    assertThat(voteResultRedisService.getOptionCounts(List.of(voteId)))
+        .containsEntry(voteId, Map.of(1, 100, 2, 100));
+  }
+
+  @Test
+  @DisplayName("다른 서버가 스트라이프 모드로 전환한 투표도 조회 시 스트라이프를 합산하고, 이후 조회에도 반영")
+  void getOptionCounts_stripedByOtherNode() {
+    // given: 이 서버를 거치지 않고 스트라이프 모드로 전환된 투표
+    Long voteId = testVote.getId();
+    voteResultRedisService.setCountsWithTTL(voteId, Map.of(1, 1, 2, 0), testVote.getClosedAt());
+    stringRedisTemplate.opsForHash().put(VoteResultRedisService.keyOf(voteId), "striped", "8");
+    stringRedisTemplate
+        .opsForHash()
+        .increment(VoteResultRedisService.stripeKeyOf(voteId, 3), "1", 2);
+    stringRedisTemplate
+        .opsForHash()
+        .increment(VoteResultRedisService.stripeKeyOf(voteId, 5), "2", 4);
+
+    // when & then: 처음 조회(스트라이프 추가 조회)와 이후 조회(한 번에 조회) 모두 합산
+    assertThat(voteResultRedisService.getOptionCountsFromRedis(List.of(voteId)))
+        .containsEntry(voteId, Map.of(1, 3, 2, 4));
+    stringRedisTemplate
+        .opsForHash()
+        .increment(VoteResultRedisService.stripeKeyOf(voteId, 3), "1", 1);
+    assertThat(voteResultRedisService.getOptionCountsFromRedis(List.of(voteId)))
+        .containsEntry(voteId, Map.of(1, 4, 2, 4));
+  }
+
+  @Test
+  @DisplayName("로컬 집계 모드에서는 반영 전 증가분도 조회에 포함되고, flush 시 Redis에 일괄 반영")
+  void submitVote_localAggregation() {
+    // given
+    Long voteId = testVote.getId();
+    voteResultRedisService.setCountsWithTTL(voteId, Map.of(1, 0, 2, 0), testVote.getClosedAt());
+    aggregationProperties.setEnabled(true);
+
+    try {
+      // when
+      voteCommandService.submitVote(testUser.getId(), voteId, new VoteSubmitRequest(1));
+
+      // then
+      assertThat(voteResultRedisService.getOptionCounts(List.of(voteId)).get(voteId))
+          .containsEntry(1, 1);
+
+      countAggregator.flush();
+      assertThat(stringRedisTemplate.opsForHash().get(VoteResultRedisService.keyOf(voteId), "1"))
+          .isEqualTo("1");
+      assertThat(countAggregator.pendingCounts(voteId)).containsEntry(1, 0);
+    } finally {
+      aggregationProperties.setEnabled(false);
+    }
+  }
+}
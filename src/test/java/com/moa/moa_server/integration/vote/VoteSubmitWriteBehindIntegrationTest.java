@@ -0,0 +1,150 @@
+package com.moa.moa_server.integration.vote;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupMemberRepository;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.group.service.GroupMembershipIndex;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.vote.dto.request.VoteSubmitRequest;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.handler.VoteErrorCode;
+import com.moa.moa_server.domain.vote.handler.VoteException;
+import com.moa.moa_server.domain.vote.model.PendingVoteResponse;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.repository.VoteResponseRepository;
+import com.moa.moa_server.domain.vote.service.VoteCommandService;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteResponseCounter;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteResponseWriteBehindService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    properties = {
+      "vote.write-behind.enabled=true",
+      "vote.write-behind.flush-interval=600000",
+      "vote.write-behind.replay-interval=600000"
+    })
+@ActiveProfiles("test")
+public class VoteSubmitWriteBehindIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired GroupMemberRepository groupMemberRepository;
+  @Autowired GroupMembershipIndex membershipIndex;
+  @Autowired VoteRepository voteRepository;
+  @Autowired VoteResponseRepository voteResponseRepository;
+  @Autowired VoteCommandService voteCommandService;
+  @Autowired VoteResponseWriteBehindService writeBehindService;
+  @Autowired VoteResponseCounter voteResponseCounter;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+
+  User testUser;
+  Vote testVote;
+
+  @BeforeEach
+  void setup() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    testUser = userRepository.save(user("user_" + suffix));
+    Group testGroup = groupRepository.save(group(testUser, "group_" + suffix));
+    groupMemberRepository.save(groupMember(testUser, testGroup, "OWNER"));
+    membershipIndex.evict(List.of(testUser.getId())); // 이전 실행에서 같은 ID로 캐시된 멤버십 제거
+    testVote = voteRepository.save(vote(testUser, testGroup, Vote.VoteStatus.OPEN));
+
+    // 이전 테스트 실행에서 남은 Redis 키 정리 (H2는 매번 ID를 새로 발급)
+    String field = testVote.getId() + ":" + testUser.getId();
+    stringRedisTemplate.delete("vote_resp:" + field);
+    stringRedisTemplate.opsForHash().delete("vote_resp:pending", field);
+  }
+
+  @Test
+  @DisplayName("응답은 즉시 수락되고 flush 시 DB에 저장되며, 중복 응답은 Redis에서 거절")
+  void submitVote_writeBehind_flush() {
+    // when
+    voteCommandService.submitVote(testUser.getId(), testVote.getId(), new VoteSubmitRequest(1));
+
+    // then: flush 전에는 DB에 없음
+    assertThat(voteResponseRepository.countByVoteId(testVote.getId())).isZero();
+
+    // 중복 응답은 DB 저장 전이어도 거절
+    assertThatThrownBy(
+            () ->
+                voteCommandService.submitVote(
+                    testUser.getId(), testVote.getId(), new VoteSubmitRequest(2)))
+        .isInstanceOf(VoteException.class)
+        .hasMessageContaining(VoteErrorCode.ALREADY_VOTED.name());
+
+    writeBehindService.flush();
+    assertThat(voteResponseRepository.countByVoteId(testVote.getId())).isEqualTo(1);
+    assertThat(
+            stringRedisTemplate
+                .opsForHash()
+                .hasKey("vote_resp:pending", testVote.getId() + ":" + testUser.getId()))
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("메모리 큐가 유실되어도 저널 재처리로 응답이 저장되며, 중복 저장되지 않음")
+  void replay_restoresJournalEntries() {
+    // given: 큐에 들어가지 못하고 저널에만 남은 응답 (비정상 종료 상황)
+    PendingVoteResponse pending =
+        new PendingVoteResponse(testVote.getId(), testUser.getId(), 2, LocalDateTime.now());
+    stringRedisTemplate
+        .opsForHash()
+        .put("vote_resp:pending", pending.journalField(), pending.journalValue());
+
+    // when
+    writeBehindService.replay(0);
+    stringRedisTemplate
+        .opsForHash()
+        .put("vote_resp:pending", pending.journalField(), pending.journalValue());
+    writeBehindService.replay(0);
+
+    // then
+    assertThat(voteResponseRepository.countByVoteId(testVote.getId())).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시 재집계 시 저널에만 있는 응답을 포함하고, 저장 후 저널 정리 전인 응답은 한 번만 셈")
+  void count_includesJournalEntries() {
+    // given: 저장이 끝났지만 저널 정리 전인 응답 1건 + 저널에만 있는 응답 1건
+    User other = userRepository.save(user("user_" + UUID.randomUUID().toString().substring(0, 6)));
+    PendingVoteResponse persisted =
+        new PendingVoteResponse(testVote.getId(), other.getId(), 1, LocalDateTime.now());
+    PendingVoteResponse journaled =
+        new PendingVoteResponse(testVote.getId(), testUser.getId(), 2, LocalDateTime.now());
+    stringRedisTemplate
+        .opsForHash()
+        .put("vote_resp:pending", persisted.journalField(), persisted.journalValue());
+    writeBehindService.replay(0);
+    stringRedisTemplate
+        .opsForHash()
+        .put("vote_resp:pending", persisted.journalField(), persisted.journalValue());
+    stringRedisTemplate
+        .opsForHash()
+        .put("vote_resp:pending", journaled.journalField(), journaled.journalValue());
+
+    // when & then
+    try {
+      assertThat(voteResponseCounter.countStored(testVote.getId())).isEqualTo(Map.of(1, 1));
+      assertThat(voteResponseCounter.count(testVote.getId())).isEqualTo(Map.of(1, 1, 2, 1));
+    } finally {
+      stringRedisTemplate
+          .opsForHash()
+          .delete("vote_resp:pending", persisted.journalField(), journaled.journalField());
+    }
+  }
+}
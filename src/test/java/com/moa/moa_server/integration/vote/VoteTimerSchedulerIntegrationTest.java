@@ -0,0 +1,146 @@
+package com.moa.moa_server.integration.vote;
+
+import static com.moa.moa_server.util.TestFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.moa.moa_server.domain.group.entity.Group;
+import com.moa.moa_server.domain.group.repository.GroupRepository;
+import com.moa.moa_server.domain.user.entity.User;
+import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.model.VoteTimerEvent;
+import com.moa.moa_server.domain.vote.repository.VoteRepository;
+import com.moa.moa_server.domain.vote.repository.VoteResultRepository;
+import com.moa.moa_server.domain.vote.scheduler.VoteTimerScheduler;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTimerService;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class VoteTimerSchedulerIntegrationTest {
+
+  @Autowired UserRepository userRepository;
+  @Autowired GroupRepository groupRepository;
+  @Autowired VoteRepository voteRepository;
+  @Autowired VoteResultRepository voteResultRepository;
+  @Autowired VoteTimerService voteTimerService;
+  @Autowired VoteTimerScheduler voteTimerScheduler;
+  @Autowired StringRedisTemplate stringRedisTemplate;
+  @Autowired PlatformTransactionManager transactionManager;
+
+  User testUser;
+  Group testGroup;
+
+  @BeforeEach
+  void setup() {
+    String suffix = UUID.randomUUID().toString().substring(0, 6);
+    testUser = userRepository.save(user("user_" + suffix));
+    testGroup = groupRepository.save(group(testUser, "group_" + suffix));
+  }
+
+  @Test
+  @DisplayName("만기된 타이머 이벤트만 처리되어 AI 투표는 OPEN, 종료 시각이 지난 투표는 CLOSED로 전환")
+  void processDueEvents() {
+    // given
+    LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+    Vote aiVote =
+        voteRepository.save(
+            Vote.createAIVote(
+                "AI 투표", null, null, now.minusSeconds(1), now.plusDays(1), testUser, testGroup));
+    Vote expired =
+        voteRepository.save(
+            Vote.createUserVote(
+                testUser,
+                testGroup,
+                "종료된 투표",
+                null,
+                null,
+                now.minusSeconds(1),
+                false,
+                Vote.VoteStatus.OPEN,
+                false));
+    Vote notDue = voteRepository.save(vote(testUser, testGroup, Vote.VoteStatus.OPEN));
+
+    voteTimerService.scheduleOpen(aiVote.getId(), aiVote.getOpenAt());
+    voteTimerService.scheduleClose(expired.getId(), expired.getClosedAt());
+    voteTimerService.scheduleClose(notDue.getId(), notDue.getClosedAt());
+
+    // when
+    voteTimerScheduler.processDueEvents();
+
+    // then
+    assertThat(voteRepository.findById(aiVote.getId()).orElseThrow().getVoteStatus())
+        .isEqualTo(Vote.VoteStatus.OPEN);
+    assertThat(voteRepository.findById(expired.getId()).orElseThrow().getVoteStatus())
+        .isEqualTo(Vote.VoteStatus.CLOSED);
+    assertThat(voteResultRepository.findAllByVoteId(expired.getId())).hasSize(2);
+    assertThat(voteRepository.findById(notDue.getId()).orElseThrow().getVoteStatus())
+        .isEqualTo(Vote.VoteStatus.OPEN);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 요청한 타이머는 커밋 이후에만 등록되고 롤백 시 남지 않는다")
+  void scheduleClose_registeredAfterCommit() {
+    // given
+    long committedId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+    long rolledBackId = committedId - 1;
+    LocalDateTime closedAt = LocalDateTime.now(ZoneOffset.UTC).plusDays(1);
+    TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+    // when
+    tx.executeWithoutResult(
+        status -> {
+          voteTimerService.scheduleClose(committedId, closedAt);
+          assertThat(timerScore(committedId)).isNull(); // 커밋 전에는 미등록
+        });
+    tx.executeWithoutResult(
+        status -> {
+          voteTimerService.scheduleClose(rolledBackId, closedAt);
+          status.setRollbackOnly();
+        });
+
+    // then
+    assertThat(timerScore(committedId)).isNotNull();
+    assertThat(timerScore(rolledBackId)).isNull();
+    stringRedisTemplate
+        .opsForZSet()
+        .remove("vote:timer", new VoteTimerEvent(VoteTimerEvent.Type.CLOSE, committedId).encode());
+  }
+
+  @Test
+  @DisplayName("계속 실패하는 이벤트는 최대 시도 횟수 이후 재시도 대신 dead-letter로 이동")
+  void retryOrDeadLetter_movesToDeadLetterAfterMaxAttempts() {
+    // given
+    VoteTimerEvent event =
+        new VoteTimerEvent(
+            VoteTimerEvent.Type.CLOSE,
+            ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE));
+    long now = System.currentTimeMillis();
+
+    // when & then
+    for (int i = 1; i < VoteTimerService.MAX_ATTEMPTS; i++) {
+      assertThat(voteTimerService.retryOrDeadLetter(event, now)).isTrue();
+    }
+    assertThat(voteTimerService.retryOrDeadLetter(event, now)).isFalse();
+    assertThat(voteTimerService.findDeadLetters()).contains(event);
+    stringRedisTemplate.opsForZSet().remove("vote:timer", event.encode());
+  }
+
+  private Double timerScore(long voteId) {
+    return stringRedisTemplate
+        .opsForZSet()
+        .score("vote:timer", new VoteTimerEvent(VoteTimerEvent.Type.CLOSE, voteId).encode());
+  }
+}
@@ -10,9 +10,9 @@ import com.moa.moa_server.domain.image.handler.ImageErrorCode;
 import com.moa.moa_server.domain.image.handler.ImageException;
 import com.moa.moa_server.domain.image.service.ImageService;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.model.ActiveUser;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import java.net.URL;
-import java.util.Optional;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,14 +36,12 @@ import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignReques
 @DisplayName("ImageService")
 class ImageServiceTest {
 
-  @Mock private UserRepository userRepository;
+  @Mock private ActiveUserService activeUserService;
 
   @Mock private S3Presigner s3Presigner;
 
   @Mock private S3Client s3Client;
 
-  @Mock private User user;
-
   @InjectMocks private ImageService imageService;
 
   @Captor private ArgumentCaptor<CopyObjectRequest> copyCaptor;
@@ -65,8 +63,8 @@ class ImageServiceTest {
 
     @BeforeEach
     void setup() {
-      when(user.getUserStatus()).thenReturn(User.UserStatus.ACTIVE);
-      when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+      when(activeUserService.getActiveUser(1L))
+          .thenReturn(new ActiveUser(1L, "tester", User.UserStatus.ACTIVE));
     }
 
     @Test
@@ -0,0 +1,56 @@
+package com.moa.moa_server.unit.vote.scheduler;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.moa.moa_server.domain.vote.model.VoteTimerEvent;
+import com.moa.moa_server.domain.vote.scheduler.VoteTimerScheduler;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTimerService;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTransitionService;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteTimerScheduler#processDueEvents")
+public class VoteTimerSchedulerTest {
+
+  @Mock VoteTimerService voteTimerService;
+  @Mock VoteTransitionService voteTransitionService;
+
+  @InjectMocks VoteTimerScheduler voteTimerScheduler;
+
+  @Test
+  @DisplayName("일괄 전환이 실패하면 개별로 재시도하고, 실패한 이벤트만 재시도 예약")
+  void batchFailure_retriesIndividually() {
+    // given: 2번 투표만 계속 실패
+    VoteTimerEvent first = new VoteTimerEvent(VoteTimerEvent.Type.OPEN, 1L);
+    VoteTimerEvent failing = new VoteTimerEvent(VoteTimerEvent.Type.OPEN, 2L);
+    VoteTimerEvent third = new VoteTimerEvent(VoteTimerEvent.Type.OPEN, 3L);
+    when(voteTimerService.popDue(anyLong(), anyInt())).thenReturn(List.of(first, failing, third));
+    when(voteTransitionService.openAIVotes(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Long> voteIds = invocation.getArgument(0);
+              if (voteIds.contains(2L)) throw new IllegalStateException("bad row");
+              return voteIds.size();
+            });
+    when(voteTimerService.retryOrDeadLetter(eq(failing), anyLong())).thenReturn(true);
+
+    // when
+    voteTimerScheduler.processDueEvents();
+
+    // then
+    verify(voteTransitionService).openAIVotes(List.of(1L));
+    verify(voteTransitionService).openAIVotes(List.of(3L));
+    verify(voteTimerService).retryOrDeadLetter(eq(failing), anyLong());
+    verify(voteTimerService, never()).retryOrDeadLetter(eq(first), anyLong());
+    verify(voteTimerService, never()).retryOrDeadLetter(eq(third), anyLong());
+    verify(voteTimerService).clearAttempts(List.of(first));
+    verify(voteTimerService).clearAttempts(List.of(third));
+  }
+}
@@ -6,7 +6,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.dto.response.VoteModerationReasonResponse;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.entity.VoteModerationLog;
@@ -27,7 +27,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("VoteService#getModerationReason")
 public class VoteModerationReasonTest {
 
-  @Mock UserRepository userRepository;
+  @Mock ActiveUserService activeUserService;
   @Mock VoteRepository voteRepository;
   @Mock VoteModerationLogRepository voteModerationLogRepository;
 
@@ -45,8 +45,7 @@ public class VoteModerationReasonTest {
       User user = mock(User.class);
       Vote vote = mock(Vote.class);
 
-      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(user.getUserStatus()).thenReturn(User.UserStatus.ACTIVE);
+      when(activeUserService.getActiveUserReference(userId)).thenReturn(user);
       when(user.getId()).thenReturn(userId);
       when(voteRepository.findById(voteId)).thenReturn(Optional.of(vote));
       when(vote.getUser()).thenReturn(user); // 등록자 본인 검증
@@ -85,8 +84,7 @@ public class VoteModerationReasonTest {
       User user = mock(User.class);
       Vote vote = mock(Vote.class);
 
-      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-      when(user.getUserStatus()).thenReturn(User.UserStatus.ACTIVE);
+      when(activeUserService.getActiveUserReference(userId)).thenReturn(user);
       when(user.getId()).thenReturn(userId);
       when(voteRepository.findById(voteId)).thenReturn(Optional.of(vote));
       when(vote.getUser()).thenReturn(user);
@@ -0,0 +1,115 @@
+package com.moa.moa_server.unit.vote.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.moa.moa_server.domain.vote.entity.Vote;
+import com.moa.moa_server.domain.vote.entity.VoteResult;
+import com.moa.moa_server.domain.vote.model.ResultRaw;
+import com.moa.moa_server.domain.vote.repository.VoteResultRepository;
+import com.moa.moa_server.domain.vote.service.vote_response.VoteResponseCounter;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultDbWriter;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultRedisService;
+import com.moa.moa_server.domain.vote.service.vote_result.VoteResultResolver;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("VoteResultResolver#getOrComputeResults(List)")
+public class VoteResultResolverTest {
+
+  @Mock VoteResultRepository voteResultRepository;
+  @Mock VoteResponseCounter voteResponseCounter;
+  @Mock VoteResultRedisService voteResultRedisService;
+  @Mock VoteResultDbWriter voteResultDbWriter;
+
+  @InjectMocks VoteResultResolver voteResultResolver;
+
+  @Test
+  @DisplayName("진행 중 투표는 Redis 일괄 조회 1회, 종료 투표는 DB 일괄 조회 1회로 처리")
+  void getOrComputeResults_bulk() {
+    // given
+    Vote open1 = vote(1L, Vote.VoteStatus.OPEN, LocalDateTime.now().plusDays(1));
+    Vote open2 = vote(2L, Vote.VoteStatus.OPEN, LocalDateTime.now().plusDays(1));
+    Vote closed = vote(3L, Vote.VoteStatus.CLOSED, LocalDateTime.now().minusDays(1));
+    Vote pending = mock(Vote.class);
+    when(pending.getId()).thenReturn(4L);
+    when(pending.getVoteStatus()).thenReturn(Vote.VoteStatus.PENDING);
+
+    when(voteResultRedisService.getOptionCounts(List.of(1L, 2L)))
+        .thenReturn(Map.of(1L, Map.of(1, 3, 2, 1), 2L, Map.of(1, 0, 2, 2)));
+    when(voteResultRepository.findAllByVoteIdIn(List.of(3L)))
+        .thenReturn(
+            List.of(VoteResult.create(closed, 2, 1, 50.0), VoteResult.create(closed, 1, 1, 50.0)));
+
+    // when
+    Map<Long, List<ResultRaw>> results =
+        voteResultResolver.getOrComputeResults(List.of(open1, open2, closed, pending));
+
+    // then
+    assertThat(results.keySet()).containsExactly(1L, 2L, 3L, 4L);
+    assertThat(results.get(1L))
+        .containsExactly(new ResultRaw(1, 3, 75.0), new ResultRaw(2, 1, 25.0));
+    assertThat(results.get(2L))
+        .containsExactly(new ResultRaw(1, 0, 0.0), new ResultRaw(2, 2, 100.0));
+    assertThat(results.get(3L))
+        .containsExactly(new ResultRaw(1, 1, 50.0), new ResultRaw(2, 1, 50.0));
+    assertThat(results.get(4L)).isEmpty();
+
+    verify(voteResultRedisService, times(1)).getOptionCounts(anyList());
+    verify(voteResultRepository, times(1)).findAllByVoteIdIn(anyCollection());
+    verifyNoInteractions(voteResultDbWriter, voteResponseCounter);
+  }
+
+  @Test
+  @DisplayName("캐시가 없는 투표는 저장 대기 응답까지 집계해 Redis에 다시 채움")
+  void getOrComputeResults_cacheMiss() {
+    // given
+    Vote open = vote(1L, Vote.VoteStatus.OPEN, LocalDateTime.now().plusDays(1));
+    when(voteResultRedisService.getOptionCounts(List.of(1L))).thenReturn(Map.of());
+    when(voteResponseCounter.count(1L)).thenReturn(Map.of(1, 1, 2, 3));
+
+    // when
+    Map<Long, List<ResultRaw>> results = voteResultResolver.getOrComputeResults(List.of(open));
+
+    // then
+    assertThat(results.get(1L))
+        .containsExactly(new ResultRaw(1, 1, 25.0), new ResultRaw(2, 3, 75.0));
+    verify(voteResultRedisService).setCountsWithTTL(eq(1L), eq(Map.of(1, 1, 2, 3)), any());
+  }
+
+  @Test
+  @DisplayName("Redis 조회 실패는 캐시 없음과 구분해 DB 집계로 응답만 하고 캐시는 덮어쓰지 않음")
+  void getOrComputeResults_redisError() {
+    // given
+    Vote open = vote(1L, Vote.VoteStatus.OPEN, LocalDateTime.now().plusDays(1));
+    when(voteResultRedisService.getOptionCounts(List.of(1L)))
+        .thenThrow(new RedisConnectionFailureException("down"));
+    when(voteResponseCounter.countStored(1L)).thenReturn(Map.of(1, 2, 2, 2));
+
+    // when
+    Map<Long, List<ResultRaw>> results = voteResultResolver.getOrComputeResults(List.of(open));
+
+    // then
+    assertThat(results.get(1L))
+        .containsExactly(new ResultRaw(1, 2, 50.0), new ResultRaw(2, 2, 50.0));
+    verify(voteResultRedisService, never()).setCountsWithTTL(any(), any(), any());
+  }
+
+  private Vote vote(Long id, Vote.VoteStatus status, LocalDateTime closedAt) {
+    Vote vote = mock(Vote.class);
+    lenient().when(vote.getId()).thenReturn(id);
+    when(vote.getVoteStatus()).thenReturn(status);
+    when(vote.getClosedAt()).thenReturn(closedAt);
+    return vote;
+  }
+}
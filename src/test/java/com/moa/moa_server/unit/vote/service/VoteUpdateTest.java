@@ -6,12 +6,13 @@ import static org.mockito.Mockito.*;
 import com.moa.moa_server.domain.image.model.ImageProcessResult;
 import com.moa.moa_server.domain.image.service.ImageService;
 import com.moa.moa_server.domain.user.entity.User;
-import com.moa.moa_server.domain.user.repository.UserRepository;
+import com.moa.moa_server.domain.user.service.ActiveUserService;
 import com.moa.moa_server.domain.vote.dto.request.VoteUpdateRequest;
 import com.moa.moa_server.domain.vote.dto.response.VoteUpdateResponse;
 import com.moa.moa_server.domain.vote.entity.Vote;
 import com.moa.moa_server.domain.vote.repository.VoteRepository;
 import com.moa.moa_server.domain.vote.service.VoteCommandService;
+import com.moa.moa_server.domain.vote.service.vote_timer.VoteTimerService;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -26,9 +27,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("VoteService#updateVote")
 public class VoteUpdateTest {
 
-  @Mock UserRepository userRepository;
+  @Mock ActiveUserService activeUserService;
   @Mock VoteRepository voteRepository;
   @Mock ImageService imageService;
+  @Mock VoteTimerService voteTimerService;
 
   @InjectMocks VoteCommandService voteCommandService;
 
@@ -44,7 +46,7 @@ public class VoteUpdateTest {
       VoteUpdateRequest req =
           new VoteUpdateRequest("본문", "temp/abc.jpg", "파일이름.jpeg", LocalDateTime.now().plusDays(1));
 
-      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(activeUserService.getActiveUserReference(userId)).thenReturn(user);
       when(user.getId()).thenReturn(userId);
       when(voteRepository.findById(voteId)).thenReturn(Optional.of(vote));
       when(vote.getId()).thenReturn(voteId);
@@ -81,7 +83,7 @@ public class VoteUpdateTest {
       VoteUpdateRequest req =
           new VoteUpdateRequest("본문", newImageUrl, newImageName, LocalDateTime.now().plusDays(1));
 
-      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(activeUserService.getActiveUserReference(userId)).thenReturn(user);
       when(user.getId()).thenReturn(userId);
       when(voteRepository.findById(voteId)).thenReturn(Optional.of(vote));
       when(vote.getId()).thenReturn(voteId);
@@ -117,7 +119,7 @@ public class VoteUpdateTest {
       VoteUpdateRequest req =
           new VoteUpdateRequest("본문", newImageUrl, newImageName, LocalDateTime.now().plusDays(1));
 
-      when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+      when(activeUserService.getActiveUserReference(userId)).thenReturn(user);
       when(user.getId()).thenReturn(userId);
       when(voteRepository.findById(voteId)).thenReturn(Optional.of(vote));
       when(vote.getId()).thenReturn(voteId);
@@ -0,0 +1,25 @@
+package com.moa.moa_server.util;
+
+import com.moa.moa_server.domain.notification.dto.NotificationItem;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/** 전송된 알림 데이터를 기록하는 SseEmitter (응답에 연결하지 않고 전송 내용만 검증) */
+public class CapturingSseEmitter extends SseEmitter {
+
+  private final List<NotificationItem> received = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void send(SseEventBuilder builder) {
+    builder.build().stream()
+        .map(DataWithMediaType::getData)
+        .filter(NotificationItem.class::isInstance)
+        .map(NotificationItem.class::cast)
+        .forEach(received::add);
+  }
+
+  public List<NotificationItem> getReceived() {
+    return received;
+  }
+}
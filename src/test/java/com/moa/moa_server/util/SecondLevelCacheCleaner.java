@@ -0,0 +1,22 @@
+package com.moa.moa_server.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestExecutionListener;
+
+/**
+ * 테스트 클래스마다 Hibernate 2차 캐시를 비운다.
+ *
+ * <p>2차 캐시 CacheManager는 JVM 단위로 공유되지만 테스트 컨텍스트마다 H2 스키마가 새로 생성되어 ID가 재사용되므로, 다른 컨텍스트가 캐시한 엔티티를 읽지
+ * 않도록 제거한다.
+ */
+public class SecondLevelCacheCleaner implements TestExecutionListener {
+
+  @Override
+  public void beforeTestClass(TestContext testContext) {
+    testContext
+        .getApplicationContext()
+        .getBeanProvider(EntityManagerFactory.class)
+        .ifAvailable(entityManagerFactory -> entityManagerFactory.getCache().evictAll());
+  }
+}
@@ -0,0 +1,36 @@
+package com.moa.moa_server.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비(prepare)하는 SQL 문을 접두어별로 세는 StatementInspector.
+ *
+ * <p>JDBC 배치는 같은 SQL을 한 번만 준비하므로, 준비 횟수로 배치 여부를 확인할 수 있다. {@code
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector}로 등록해 사용한다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  private static final Map<String, AtomicInteger> COUNTS = new ConcurrentHashMap<>();
+
+  @Override
+  public String inspect(String sql) {
+    String normalized = sql.strip().toLowerCase();
+    COUNTS.keySet().stream()
+        .filter(normalized::startsWith)
+        .forEach(prefix -> COUNTS.get(prefix).incrementAndGet());
+    return sql;
+  }
+
+  /** 주어진 접두어로 시작하는 SQL 문 집계를 시작(또는 초기화). */
+  public static void watch(String prefix) {
+    COUNTS.put(prefix.toLowerCase(), new AtomicInteger());
+  }
+
+  public static int count(String prefix) {
+    AtomicInteger count = COUNTS.get(prefix.toLowerCase());
+    return count == null ? 0 : count.get();
+  }
+}